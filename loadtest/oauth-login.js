@@ -0,0 +1,200 @@
+// 로그인 콜백 부하 시나리오 (k6)
+//
+// loadtestBootRun 으로 띄우면 loadtest 프로필로 네이버/카카오 대신 OAuthProviderSimulator 를 호출한다.
+//   ./gradlew loadtestBootRun
+//   mkdir -p build/reports/loadtest && k6 run loadtest/oauth-login.js
+//   k6 run -e VUS=3000 -e DURATION=3m -e NEW_USER_RATIO=0.2 loadtest/oauth-login.js
+//
+// 인가 코드가 곧 시뮬레이터의 공급자 사용자 id 다. setup 에서 재로그인용 사용자 RETURNING_USERS 명을
+// 가입시켜 두고, 본 시나리오에서는 NEW_USER_RATIO 비율만 처음 보는 코드로 로그인한다.
+// 기존 사용자는 로그인 뒤 페이지 이동을 흉내 내 /api/auth/me 를 ME_CALLS_PER_LOGIN 번 호출한다.
+// 지연 백분위는 결과 요약과 build/reports/loadtest/oauth-login.json 에 남는다.
+// 본 시나리오 동안의 DB 부하는 actuator 메트릭으로 잰다: 커넥션 획득 수(hikaricp.connections.usage)와
+// repository 호출 수(spring.data.repository.invocations)를 초당 값으로 출력한다.
+// actuator 는 관리 포트(MANAGEMENT_URL, 기본 http://localhost:8090)로만 열려 있다.
+//
+// 플랫폼 스레드 / 가상 스레드 처리량 비교 (같은 DB, 같은 VUS 로 두 번 실행해 요약을 비교):
+//   ./gradlew loadtestBootRun -PjavaVersion=21
+//   k6 run -e RUN_TAG=platform loadtest/oauth-login.js
+//   VIRTUAL_THREADS_ENABLED=true ./gradlew loadtestBootRun -PjavaVersion=21
+//   k6 run -e RUN_TAG=virtual loadtest/oauth-login.js
+// 결과는 build/reports/loadtest/oauth-login-<RUN_TAG>.json 으로 따로 남는다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Gauge, Rate, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MANAGEMENT_URL = __ENV.MANAGEMENT_URL || 'http://localhost:8090';
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const RETURNING_USERS = parseInt(__ENV.RETURNING_USERS || '5000', 10);
+const NEW_USER_RATIO = parseFloat(__ENV.NEW_USER_RATIO || '0.1');
+const ME_CALLS_PER_LOGIN = parseInt(__ENV.ME_CALLS_PER_LOGIN || '5', 10);
+const RUN_TAG = __ENV.RUN_TAG || '';
+const SETUP_BATCH = 100;
+
+// 재로그인 사용자 id 는 1 ~ RETURNING_USERS, 신규 사용자는 VU/반복 번호로 겹치지 않게 만든다
+const NEW_USER_ID_BASE = 1000000000;
+
+const returningLogin = new Trend('login_returning_duration', true);
+const newLogin = new Trend('login_new_duration', true);
+const loginFailed = new Rate('login_failed');
+const meDuration = new Trend('me_duration', true);
+const meFailed = new Rate('me_failed');
+const dbConnectionsPerSecond = new Gauge('db_connection_acquisitions_per_second');
+const repositoryCallsPerSecond = new Gauge('db_repository_invocations_per_second');
+
+export const options = {
+	setupTimeout: '10m',
+	summaryTrendStats: ['avg', 'min', 'med', 'p(90)', 'p(95)', 'p(99)', 'p(99.9)', 'max'],
+	scenarios: {
+		callbacks: {
+			executor: 'ramping-vus',
+			startVUs: 0,
+			stages: [
+				{ duration: '30s', target: VUS },
+				{ duration: DURATION, target: VUS },
+				{ duration: '10s', target: 0 },
+			],
+			gracefulRampDown: '10s',
+		},
+	},
+	thresholds: {
+		login_failed: ['rate<0.01'],
+		login_returning_duration: ['p(95)<500', 'p(99)<1000'],
+		me_failed: ['rate<0.01'],
+	},
+};
+
+function provider() {
+	return Math.random() < 0.5 ? 'naver' : 'kakao';
+}
+
+function callback(providerName, code) {
+	const query = providerName === 'naver' ? `code=${code}&state=loadtest` : `code=${code}`;
+	return http.get(`${BASE_URL}/api/auth/oauth/${providerName}/callback?${query}`, {
+		redirects: 0,
+		tags: { name: `${providerName}_callback` },
+	});
+}
+
+function succeeded(res) {
+	const location = res.headers.Location || '';
+	return res.status === 302 && location.indexOf('/auth/error') < 0;
+}
+
+function metricCount(name) {
+	const res = http.get(`${MANAGEMENT_URL}/actuator/metrics/${name}`, { tags: { name: 'actuator' } });
+	if (res.status !== 200) {
+		return null;
+	}
+	const count = res.json().measurements.find((m) => m.statistic === 'COUNT');
+	return count ? count.value : null;
+}
+
+function dbCounters() {
+	return {
+		at: Date.now(),
+		connections: metricCount('hikaricp.connections.usage'),
+		repositoryCalls: metricCount('spring.data.repository.invocations'),
+	};
+}
+
+// 재로그인 사용자를 미리 가입시킨다 (PENDING -> ACTIVE)
+export function setup() {
+	for (let start = 1; start <= RETURNING_USERS; start += SETUP_BATCH) {
+		const ids = [];
+		for (let id = start; id < start + SETUP_BATCH && id <= RETURNING_USERS; id++) {
+			ids.push(id);
+		}
+
+		const logins = http.batch(ids.flatMap((id) => [
+			['GET', `${BASE_URL}/api/auth/oauth/naver/callback?code=${id}&state=loadtest`, null, { redirects: 0 }],
+			['GET', `${BASE_URL}/api/auth/oauth/kakao/callback?code=${id}`, null, { redirects: 0 }],
+		]));
+
+		const registrations = logins
+			.filter((res) => res.cookies.tempToken && res.cookies.tempToken.length > 0)
+			.map((res) => ['POST', `${BASE_URL}/api/auth/users`, JSON.stringify({ name: 'loadtest', color: 'green' }), {
+				headers: {
+					'Content-Type': 'application/json',
+					Cookie: `tempToken=${res.cookies.tempToken[0].value}`,
+				},
+			}]);
+
+		if (registrations.length > 0) {
+			http.batch(registrations);
+		}
+	}
+
+	return dbCounters();
+}
+
+export default function () {
+	const providerName = provider();
+	const isNew = Math.random() < NEW_USER_RATIO;
+	const code = isNew
+		? NEW_USER_ID_BASE + __VU * 100000 + __ITER
+		: 1 + Math.floor(Math.random() * RETURNING_USERS);
+
+	const res = callback(providerName, code);
+	const ok = succeeded(res);
+
+	check(res, { 'redirected without error': () => ok });
+	loginFailed.add(!ok);
+
+	(isNew ? newLogin : returningLogin).add(res.timings.duration, { provider: providerName });
+
+	const accessToken = res.cookies.accessToken && res.cookies.accessToken[0];
+	if (!ok || !accessToken) {
+		return;
+	}
+
+	// accessToken 쿠키는 Secure 라 http 로는 다시 보내지 않으므로 Authorization 헤더로 보낸다
+	for (let i = 0; i < ME_CALLS_PER_LOGIN; i++) {
+		const me = http.get(`${BASE_URL}/api/auth/me`, {
+			headers: { Authorization: `Bearer ${accessToken.value}` },
+			tags: { name: 'me' },
+		});
+		meFailed.add(me.status !== 200);
+		meDuration.add(me.timings.duration);
+	}
+}
+
+export function teardown(baseline) {
+	const now = dbCounters();
+	const seconds = (now.at - baseline.at) / 1000;
+
+	if (baseline.connections !== null && now.connections !== null) {
+		dbConnectionsPerSecond.add((now.connections - baseline.connections) / seconds);
+	}
+	if (baseline.repositoryCalls !== null && now.repositoryCalls !== null) {
+		repositoryCallsPerSecond.add((now.repositoryCalls - baseline.repositoryCalls) / seconds);
+	}
+}
+
+export function handleSummary(data) {
+	const trends = ['http_req_duration', 'login_returning_duration', 'login_new_duration', 'me_duration'];
+	const lines = trends
+		.filter((name) => data.metrics[name])
+		.map((name) => {
+			const v = data.metrics[name].values;
+			return `${name.padEnd(28)} p50=${v.med.toFixed(1)}ms p90=${v['p(90)'].toFixed(1)}ms `
+				+ `p95=${v['p(95)'].toFixed(1)}ms p99=${v['p(99)'].toFixed(1)}ms max=${v.max.toFixed(1)}ms`;
+		});
+
+	const failed = data.metrics.login_failed ? data.metrics.login_failed.values.rate : 0;
+	lines.push(`login_failed rate=${(failed * 100).toFixed(2)}%`);
+	lines.push(`throughput ${data.metrics.http_reqs.values.rate.toFixed(1)} req/s, `
+		+ `${data.metrics.iterations.values.rate.toFixed(1)} login/s`);
+
+	['db_connection_acquisitions_per_second', 'db_repository_invocations_per_second']
+		.filter((name) => data.metrics[name])
+		.forEach((name) => lines.push(`${name.padEnd(40)} ${data.metrics[name].values.value.toFixed(1)}/s`));
+
+	return {
+		stdout: lines.join('\n') + '\n',
+		[`build/reports/loadtest/oauth-login${RUN_TAG ? `-${RUN_TAG}` : ''}.json`]: JSON.stringify(data, null, 2),
+	};
+}
@@ -0,0 +1,150 @@
+// 비회원 공개 엔드포인트 부하 시나리오 (k6) - 서블릿/JPA 앱과 WebFlux/R2DBC 앱 비교
+//
+// 같은 장비, 같은 DB 로 두 앱을 띄우고 TARGET_URL 만 바꿔 두 번 실행한 뒤 요약을 비교한다.
+//   ./gradlew loadtestBootRun                                                  # 서블릿 앱 :8080 (사용자 가입용)
+//   R2DBC_URL=r2dbc:mysql://localhost:3306/advent ./gradlew :reactive-letters:bootRun   # 리액티브 앱 :8081
+//   k6 run -e TARGET_URL=http://localhost:8080 -e RUN_TAG=servlet loadtest/public-letters.js
+//   k6 run -e TARGET_URL=http://localhost:8081 -e RUN_TAG=reactive loadtest/public-letters.js
+//
+// setup 에서 서블릿 앱(SETUP_URL, loadtest 프로필)의 OAuth 시뮬레이터로 USERS 명을 가입시켜 공유 UUID 를 모은다.
+// 이미 가입된 사용자(두 번째 실행부터)는 /api/auth/me 로 UUID 를 읽는다.
+// 본 시나리오는 유저 정보 조회 / 날짜별 개수 조회 / 편지 작성을 READ_RATIO 비율로 섞는다.
+// 결과는 build/reports/loadtest/public-letters-<RUN_TAG>.json 에 남는다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Rate, Trend } from 'k6/metrics';
+
+const SETUP_URL = __ENV.SETUP_URL || 'http://localhost:8080';
+const TARGET_URL = __ENV.TARGET_URL || SETUP_URL;
+const RUN_TAG = __ENV.RUN_TAG || 'servlet';
+const VUS = parseInt(__ENV.VUS || '2000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const USERS = parseInt(__ENV.USERS || '1000', 10);
+const READ_RATIO = parseFloat(__ENV.READ_RATIO || '0.9');
+const SETUP_BATCH = 100;
+
+// oauth-login.js 의 사용자 id 와 겹치지 않게 한다
+const USER_ID_BASE = 2000000000;
+
+const userInfoDuration = new Trend('user_info_duration', true);
+const letterCountDuration = new Trend('letter_count_duration', true);
+const letterCreateDuration = new Trend('letter_create_duration', true);
+const requestFailed = new Rate('request_failed');
+// setup 의 가입 요청을 빼고 본 시나리오 요청만 센다
+const publicRequests = new Counter('public_requests');
+
+export const options = {
+	setupTimeout: '10m',
+	summaryTrendStats: ['avg', 'min', 'med', 'p(90)', 'p(95)', 'p(99)', 'p(99.9)', 'max'],
+	scenarios: {
+		visitors: {
+			executor: 'ramping-vus',
+			startVUs: 0,
+			stages: [
+				{ duration: '30s', target: VUS },
+				{ duration: DURATION, target: VUS },
+				{ duration: '10s', target: 0 },
+			],
+			gracefulRampDown: '10s',
+		},
+	},
+	thresholds: {
+		request_failed: ['rate<0.01'],
+	},
+};
+
+export function setup() {
+	const uuids = [];
+
+	for (let start = 0; start < USERS; start += SETUP_BATCH) {
+		const codes = [];
+		for (let i = start; i < start + SETUP_BATCH && i < USERS; i++) {
+			codes.push(USER_ID_BASE + i);
+		}
+
+		const logins = http.batch(codes.map((code) => [
+			'GET', `${SETUP_URL}/api/auth/oauth/kakao/callback?code=${code}`, null, { redirects: 0 },
+		]));
+
+		const registrations = logins
+			.filter((res) => res.cookies.tempToken && res.cookies.tempToken.length > 0)
+			.map((res) => ['POST', `${SETUP_URL}/api/auth/users`, JSON.stringify({ name: 'loadtest', color: 'green' }), {
+				headers: {
+					'Content-Type': 'application/json',
+					Cookie: `tempToken=${res.cookies.tempToken[0].value}`,
+				},
+			}]);
+
+		const lookups = logins
+			.filter((res) => res.cookies.accessToken && res.cookies.accessToken.length > 0)
+			.map((res) => ['GET', `${SETUP_URL}/api/auth/me`, null, {
+				headers: { Authorization: `Bearer ${res.cookies.accessToken[0].value}` },
+			}]);
+
+		const requests = registrations.concat(lookups);
+		if (requests.length > 0) {
+			http.batch(requests)
+				.filter((res) => res.status === 200)
+				.forEach((res) => uuids.push(res.json().data.uuid));
+		}
+	}
+
+	if (uuids.length === 0) {
+		throw new Error('가입된 사용자가 없습니다. SETUP_URL 앱이 loadtest 프로필로 떠 있는지 확인하세요');
+	}
+	return { uuids };
+}
+
+export default function (data) {
+	const uuid = data.uuids[Math.floor(Math.random() * data.uuids.length)];
+	const roll = Math.random();
+
+	let res;
+	let trend;
+	if (roll < READ_RATIO / 2) {
+		res = http.get(`${TARGET_URL}/api/users/${uuid}`, { tags: { name: 'user_info' } });
+		trend = userInfoDuration;
+	} else if (roll < READ_RATIO) {
+		res = http.get(`${TARGET_URL}/api/${uuid}/letters/count`, { tags: { name: 'letter_count' } });
+		trend = letterCountDuration;
+	} else {
+		const body = JSON.stringify({
+			day: 1 + Math.floor(Math.random() * 25),
+			content: `부하 테스트 편지 ${__VU}-${__ITER}`,
+			fromName: 'loadtest',
+		});
+		res = http.post(`${TARGET_URL}/api/${uuid}/letters`, body, {
+			headers: { 'Content-Type': 'application/json' },
+			tags: { name: 'letter_create' },
+		});
+		trend = letterCreateDuration;
+	}
+
+	const ok = res.status === 200;
+	check(res, { 'status is 200': () => ok });
+	requestFailed.add(!ok);
+	publicRequests.add(1);
+	trend.add(res.timings.duration);
+}
+
+export function handleSummary(data) {
+	const trends = ['user_info_duration', 'letter_count_duration', 'letter_create_duration'];
+	const lines = [`[${RUN_TAG}] ${TARGET_URL}`];
+	trends
+		.filter((name) => data.metrics[name])
+		.forEach((name) => {
+			const v = data.metrics[name].values;
+			lines.push(`${name.padEnd(28)} p50=${v.med.toFixed(1)}ms p90=${v['p(90)'].toFixed(1)}ms `
+				+ `p95=${v['p(95)'].toFixed(1)}ms p99=${v['p(99)'].toFixed(1)}ms max=${v.max.toFixed(1)}ms`);
+		});
+
+	const failed = data.metrics.request_failed ? data.metrics.request_failed.values.rate : 0;
+	lines.push(`request_failed rate=${(failed * 100).toFixed(2)}%`);
+	lines.push(`throughput ${data.metrics.public_requests.values.rate.toFixed(1)} req/s`);
+
+	return {
+		stdout: lines.join('\n') + '\n',
+		[`build/reports/loadtest/public-letters-${RUN_TAG}.json`]: JSON.stringify(data, null, 2),
+	};
+}
@@ -0,0 +1,22 @@
+package com.example.adventcalendar.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import com.example.adventcalendar.util.EncryptionUtils;
+
+/**
+ * 비회원 공개 엔드포인트(유저 정보, 편지 작성, 날짜별 편지 개수)만 WebFlux + R2DBC 로 처리하는 앱.
+ *
+ * 서블릿 앱과 같은 DB 와 암호화 키를 쓰며, 스키마 마이그레이션은 서블릿 앱(Flyway)이 맡는다.
+ * 로드밸런서에서 위 세 경로만 이 앱으로 보내면 된다.
+ */
+@SpringBootApplication
+@Import(EncryptionUtils.class)
+public class ReactiveLettersApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveLettersApplication.class, args);
+	}
+}
@@ -0,0 +1,31 @@
+package com.example.adventcalendar.reactive.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * 서블릿 앱 SecurityConfig 의 CORS 설정과 같은 출처/헤더를 허용한다.
+ * 이 앱의 경로는 모두 비회원용이라 인증 필터는 두지 않는다.
+ */
+@Configuration
+public class WebConfig implements WebFluxConfigurer {
+
+	@Override
+	public void addCorsMappings(CorsRegistry registry) {
+		registry.addMapping("/**")
+			.allowedOrigins(
+				"http://localhost:3000",
+				"http://localhost:3001",
+				"http://2025-advent-calendar.site",
+				"https://2025-advent-calendar.site",
+				"http://www.2025-advent-calendar.site",
+				"https://www.2025-advent-calendar.site"
+			)
+			.allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
+			.allowedHeaders("Authorization", "Content-Type", "X-Requested-With")
+			.allowCredentials(true)
+			.maxAge(3600L)
+			.exposedHeaders("Authorization");
+	}
+}
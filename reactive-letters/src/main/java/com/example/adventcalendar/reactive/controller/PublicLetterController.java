@@ -0,0 +1,58 @@
+package com.example.adventcalendar.reactive.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.adventcalendar.dto.request.LetterCreateRequest;
+import com.example.adventcalendar.dto.response.ApiResponse;
+import com.example.adventcalendar.dto.response.LetterCountResponse;
+import com.example.adventcalendar.dto.response.UserPublicInfoResponse;
+import com.example.adventcalendar.reactive.service.PublicLetterService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱 LetterController 의 비회원 경로와 같은 URL, 요청/응답 형식.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class PublicLetterController {
+
+	private final PublicLetterService publicLetterService;
+
+	@GetMapping("/users/{uuid}")
+	public Mono<ApiResponse<UserPublicInfoResponse>> getUserInfo(@PathVariable String uuid) {
+		log.debug("유저 정보 조회 요청 - uuid: {}", uuid);
+
+		return publicLetterService.getUserInfo(uuid)
+			.map(ApiResponse::success);
+	}
+
+	@PostMapping("/{uuid}/letters")
+	public Mono<ApiResponse<Void>> createLetter(
+		@PathVariable String uuid,
+		@Valid @RequestBody LetterCreateRequest request
+	) {
+		log.debug("편지 작성 요청 - uuid: {}, day: {}", uuid, request.getDay());
+
+		return publicLetterService.createLetter(uuid, request)
+			.then(Mono.fromSupplier(() -> ApiResponse.<Void>success()));
+	}
+
+	@GetMapping("/{uuid}/letters/count")
+	public Mono<ApiResponse<LetterCountResponse>> getLetterCounts(@PathVariable String uuid) {
+		log.debug("날짜별 편지 개수 조회 요청 - uuid: {}", uuid);
+
+		return publicLetterService.getLetterCounts(uuid)
+			.map(ApiResponse::success);
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.adventcalendar.reactive.exception;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.adventcalendar.dto.response.ErrorResponse;
+import com.example.adventcalendar.exception.ResourceNotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서블릿 앱 GlobalExceptionHandler 와 같은 ErrorResponse 형식으로 응답한다.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<ErrorResponse> handleValidationException(
+		WebExchangeBindException ex,
+		ServerWebExchange exchange
+	) {
+		Map<String, String> errors = new HashMap<>();
+		ex.getBindingResult().getAllErrors().forEach((error) -> {
+			String fieldName = ((FieldError) error).getField();
+			String errorMessage = error.getDefaultMessage();
+			errors.put(fieldName, errorMessage);
+		});
+
+		String message = "입력값 검증에 실패했습니다: " + errors;
+
+		log.warn("Validation 예외 발생: {}", errors);
+		return respond(HttpStatus.BAD_REQUEST, message, "VALIDATION_FAILED", exchange);
+	}
+
+	@ExceptionHandler(ResourceNotFoundException.class)
+	public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+		ResourceNotFoundException ex,
+		ServerWebExchange exchange
+	) {
+		log.warn("리소스를 찾을 수 없음: {}", ex.getMessage());
+		return respond(HttpStatus.NOT_FOUND, ex.getMessage(), "RESOURCE_NOT_FOUND", exchange);
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+		IllegalArgumentException ex,
+		ServerWebExchange exchange
+	) {
+		log.warn("잘못된 인자 예외 발생: {}", ex.getMessage());
+		return respond(HttpStatus.BAD_REQUEST, ex.getMessage(), "INVALID_ARGUMENT", exchange);
+	}
+
+	// 읽을 수 없는 본문, 없는 경로 등 WebFlux 가 상태 코드를 정해 던지는 예외
+	@ExceptionHandler(ResponseStatusException.class)
+	public ResponseEntity<ErrorResponse> handleResponseStatusException(
+		ResponseStatusException ex,
+		ServerWebExchange exchange
+	) {
+		HttpStatusCode status = ex.getStatusCode();
+		HttpStatus resolved = HttpStatus.resolve(status.value());
+		String errorCode = resolved != null ? resolved.name() : "HTTP_" + status.value();
+
+		log.warn("요청 처리 실패 - status: {}, reason: {}", status.value(), ex.getReason());
+		return respond(status, ex.getReason() != null ? ex.getReason() : errorCode, errorCode, exchange);
+	}
+
+	@ExceptionHandler(Exception.class)
+	public ResponseEntity<ErrorResponse> handleException(
+		Exception ex,
+		ServerWebExchange exchange
+	) {
+		log.error("예상치 못한 예외 발생", ex);
+		return respond(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다", "INTERNAL_SERVER_ERROR", exchange);
+	}
+
+	private ResponseEntity<ErrorResponse> respond(
+		HttpStatusCode status,
+		String message,
+		String errorCode,
+		ServerWebExchange exchange
+	) {
+		ErrorResponse errorResponse = ErrorResponse.of(
+			status.value(),
+			message,
+			errorCode,
+			exchange.getRequest().getPath().value()
+		);
+		return ResponseEntity.status(status).body(errorResponse);
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.adventcalendar.reactive.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveLetterRepository {
+
+	private final DatabaseClient databaseClient;
+
+	/**
+	 * content 는 사용자 데이터 키로 암호화한 값이다 (서블릿 앱의 Letter.seal 과 같은 형식).
+	 */
+	public Mono<Void> create(Long userId, Integer day, String fromName, byte[] sealedContent, LocalDateTime now) {
+		return databaseClient.sql("INSERT INTO letters (user_id, letter_day, from_name, content, created_at, updated_at) "
+				+ "VALUES (:userId, :day, :fromName, :content, :now, :now)")
+			.bind("userId", userId)
+			.bind("day", day)
+			.bind("fromName", fromName)
+			.bind("content", sealedContent)
+			.bind("now", now)
+			.then();
+	}
+
+	public Flux<DayCount> countByUserIdGroupByDay(Long userId) {
+		return databaseClient.sql("SELECT letter_day, COUNT(*) AS letter_count FROM letters "
+				+ "WHERE user_id = :userId GROUP BY letter_day")
+			.bind("userId", userId)
+			.map((row, metadata) -> new DayCount(
+				row.get("letter_day", Integer.class),
+				row.get("letter_count", Long.class)
+			))
+			.all();
+	}
+
+	public record DayCount(
+		Integer day,
+		Long count
+	) {
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.adventcalendar.reactive.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserDataKeyRepository {
+
+	private final DatabaseClient databaseClient;
+
+	public Mono<byte[]> findWrappedKey(Long userId) {
+		return databaseClient.sql("SELECT wrapped_key FROM user_data_keys WHERE user_id = :userId")
+			.bind("userId", userId)
+			.map((row, metadata) -> row.get("wrapped_key", byte[].class))
+			.one();
+	}
+
+	/**
+	 * 같은 사용자 키를 동시에 만들면 PK 충돌로 DataIntegrityViolationException 이 난다.
+	 */
+	public Mono<Void> create(Long userId, byte[] wrappedKey, LocalDateTime createdAt) {
+		return databaseClient.sql("INSERT INTO user_data_keys (user_id, wrapped_key, created_at) "
+				+ "VALUES (:userId, :wrappedKey, :createdAt)")
+			.bind("userId", userId)
+			.bind("wrappedKey", wrappedKey)
+			.bind("createdAt", createdAt)
+			.then();
+	}
+}
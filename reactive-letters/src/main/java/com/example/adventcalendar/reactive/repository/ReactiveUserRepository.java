@@ -0,0 +1,37 @@
+package com.example.adventcalendar.reactive.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+	private final DatabaseClient databaseClient;
+
+	/**
+	 * 공유 링크로 공개 정보만 읽는다. 탈퇴/가입 전 사용자는 share_uuid 가 없으므로 찾을 수 없다.
+	 */
+	public Mono<PublicUser> findByShareUuid(String shareUuid) {
+		return databaseClient.sql("SELECT id, name, selected_color, share_uuid FROM users WHERE share_uuid = :shareUuid")
+			.bind("shareUuid", shareUuid)
+			.map((row, metadata) -> new PublicUser(
+				row.get("id", Long.class),
+				row.get("name", String.class),
+				row.get("selected_color", String.class),
+				row.get("share_uuid", String.class)
+			))
+			.one();
+	}
+
+	public record PublicUser(
+		Long id,
+		String name,
+		String selectedColor,
+		String shareUuid
+	) {
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.adventcalendar.reactive.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+
+import com.example.adventcalendar.dto.request.LetterCreateRequest;
+import com.example.adventcalendar.dto.response.LetterCountResponse;
+import com.example.adventcalendar.dto.response.UserPublicInfoResponse;
+import com.example.adventcalendar.exception.ResourceNotFoundException;
+import com.example.adventcalendar.reactive.repository.ReactiveLetterRepository;
+import com.example.adventcalendar.reactive.repository.ReactiveLetterRepository.DayCount;
+import com.example.adventcalendar.reactive.repository.ReactiveUserRepository;
+import com.example.adventcalendar.reactive.repository.ReactiveUserRepository.PublicUser;
+import com.example.adventcalendar.util.XssUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱 LetterService 의 비회원 경로(편지 작성, 날짜별 개수)와 유저 공개 정보 조회.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublicLetterService {
+
+	private final ReactiveUserRepository userRepository;
+	private final ReactiveLetterRepository letterRepository;
+	private final ReactiveDataKeyService dataKeyService;
+
+	public Mono<UserPublicInfoResponse> getUserInfo(String uuid) {
+		return findUser(uuid)
+			.map(user -> UserPublicInfoResponse.builder()
+				.name(user.name())
+				.color(user.selectedColor())
+				.uuid(user.shareUuid())
+				.build());
+	}
+
+	/**
+	 * 원문 그대로 암호화해 저장하고 이스케이프는 편지를 읽을 때(서블릿 앱) 한다.
+	 */
+	public Mono<Void> createLetter(String uuid, LetterCreateRequest request) {
+		return findUser(uuid)
+			.flatMap(user -> dataKeyService.dataKeyFor(user.id())
+				.flatMap(dataKey -> letterRepository.create(
+					user.id(),
+					request.getDay(),
+					request.getFromName(),
+					dataKey.encrypt(request.getContent()),
+					LocalDateTime.now()
+				))
+				.doOnSuccess(ignored -> log.info("편지 작성 완료 - userId: {}, day: {}, from: {}", user.id(),
+					request.getDay(), XssUtils.sanitizeHtml(request.getFromName()))));
+	}
+
+	public Mono<LetterCountResponse> getLetterCounts(String uuid) {
+		return findUser(uuid)
+			.flatMap(user -> letterRepository.countByUserIdGroupByDay(user.id())
+				.collectMap(DayCount::day, DayCount::count)
+				.doOnNext(counts -> log.info("날짜별 편지 개수 조회 완료 - userId: {}, totalDays: {}",
+					user.id(), counts.size())))
+			.map(LetterCountResponse::create);
+	}
+
+	private Mono<PublicUser> findUser(String uuid) {
+		return userRepository.findByShareUuid(uuid)
+			.switchIfEmpty(Mono.error(new ResourceNotFoundException("존재하지 않는 사용자입니다")));
+	}
+}
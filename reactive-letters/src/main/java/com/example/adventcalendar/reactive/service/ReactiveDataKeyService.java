@@ -0,0 +1,72 @@
+package com.example.adventcalendar.reactive.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.example.adventcalendar.reactive.repository.ReactiveUserDataKeyRepository;
+import com.example.adventcalendar.util.DataKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 서블릿 앱의 DataKeyService 와 같은 규칙으로 사용자별 편지 데이터 키를 찾거나 만든다.
+ *
+ * 키 생성은 편지 저장과 별개의 문장(auto-commit)이라, 생성 경합에서 지면 이긴 쪽이 커밋한 키를 다시 읽는다.
+ * 캐시는 이 앱 인스턴스에만 두며, 탈퇴로 키가 지워지면 공유 링크도 끊기므로 남은 항목은 쓰이지 않고 TTL 뒤에 비워진다.
+ */
+@Slf4j
+@Service
+public class ReactiveDataKeyService {
+
+	private final ReactiveUserDataKeyRepository userDataKeyRepository;
+	private final Cache<Long, DataKey> cache;
+
+	public ReactiveDataKeyService(
+		ReactiveUserDataKeyRepository userDataKeyRepository,
+		@Value("${app.letter-encryption.data-key-cache-size:10000}") long cacheSize,
+		@Value("${app.letter-encryption.data-key-cache-ttl-seconds:600}") long cacheTtlSeconds
+	) {
+		this.userDataKeyRepository = userDataKeyRepository;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterAccess(Duration.ofSeconds(cacheTtlSeconds))
+			.build();
+	}
+
+	public Mono<DataKey> dataKeyFor(Long userId) {
+		DataKey cached = cache.getIfPresent(userId);
+		if (cached != null) {
+			return Mono.just(cached);
+		}
+
+		return userDataKeyRepository.findWrappedKey(userId)
+			.map(DataKey::unwrap)
+			.switchIfEmpty(Mono.defer(() -> create(userId)))
+			.map(loaded -> {
+				DataKey raced = cache.asMap().putIfAbsent(userId, loaded);
+				return raced != null ? raced : loaded;
+			});
+	}
+
+	private Mono<DataKey> create(Long userId) {
+		DataKey dataKey = DataKey.generate();
+
+		return userDataKeyRepository.create(userId, dataKey.wrap(), LocalDateTime.now())
+			.doOnSuccess(ignored -> log.debug("데이터 키 생성 - userId: {}", userId))
+			.thenReturn(dataKey)
+			.onErrorResume(DataIntegrityViolationException.class, e -> {
+				log.debug("다른 요청이 먼저 데이터 키를 생성함 - userId: {}", userId);
+				return userDataKeyRepository.findWrappedKey(userId)
+					.map(DataKey::unwrap)
+					.switchIfEmpty(Mono.error(
+						new IllegalStateException("데이터 키를 찾을 수 없습니다 - userId: " + userId)));
+			});
+	}
+}
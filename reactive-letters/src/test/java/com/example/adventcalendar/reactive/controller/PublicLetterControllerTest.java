@@ -0,0 +1,245 @@
+package com.example.adventcalendar.reactive.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.example.adventcalendar.dto.request.LetterCreateRequest;
+import com.example.adventcalendar.reactive.ReactiveLettersApplication;
+import com.example.adventcalendar.util.DataKey;
+
+@SpringBootTest(classes = ReactiveLettersApplication.class)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@DisplayName("PublicLetterController 통합 테스트")
+class PublicLetterControllerTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private DatabaseClient databaseClient;
+
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		execute("DELETE FROM letters");
+		execute("DELETE FROM user_data_keys");
+		execute("DELETE FROM users");
+
+		userId = insertUser("사용자", "green", "user-uuid-123");
+		insertUser("다른사용자", "blue", "another-uuid-456");
+	}
+
+	@Nested
+	@DisplayName("GET /api/users/{uuid} - 유저 정보 조회")
+	class GetUserInfo {
+
+		@Test
+		@DisplayName("UUID로 유저 정보 조회 성공")
+		void getUserInfo_Success() {
+			// when & then
+			webTestClient.get().uri("/api/users/{uuid}", "user-uuid-123")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.status").isEqualTo(200)
+				.jsonPath("$.data.name").isEqualTo("사용자")
+				.jsonPath("$.data.color").isEqualTo("green")
+				.jsonPath("$.data.uuid").isEqualTo("user-uuid-123");
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 UUID는 404 에러")
+		void getUserInfo_NotFound() {
+			// when & then
+			webTestClient.get().uri("/api/users/{uuid}", "non-existent-uuid")
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.status").isEqualTo(404)
+				.jsonPath("$.message").isEqualTo("존재하지 않는 사용자입니다")
+				.jsonPath("$.errorCode").isEqualTo("RESOURCE_NOT_FOUND")
+				.jsonPath("$.path").isEqualTo("/api/users/non-existent-uuid");
+		}
+	}
+
+	@Nested
+	@DisplayName("POST /api/{uuid}/letters - 편지 작성")
+	class CreateLetter {
+
+		@Test
+		@DisplayName("편지 작성 성공 - 내용은 사용자 데이터 키로 암호화해 원문 그대로 저장")
+		void createLetter_Success() {
+			// given
+			LetterCreateRequest request = new LetterCreateRequest(1, "<b>메리 크리스마스!</b>", "산타");
+
+			// when
+			webTestClient.post().uri("/api/{uuid}/letters", "user-uuid-123")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(request)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.status").isEqualTo(200)
+				.jsonPath("$.message").isEqualTo("success");
+
+			// then
+			DataKey dataKey = DataKey.unwrap(databaseClient.sql("SELECT wrapped_key FROM user_data_keys WHERE user_id = :userId")
+				.bind("userId", userId)
+				.map((row, metadata) -> row.get("wrapped_key", byte[].class))
+				.one()
+				.block());
+			List<String> contents = databaseClient.sql("SELECT content FROM letters WHERE user_id = :userId")
+				.bind("userId", userId)
+				.map((row, metadata) -> dataKey.decrypt(row.get("content", byte[].class)))
+				.all()
+				.collectList()
+				.block();
+
+			assertThat(contents).containsExactly("<b>메리 크리스마스!</b>");
+		}
+
+		@Test
+		@DisplayName("같은 사용자의 두 번째 편지는 기존 데이터 키를 사용")
+		void createLetter_ReusesDataKey() {
+			// given
+			LetterCreateRequest first = new LetterCreateRequest(1, "첫 번째 편지", "보낸이1");
+			LetterCreateRequest second = new LetterCreateRequest(2, "두 번째 편지", "보낸이2");
+
+			// when
+			for (LetterCreateRequest request : List.of(first, second)) {
+				webTestClient.post().uri("/api/{uuid}/letters", "user-uuid-123")
+					.contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(request)
+					.exchange()
+					.expectStatus().isOk();
+			}
+
+			// then
+			assertThat(count("SELECT COUNT(*) FROM user_data_keys")).isEqualTo(1L);
+			assertThat(count("SELECT COUNT(*) FROM letters")).isEqualTo(2L);
+		}
+
+		@Test
+		@DisplayName("검증 실패 시 400 에러")
+		void createLetter_ValidationFailed() {
+			// given
+			LetterCreateRequest request = new LetterCreateRequest(26, "", "산타");
+
+			// when & then
+			webTestClient.post().uri("/api/{uuid}/letters", "user-uuid-123")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(request)
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.status").isEqualTo(400)
+				.jsonPath("$.errorCode").isEqualTo("VALIDATION_FAILED");
+
+			assertThat(count("SELECT COUNT(*) FROM letters")).isZero();
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 UUID는 404 에러")
+		void createLetter_UserNotFound() {
+			// given
+			LetterCreateRequest request = new LetterCreateRequest(1, "편지 내용", "산타");
+
+			// when & then
+			webTestClient.post().uri("/api/{uuid}/letters", "non-existent-uuid")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(request)
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.message").isEqualTo("존재하지 않는 사용자입니다");
+
+			assertThat(count("SELECT COUNT(*) FROM user_data_keys")).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("GET /api/{uuid}/letters/count - 날짜별 편지 개수 조회")
+	class GetLetterCounts {
+
+		@Test
+		@DisplayName("1-25일 모두 포함하고 편지가 없는 날은 0")
+		void getLetterCounts_Success() {
+			// given
+			for (int day : new int[] {1, 1, 3}) {
+				webTestClient.post().uri("/api/{uuid}/letters", "user-uuid-123")
+					.contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(new LetterCreateRequest(day, "편지 내용", "산타"))
+					.exchange()
+					.expectStatus().isOk();
+			}
+
+			// when & then
+			webTestClient.get().uri("/api/{uuid}/letters/count", "user-uuid-123")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.data.counts['1']").isEqualTo(2)
+				.jsonPath("$.data.counts['2']").isEqualTo(0)
+				.jsonPath("$.data.counts['3']").isEqualTo(1)
+				.jsonPath("$.data.counts['25']").isEqualTo(0);
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 UUID는 404 에러")
+		void getLetterCounts_UserNotFound() {
+			// when & then
+			webTestClient.get().uri("/api/{uuid}/letters/count", "non-existent-uuid")
+				.exchange()
+				.expectStatus().isNotFound();
+		}
+	}
+
+	private Long insertUser(String name, String color, String shareUuid) {
+		LocalDateTime now = LocalDateTime.now();
+		databaseClient.sql("INSERT INTO users (created_at, updated_at, email, email_hash, name, oauth_provider, "
+				+ "oauth_id, selected_color, share_uuid, status) "
+				+ "VALUES (:now, :now, :email, :emailHash, :name, 'NAVER', :oauthId, :color, :shareUuid, 'ACTIVE')")
+			.bind("now", now)
+			.bind("email", new byte[] {1})
+			.bind("emailHash", new byte[32])
+			.bind("name", name)
+			.bind("oauthId", "oauth-" + shareUuid)
+			.bind("color", color)
+			.bind("shareUuid", shareUuid)
+			.then()
+			.block();
+
+		return databaseClient.sql("SELECT id FROM users WHERE share_uuid = :shareUuid")
+			.bind("shareUuid", shareUuid)
+			.map((row, metadata) -> row.get("id", Long.class))
+			.one()
+			.block();
+	}
+
+	private Long count(String sql) {
+		return databaseClient.sql(sql)
+			.map((row, metadata) -> row.get(0, Long.class))
+			.one()
+			.block();
+	}
+
+	private void execute(String sql) {
+		databaseClient.sql(sql).then().block();
+	}
+}
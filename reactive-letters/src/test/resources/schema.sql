@@ -0,0 +1,35 @@
+-- 서블릿 앱 Flyway 마이그레이션 결과 중 이 앱이 쓰는 테이블만 (H2)
+CREATE TABLE IF NOT EXISTS users (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    email          VARBINARY(300) NOT NULL,
+    email_hash     BINARY(32)   NOT NULL,
+    name           VARCHAR(50)  NOT NULL,
+    oauth_provider VARCHAR(20)  NOT NULL,
+    oauth_id       VARCHAR(100) NOT NULL,
+    selected_color VARCHAR(50),
+    share_uuid     VARCHAR(36),
+    status         VARCHAR(20)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_share_uuid UNIQUE (share_uuid)
+);
+
+CREATE TABLE IF NOT EXISTS letters (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    letter_day INT          NOT NULL,
+    from_name  VARCHAR(100) NOT NULL,
+    content    VARBINARY(65535) NOT NULL,  -- 운영은 MEDIUMBLOB
+    PRIMARY KEY (id),
+    CONSTRAINT fk_letters_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_data_keys (
+    user_id     BIGINT        NOT NULL,
+    wrapped_key VARBINARY(80) NOT NULL,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (user_id)
+);
@@ -0,0 +1,48 @@
+package com.example.adventcalendar.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 알고리즘별 Access Token 발급/검증 비용 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSigningBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-must-be-long-enough-for-hs512";
+
+	@Param({JwtSigningKeys.HS512, JwtSigningKeys.EDDSA, JwtSigningKeys.ES256})
+	private String algorithm;
+
+	private JwtTokenProvider jwtTokenProvider;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		JwtSigningKeys signingKeys = JwtSigningKeys.create(algorithm, SECRET, "bench-key", null, null);
+		jwtTokenProvider = new JwtTokenProvider(signingKeys, 3600L, 604800L);
+		token = jwtTokenProvider.createAccessToken(1L, "bench@example.com", "NAVER");
+	}
+
+	@Benchmark
+	public String sign() {
+		return jwtTokenProvider.createAccessToken(1L, "bench@example.com", "NAVER");
+	}
+
+	@Benchmark
+	public Claims verify() {
+		return jwtTokenProvider.parseClaims(token);
+	}
+}
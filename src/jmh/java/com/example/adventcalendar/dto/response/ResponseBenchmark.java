@@ -0,0 +1,59 @@
+package com.example.adventcalendar.dto.response;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * 편지 개수 응답 생성과 ApiResponse JSON 직렬화 비용. ObjectMapper 설정은 application.yml 의 jackson 설정과 맞춘다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResponseBenchmark {
+
+	private ObjectMapper objectMapper;
+	private Map<Integer, Long> counts;
+	private ApiResponse<LetterCountResponse> countResponse;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+		// 12월 중순 기준, 절반 정도의 날짜에 편지가 있는 사용자
+		counts = new HashMap<>();
+		for (int day = 1; day <= 14; day += 2) {
+			counts.put(day, (long)day);
+		}
+		countResponse = ApiResponse.success(LetterCountResponse.create(counts));
+	}
+
+	@Benchmark
+	public LetterCountResponse createLetterCount() {
+		return LetterCountResponse.create(counts);
+	}
+
+	@Benchmark
+	public String serializeLetterCount() throws Exception {
+		return objectMapper.writeValueAsString(countResponse);
+	}
+
+	@Benchmark
+	public byte[] createAndSerializeLetterCount() throws Exception {
+		return objectMapper.writeValueAsBytes(ApiResponse.success(LetterCountResponse.create(counts)));
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.adventcalendar.entity;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.adventcalendar.config.EncryptionConverter;
+import com.example.adventcalendar.constant.UserStatus;
+import com.example.adventcalendar.util.EncryptedValue;
+import com.example.adventcalendar.util.EncryptionUtils;
+
+/**
+ * ResultSet 한 행을 User 로 만드는 비용 (Hibernate 가 하는 컬럼 변환 + 엔티티 생성 부분만).
+ *
+ * eagerDecrypt 는 이전 컨버터처럼 로딩 시 이메일을 바로 복호화하는 경우,
+ * lazyNoEmailRead 는 공개 캘린더 조회/편지 작성처럼 이메일을 읽지 않는 경우,
+ * lazyEmailRead 는 지연 복호화 후 이메일까지 읽는 경우다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserHydrationBenchmark {
+
+	private static final String KEY = "benchmark-encryption-key-32bytes";
+
+	private final EncryptionConverter converter = new EncryptionConverter();
+	private Field emailField;
+	private byte[] emailColumn;
+
+	@Setup
+	public void setUp() throws Exception {
+		EncryptionUtils.initForTest(KEY);
+		emailColumn = EncryptionUtils.encryptToBytes("advent.calendar.user@example.com");
+
+		// Hibernate 와 같이 필드에 직접 주입한다
+		emailField = User.class.getDeclaredField("email");
+		emailField.setAccessible(true);
+	}
+
+	@Benchmark
+	public String eagerDecrypt() throws Exception {
+		User user = hydrate(EncryptedValue.ofPlainText(EncryptionUtils.decryptBytes(emailColumn)));
+		return user.getShareUuid();
+	}
+
+	@Benchmark
+	public String lazyNoEmailRead() throws Exception {
+		User user = hydrate(converter.convertToEntityAttribute(emailColumn));
+		return user.getShareUuid();
+	}
+
+	@Benchmark
+	public String lazyEmailRead() throws Exception {
+		User user = hydrate(converter.convertToEntityAttribute(emailColumn));
+		return user.getEmail();
+	}
+
+	private User hydrate(EncryptedValue email) throws Exception {
+		User user = User.builder()
+			.id(1L)
+			.name("테스트")
+			.oauthProvider("NAVER")
+			.oauthId("naver123")
+			.selectedColor("green")
+			.shareUuid("share-uuid")
+			.status(UserStatus.ACTIVE)
+			.build();
+		emailField.set(user, email);
+		user.markEmailHashed();
+		return user;
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.adventcalendar.util;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 이메일 암복호화 비용. legacy* 는 호출마다 Cipher/SecureRandom 을 새로 만들던 이전 구현이다.
+ * encryptToBytes/decryptBytes 는 users.email 컬럼(VARBINARY) 경로로, legacy* 의 Base64 인코딩이 빠진 만큼을 비교한다.
+ * 할당량은 ./gradlew jmh 의 gc 프로파일러 결과(gc.alloc.rate.norm, B/op)로 확인한다.
+ * *OnVirtualThread 는 요청마다 새 가상 스레드가 뜨는 모드를 흉내 내 매 호출을 새 가상 스레드에서 실행한다.
+ * Java 21 이상에서만 돌므로 ./gradlew jmh -PjavaVersion=21 로 실행한다 (17 에서는 이 두 케이스만 실패한다).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class EncryptionBenchmark {
+
+	private static final String KEY = "benchmark-encryption-key-32bytes";
+	private static final String EMAIL = "advent.calendar.user@example.com";
+
+	private SecretKeySpec keySpec;
+	private String encrypted;
+	private byte[] encryptedBytes;
+
+	@Setup
+	public void setUp() throws Exception {
+		EncryptionUtils.initForTest(KEY);
+		keySpec = new SecretKeySpec(KEY.getBytes(), "AES");
+		encrypted = legacyEncrypt();
+		encryptedBytes = EncryptionUtils.encryptToBytes(EMAIL);
+	}
+
+	@Benchmark
+	public byte[] encryptToBytes() {
+		return EncryptionUtils.encryptToBytes(EMAIL);
+	}
+
+	@Benchmark
+	public String decryptBytes() {
+		return EncryptionUtils.decryptBytes(encryptedBytes);
+	}
+
+	@Benchmark
+	public byte[] encryptToBytesOnVirtualThread(VirtualThreads virtualThreads) throws Exception {
+		return virtualThreads.executor.submit(() -> EncryptionUtils.encryptToBytes(EMAIL)).get();
+	}
+
+	@Benchmark
+	public String decryptBytesOnVirtualThread(VirtualThreads virtualThreads) throws Exception {
+		return virtualThreads.executor.submit(() -> EncryptionUtils.decryptBytes(encryptedBytes)).get();
+	}
+
+	@Benchmark
+	public String legacyEncrypt() throws Exception {
+		byte[] iv = new byte[12];
+		new SecureRandom().nextBytes(iv);
+
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(128, iv));
+		byte[] encryptedBytes = cipher.doFinal(EMAIL.getBytes());
+
+		ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + encryptedBytes.length);
+		byteBuffer.put(iv);
+		byteBuffer.put(encryptedBytes);
+		return Base64.getEncoder().encodeToString(byteBuffer.array());
+	}
+
+	@Benchmark
+	public String legacyDecrypt() throws Exception {
+		ByteBuffer byteBuffer = ByteBuffer.wrap(Base64.getDecoder().decode(encrypted));
+		byte[] iv = new byte[12];
+		byteBuffer.get(iv);
+		byte[] encryptedBytes = new byte[byteBuffer.remaining()];
+		byteBuffer.get(encryptedBytes);
+
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(128, iv));
+		return new String(cipher.doFinal(encryptedBytes));
+	}
+
+	/**
+	 * 작업마다 새 가상 스레드를 만드는 실행기. Java 17 로도 컴파일되도록 리플렉션으로 연다.
+	 */
+	@State(Scope.Benchmark)
+	public static class VirtualThreads {
+
+		private ExecutorService executor;
+
+		@Setup
+		public void setUp() throws Exception {
+			executor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+
+		@TearDown
+		public void tearDown() {
+			executor.shutdown();
+		}
+	}
+}
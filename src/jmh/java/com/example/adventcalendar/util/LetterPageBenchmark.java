@@ -0,0 +1,98 @@
+package com.example.adventcalendar.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 편지 목록 한 페이지의 내용 복호화 비용.
+ *
+ * plainText 는 암호화 이전(평문 컬럼) 경로, envelope 는 캐시에서 데이터 키를 한 번 찾고 페이지 전체를 복호화하는 경로,
+ * perRowMasterKey 는 행마다 EncryptionUtils(마스터 키)로 복호화하는 단순 구현이다.
+ * envelopeColdKey 는 캐시에 키가 없어 언랩까지 하는 첫 조회를 가정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LetterPageBenchmark {
+
+	private static final String KEY = "benchmark-encryption-key-32bytes";
+	private static final long USER_ID = 42L;
+
+	@Param({"25"})
+	private int pageSize;
+
+	@Param({"500"})
+	private int contentLength;
+
+	private List<String> plainPage;
+	private List<byte[]> envelopePage;
+	private List<byte[]> masterKeyPage;
+	private byte[] wrappedKey;
+	private Cache<Long, DataKey> cache;
+
+	@Setup
+	public void setUp() {
+		EncryptionUtils.initForTest(KEY);
+
+		DataKey dataKey = DataKey.generate();
+		wrappedKey = dataKey.wrap();
+		cache = Caffeine.newBuilder().maximumSize(10_000).build();
+		cache.put(USER_ID, dataKey);
+
+		plainPage = new ArrayList<>();
+		envelopePage = new ArrayList<>();
+		masterKeyPage = new ArrayList<>();
+		for (int i = 0; i < pageSize; i++) {
+			String content = ("메리 크리스마스 " + i + " ").repeat(contentLength / 10 + 1).substring(0, contentLength);
+			plainPage.add(content);
+			envelopePage.add(dataKey.encrypt(content));
+			masterKeyPage.add(EncryptionUtils.encryptToBytes(content));
+		}
+	}
+
+	@Benchmark
+	public void plainText(Blackhole blackhole) {
+		for (String content : plainPage) {
+			blackhole.consume(content);
+		}
+	}
+
+	@Benchmark
+	public void envelope(Blackhole blackhole) {
+		DataKey dataKey = cache.getIfPresent(USER_ID);
+		for (byte[] content : envelopePage) {
+			blackhole.consume(dataKey.decrypt(content));
+		}
+	}
+
+	@Benchmark
+	public void envelopeColdKey(Blackhole blackhole) {
+		DataKey dataKey = DataKey.unwrap(wrappedKey);
+		for (byte[] content : envelopePage) {
+			blackhole.consume(dataKey.decrypt(content));
+		}
+	}
+
+	@Benchmark
+	public void perRowMasterKey(Blackhole blackhole) {
+		for (byte[] content : masterKeyPage) {
+			blackhole.consume(EncryptionUtils.decryptBytes(content));
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.example.adventcalendar.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.owasp.encoder.Encode;
+
+/**
+ * 편지 작성 시 XssUtils.sanitizeHtml 비용. 실제 편지와 비슷하게 한글 위주 본문과 특수문자가 섞인 본문을 나눠 잰다.
+ * owaspEncoder 는 빠른 경로 이전 구현(Encode.forHtml 직접 호출)이다. PLAIN 은 할당 0 B/op 이어야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XssSanitizeBenchmark {
+
+	private static final String PLAIN_LINE = "메리 크리스마스! 올해도 함께해줘서 고마워 :) 내년에도 잘 부탁해\n";
+	private static final String MARKUP_LINE = "<b>메리 크리스마스</b> & \"행복한\" 연말 보내 <3 <script>alert('x')</script>\n";
+
+	@Param({"PLAIN", "MARKUP"})
+	private String body;
+
+	@Param({"200", "2000"})
+	private int length;
+
+	private String content;
+
+	@Setup
+	public void setUp() {
+		String line = "PLAIN".equals(body) ? PLAIN_LINE : MARKUP_LINE;
+		content = line.repeat(length / line.length() + 1).substring(0, length);
+	}
+
+	@Benchmark
+	public String sanitizeHtml() {
+		return XssUtils.sanitizeHtml(content);
+	}
+
+	@Benchmark
+	public String owaspEncoder() {
+		return Encode.forHtml(content);
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.adventcalendar.loadtest;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.adventcalendar.support.FakeOAuthProvider;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 테스트용 네이버/카카오 OAuth 공급자 시뮬레이터.
+ *
+ * 테스트의 FakeOAuthProvider 를 앱과 별도 포트에 띄우고, 응답 지연과 실패율을 설정으로 조절한다.
+ * 인가 코드가 곧 공급자 사용자 id 이므로 부하 스크립트가 코드로 신규/재로그인 사용자를 고를 수 있다.
+ *
+ * 아무 코드로나 로그인할 수 있게 되므로 운영 jar 에는 들어가지 않는다. loadtest 소스 셋에만 있으며
+ * ./gradlew loadtestBootRun (loadtest 프로필, app.oauth-simulator.enabled=true) 으로만 뜬다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.oauth-simulator.enabled", havingValue = "true")
+public class OAuthProviderSimulator {
+
+	private final int port;
+	private final long latencyMillis;
+	private final long jitterMillis;
+	private final double errorRate;
+	private final int threads;
+
+	private FakeOAuthProvider provider;
+
+	public OAuthProviderSimulator(
+		@Value("${app.oauth-simulator.port:18089}") int port,
+		@Value("${app.oauth-simulator.latency-millis:100}") long latencyMillis,
+		@Value("${app.oauth-simulator.jitter-millis:50}") long jitterMillis,
+		@Value("${app.oauth-simulator.error-rate:0.0}") double errorRate,
+		@Value("${app.oauth-simulator.threads:400}") int threads
+	) {
+		this.port = port;
+		this.latencyMillis = latencyMillis;
+		this.jitterMillis = jitterMillis;
+		this.errorRate = errorRate;
+		this.threads = threads;
+	}
+
+	@PostConstruct
+	public void start() {
+		provider = FakeOAuthProvider.start(port, threads)
+			.latency(FakeOAuthProvider.NAVER, Duration.ofMillis(latencyMillis))
+			.latency(FakeOAuthProvider.KAKAO, Duration.ofMillis(latencyMillis))
+			.jitter(Duration.ofMillis(jitterMillis))
+			.errorRate(errorRate);
+
+		log.info("OAuth 공급자 시뮬레이터 시작 - port: {}, latency: {}ms (+{}ms), errorRate: {}",
+			provider.port(), latencyMillis, jitterMillis, errorRate);
+	}
+
+	@PreDestroy
+	public void stop() {
+		provider.close();
+	}
+}
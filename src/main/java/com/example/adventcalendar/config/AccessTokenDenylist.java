@@ -0,0 +1,118 @@
+package com.example.adventcalendar.config;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.adventcalendar.util.BloomFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그아웃/탈퇴로 폐기된 Access Token(jti) 목록.
+ *
+ * 토큰 만료 시각 기준으로 파티션을 나누고, 파티션마다 Bloom filter 와 정확한 jti 집합을 둔다.
+ * 조회는 만료 시각으로 파티션을 바로 찾은 뒤 Bloom filter 가 양성일 때만 집합을 확인하므로 O(1) 이다.
+ * 파티션에 속한 토큰이 모두 만료되면 파티션째 버리므로 메모리는 폐기 빈도에만 비례해 일정하게 유지된다.
+ *
+ * 인스턴스 메모리에만 보관하므로 다중 노드 환경에서는 폐기 요청을 받은 노드에서만 즉시 반영된다.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+	private final long partitionMillis;
+	private final int expectedRevocationsPerPartition;
+	private final double falsePositiveRate;
+	private final Clock clock;
+
+	private final Map<Long, Partition> partitions = new ConcurrentHashMap<>();
+
+	@Autowired
+	public AccessTokenDenylist(
+		@Value("${jwt.denylist.partition-seconds:600}") long partitionSeconds,
+		@Value("${jwt.denylist.expected-revocations-per-partition:10000}") int expectedRevocationsPerPartition,
+		@Value("${jwt.denylist.false-positive-rate:0.001}") double falsePositiveRate
+	) {
+		this(partitionSeconds, expectedRevocationsPerPartition, falsePositiveRate, Clock.systemUTC());
+	}
+
+	AccessTokenDenylist(
+		long partitionSeconds,
+		int expectedRevocationsPerPartition,
+		double falsePositiveRate,
+		Clock clock
+	) {
+		this.partitionMillis = partitionSeconds * 1000;
+		this.expectedRevocationsPerPartition = expectedRevocationsPerPartition;
+		this.falsePositiveRate = falsePositiveRate;
+		this.clock = clock;
+	}
+
+	public void revoke(String tokenId, Instant expiresAt) {
+		if (tokenId == null || expiresAt == null) {
+			return;
+		}
+
+		long now = clock.millis();
+		if (!expiresAt.isAfter(Instant.ofEpochMilli(now))) {
+			return;
+		}
+
+		partitions.computeIfAbsent(partitionOf(expiresAt), key -> new Partition(
+			(key + 1) * partitionMillis,
+			new BloomFilter(expectedRevocationsPerPartition, falsePositiveRate)
+		)).add(tokenId);
+
+		evictExpired(now);
+		log.debug("Access Token 폐기 - jti: {}, expiresAt: {}", tokenId, expiresAt);
+	}
+
+	public boolean isRevoked(String tokenId, Instant expiresAt) {
+		if (tokenId == null || expiresAt == null) {
+			return false;
+		}
+
+		Partition partition = partitions.get(partitionOf(expiresAt));
+		return partition != null && partition.contains(tokenId);
+	}
+
+	int partitionCount() {
+		return partitions.size();
+	}
+
+	private long partitionOf(Instant expiresAt) {
+		return expiresAt.toEpochMilli() / partitionMillis;
+	}
+
+	private void evictExpired(long now) {
+		partitions.values().removeIf(partition -> partition.endsAt <= now);
+	}
+
+	private static final class Partition {
+
+		private final long endsAt;
+		private final BloomFilter filter;
+		private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+		private Partition(long endsAt, BloomFilter filter) {
+			this.endsAt = endsAt;
+			this.filter = filter;
+		}
+
+		private void add(String tokenId) {
+			tokenIds.add(tokenId);
+			filter.put(tokenId);
+		}
+
+		private boolean contains(String tokenId) {
+			return filter.mightContain(tokenId) && tokenIds.contains(tokenId);
+		}
+	}
+}
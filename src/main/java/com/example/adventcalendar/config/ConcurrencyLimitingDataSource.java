@@ -0,0 +1,132 @@
+package com.example.adventcalendar.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시에 커넥션을 잡을 수 있는 요청 수를 세마포어로 제한하는 DataSource.
+ *
+ * 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로 수천 개가 한꺼번에 Hikari 풀로 몰린다.
+ * 풀 앞에서 공정(FIFO) 세마포어로 줄을 세워, 먼저 온 요청부터 커넥션을 받고 acquireTimeout 을 넘기면 바로 실패한다.
+ * 허가는 커넥션을 닫을 때 한 번만 반납한다.
+ *
+ * 이미 커넥션을 잡은 스레드가 하나 더 잡으면(트랜잭션 안에서 다른 트랜잭션을 여는 경우 등) 허가를 다시 받지 않는다.
+ * 허가를 모두 쓴 상태에서 자기 자신을 기다리는 교착을 막기 위함이다. 이렇게 받은 커넥션은 풀에서 나오므로
+ * 한도는 풀 크기보다 작게 두어 중첩 획득분을 남겨야 한다 (app.db-concurrency.max-concurrent).
+ */
+@Slf4j
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+	private final Semaphore permits;
+	private final long acquireTimeoutNanos;
+	private final ThreadLocal<AtomicInteger> openConnections = ThreadLocal.withInitial(AtomicInteger::new);
+
+	public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrent, Duration acquireTimeout) {
+		super(targetDataSource);
+		this.permits = new Semaphore(maxConcurrent, true);
+		this.acquireTimeoutNanos = acquireTimeout.toNanos();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return limited(super::getConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return limited(() -> super.getConnection(username, password));
+	}
+
+	public int availablePermits() {
+		return permits.availablePermits();
+	}
+
+	public int waitingThreads() {
+		return permits.getQueueLength();
+	}
+
+	private void acquire() throws SQLException {
+		try {
+			if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				log.warn("DB 동시 사용 한도 대기 시간 초과 - waiting: {}", permits.getQueueLength());
+				throw new SQLTransientConnectionException("DB 커넥션 대기 시간을 초과했습니다");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트되었습니다", e);
+		}
+	}
+
+	private Connection limited(ConnectionSupplier supplier) throws SQLException {
+		AtomicInteger open = openConnections.get();
+		boolean nested = open.get() > 0;
+		if (!nested) {
+			acquire();
+		}
+
+		Connection connection;
+		try {
+			connection = supplier.get();
+		} catch (SQLException | RuntimeException e) {
+			if (!nested) {
+				permits.release();
+			}
+			throw e;
+		}
+		open.incrementAndGet();
+
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection)Proxy.newProxyInstance(
+			ConcurrencyLimitingDataSource.class.getClassLoader(),
+			new Class<?>[] {Connection.class},
+			(proxy, method, args) -> {
+				switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "close":
+						try {
+							return invoke(connection, method, args);
+						} finally {
+							if (released.compareAndSet(false, true)) {
+								open.decrementAndGet();
+								if (!nested) {
+									permits.release();
+								}
+							}
+						}
+					default:
+						return invoke(connection, method, args);
+				}
+			});
+	}
+
+	private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(connection, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	@FunctionalInterface
+	private interface ConnectionSupplier {
+		Connection get() throws SQLException;
+	}
+}
@@ -1,20 +1,23 @@
 package com.example.adventcalendar.config;
 
-import com.example.adventcalendar.util.EncryptionUtils;
+import com.example.adventcalendar.util.EncryptedValue;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+/**
+ * VARBINARY 암호문을 그대로 EncryptedValue 에 담아 두고, 실제 복호화는 값을 읽을 때로 미룬다.
+ */
 @Converter
-public class EncryptionConverter implements AttributeConverter<String, String> {
+public class EncryptionConverter implements AttributeConverter<EncryptedValue, byte[]> {
 
 	@Override
-	public String convertToDatabaseColumn(String attribute) {
-		return EncryptionUtils.encrypt(attribute);
+	public byte[] convertToDatabaseColumn(EncryptedValue attribute) {
+		return attribute == null ? null : attribute.cipherText();
 	}
 
 	@Override
-	public String convertToEntityAttribute(String dbData) {
-		return EncryptionUtils.decrypt(dbData);
+	public EncryptedValue convertToEntityAttribute(byte[] dbData) {
+		return EncryptedValue.ofCipherText(dbData);
 	}
 }
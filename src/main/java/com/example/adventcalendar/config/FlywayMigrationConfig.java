@@ -0,0 +1,36 @@
+package com.example.adventcalendar.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.adventcalendar.migration.V10__Canonical_letter_text;
+import com.example.adventcalendar.migration.V2__Hash_refresh_tokens;
+import com.example.adventcalendar.migration.V6__Email_blind_index;
+import com.example.adventcalendar.migration.V8__Binary_email_ciphertext;
+import com.example.adventcalendar.migration.V9__Letter_envelope_encryption;
+import com.example.adventcalendar.util.EncryptionUtils;
+import com.example.adventcalendar.util.KeyRing;
+
+/**
+ * Java 마이그레이션 등록.
+ *
+ * 암호화 키가 필요한 마이그레이션은 EncryptionUtils 의 정적 상태 대신 설정에서 만든 키 링을 생성자로 받는다.
+ * 새 Java 마이그레이션은 여기에 추가한다 (빈으로 등록하지 않는다).
+ */
+@Configuration
+public class FlywayMigrationConfig {
+
+	@Bean
+	public FlywayConfigurationCustomizer javaMigrations(EncryptionUtils encryptionUtils) {
+		KeyRing keyRing = encryptionUtils.getKeyRing();
+
+		return configuration -> configuration.javaMigrations(
+			new V2__Hash_refresh_tokens(),
+			new V6__Email_blind_index(keyRing, encryptionUtils.getBlindIndexKey()),
+			new V8__Binary_email_ciphertext(keyRing),
+			new V9__Letter_envelope_encryption(keyRing),
+			new V10__Canonical_letter_text(keyRing)
+		);
+	}
+}
@@ -9,7 +9,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -25,6 +24,7 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
+	private final AccessTokenDenylist accessTokenDenylist;
 
 	@Override
 	protected void doFilterInternal(
@@ -40,14 +40,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 				Claims claims = jwtTokenProvider.parseClaims(token);
 				String tokenType = claims.get("type", String.class);
 
-				if ("access".equals(tokenType) || "temp".equals(tokenType)) {
+				if (isRevoked(claims)) {
+					log.debug("폐기된 토큰 - jti: {}", claims.getId());
+				} else if ("access".equals(tokenType) || "temp".equals(tokenType)) {
 					Long userId = Long.parseLong(claims.getSubject());
 
-					Authentication authentication = new UsernamePasswordAuthenticationToken(
+					UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
 						userId,
 						null,
 						List.of(new SimpleGrantedAuthority("ROLE_USER"))
 					);
+					// 컨트롤러가 DB 조회 없이 status 등 토큰 claim 을 쓸 수 있게 남긴다
+					authentication.setDetails(claims);
 
 					SecurityContextHolder.getContext().setAuthentication(authentication);
 					log.debug("JWT 인증 성공 - userId: {}", userId);
@@ -61,7 +65,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
-	private String resolveToken(HttpServletRequest request) {
+	private boolean isRevoked(Claims claims) {
+		return claims.getId() != null
+			&& claims.getExpiration() != null
+			&& accessTokenDenylist.isRevoked(claims.getId(), claims.getExpiration().toInstant());
+	}
+
+	public static String resolveToken(HttpServletRequest request) {
 		String bearerToken = request.getHeader("Authorization");
 		if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
 			return bearerToken.substring(7);
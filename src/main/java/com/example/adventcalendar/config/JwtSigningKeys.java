@@ -0,0 +1,257 @@
+package com.example.adventcalendar.config;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 묶음.
+ *
+ * HS512 는 기존 공유 비밀키 방식이고, EdDSA(Ed25519) / ES256 은 비대칭 방식으로
+ * 공개키를 JWKS 로 노출해 게이트웨이나 다른 서비스가 직접 토큰을 검증할 수 있게 한다.
+ * 비대칭 모드에서는 전환 이전에 발급된 HS512 토큰을 jwt.signing.hs512-accept-until 까지만 검증하고,
+ * 그 뒤에는 공유 비밀키를 버린다. 기한을 비워 두면 HS512 토큰은 전환 즉시 거부된다.
+ */
+@Slf4j
+public final class JwtSigningKeys {
+
+	public static final String HS512 = "HS512";
+	public static final String EDDSA = "EdDSA";
+	public static final String ES256 = "ES256";
+
+	private final SignatureAlgorithm signatureAlgorithm;
+	private final String keyId;
+	private final SecretKey hmacKey;
+	private final PrivateKey privateKey;
+	private final PublicKey publicKey;
+	private final Instant legacyHmacAcceptUntil;
+	private final Clock clock;
+
+	// 비대칭 모드에서 전환 전 HS512 토큰 검증용. 허용 기한이 지나면 null 로 버린다
+	private volatile SecretKey legacyHmacKey;
+
+	private JwtSigningKeys(
+		SignatureAlgorithm signatureAlgorithm,
+		String keyId,
+		SecretKey hmacKey,
+		PrivateKey privateKey,
+		PublicKey publicKey,
+		SecretKey legacyHmacKey,
+		Instant legacyHmacAcceptUntil,
+		Clock clock
+	) {
+		this.signatureAlgorithm = signatureAlgorithm;
+		this.keyId = keyId;
+		this.hmacKey = hmacKey;
+		this.privateKey = privateKey;
+		this.publicKey = publicKey;
+		this.legacyHmacKey = legacyHmacKey;
+		this.legacyHmacAcceptUntil = legacyHmacAcceptUntil;
+		this.clock = clock;
+	}
+
+	public static JwtSigningKeys hmac(String secret) {
+		return new JwtSigningKeys(null, null, hmacKeyFor(secret), null, null, null, null, Clock.systemUTC());
+	}
+
+	/**
+	 * 전환 전 HS512 토큰을 받지 않는 구성. HS512 모드에서는 {@link #hmac(String)} 와 같다.
+	 */
+	public static JwtSigningKeys create(
+		String algorithm,
+		String secret,
+		String keyId,
+		String privateKey,
+		String publicKey
+	) {
+		return create(algorithm, secret, keyId, privateKey, publicKey, null, Clock.systemUTC());
+	}
+
+	/**
+	 * @param privateKey Base64 PKCS#8 개인키. 비어 있으면 기동 시 임시 키쌍을 생성한다 (단일 노드 개발용)
+	 * @param publicKey  Base64 X.509 공개키
+	 * @param hs512AcceptUntil 비대칭 모드에서 전환 전 HS512 토큰을 검증하는 기한. null 이면 받지 않는다.
+	 *                         전환 시각 + Refresh Token 유효 시간으로 두면 기존 로그인이 끊기지 않는다
+	 */
+	public static JwtSigningKeys create(
+		String algorithm,
+		String secret,
+		String keyId,
+		String privateKey,
+		String publicKey,
+		Instant hs512AcceptUntil,
+		Clock clock
+	) {
+		if (!StringUtils.hasText(algorithm) || HS512.equalsIgnoreCase(algorithm)) {
+			return hmac(secret);
+		}
+
+		SignatureAlgorithm signatureAlgorithm = asymmetricAlgorithm(algorithm);
+		if (!StringUtils.hasText(keyId)) {
+			throw new IllegalArgumentException("비대칭 서명 모드에서는 jwt.signing.key-id 가 필요합니다");
+		}
+
+		KeyPair keyPair;
+		if (StringUtils.hasText(privateKey) && StringUtils.hasText(publicKey)) {
+			keyPair = decodeKeyPair(signatureAlgorithm, privateKey, publicKey);
+		} else {
+			log.warn("JWT 서명 키가 설정되지 않아 임시 키쌍을 생성합니다 - 재기동 시 기존 토큰이 무효화됩니다");
+			keyPair = generateKeyPair(signatureAlgorithm);
+		}
+
+		SecretKey legacyHmacKey = null;
+		if (hs512AcceptUntil != null && clock.instant().isBefore(hs512AcceptUntil)) {
+			log.info("전환 전 HS512 토큰을 {} 까지 검증합니다", hs512AcceptUntil);
+			legacyHmacKey = hmacKeyFor(secret);
+		}
+
+		return new JwtSigningKeys(
+			signatureAlgorithm,
+			keyId,
+			null,
+			keyPair.getPrivate(),
+			keyPair.getPublic(),
+			legacyHmacKey,
+			hs512AcceptUntil,
+			clock
+		);
+	}
+
+	public boolean isAsymmetric() {
+		return privateKey != null;
+	}
+
+	public String getAlgorithm() {
+		return isAsymmetric() ? signatureAlgorithm.getId() : HS512;
+	}
+
+	public String getKeyId() {
+		return keyId;
+	}
+
+	/**
+	 * 현재 모드의 키로 서명한다. 비대칭 모드에서는 헤더에 kid 를 싣는다.
+	 */
+	JwtBuilder sign(JwtBuilder builder) {
+		if (!isAsymmetric()) {
+			return builder.signWith(hmacKey, Jwts.SIG.HS512);
+		}
+
+		return builder
+			.header().keyId(keyId).and()
+			.signWith(privateKey, signatureAlgorithm);
+	}
+
+	/**
+	 * 헤더의 alg/kid 로 검증 키를 고른다. 알 수 없는 kid 와 허용 기한이 지난 HS512 토큰은 거부한다.
+	 */
+	LocatorAdapter<Key> verificationKeyLocator() {
+		return new LocatorAdapter<>() {
+			@Override
+			protected Key locate(JwsHeader header) {
+				if (HS512.equals(header.getAlgorithm())) {
+					SecretKey key = hmacVerificationKey();
+					if (key != null) {
+						return key;
+					}
+				}
+				if (isAsymmetric()
+					&& signatureAlgorithm.getId().equals(header.getAlgorithm())
+					&& keyId.equals(header.getKeyId())) {
+					return publicKey;
+				}
+				throw new io.jsonwebtoken.security.SecurityException(
+					"알 수 없는 서명 키입니다 - alg: " + header.getAlgorithm() + ", kid: " + header.getKeyId());
+			}
+		};
+	}
+
+	private SecretKey hmacVerificationKey() {
+		if (!isAsymmetric()) {
+			return hmacKey;
+		}
+
+		SecretKey key = legacyHmacKey;
+		if (key != null && !clock.instant().isBefore(legacyHmacAcceptUntil)) {
+			legacyHmacKey = null;
+			log.info("HS512 토큰 허용 기한이 지나 공유 비밀키를 폐기합니다 - acceptUntil: {}", legacyHmacAcceptUntil);
+			return null;
+		}
+		return key;
+	}
+
+	/**
+	 * JWKS 응답에 들어갈 공개키 목록. HS512 모드에서는 공개할 키가 없다.
+	 */
+	public List<Map<String, Object>> publicJwks() {
+		if (!isAsymmetric()) {
+			return List.of();
+		}
+
+		Map<String, Object> jwk = new LinkedHashMap<>(Jwks.builder().key(publicKey).id(keyId).build());
+		jwk.put("use", "sig");
+		jwk.put("alg", signatureAlgorithm.getId());
+
+		return List.of(jwk);
+	}
+
+	private static SecretKey hmacKeyFor(String secret) {
+		return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static SignatureAlgorithm asymmetricAlgorithm(String algorithm) {
+		if (EDDSA.equalsIgnoreCase(algorithm)) {
+			return Jwts.SIG.EdDSA;
+		}
+		if (ES256.equalsIgnoreCase(algorithm)) {
+			return Jwts.SIG.ES256;
+		}
+		throw new IllegalArgumentException("지원하지 않는 JWT 서명 알고리즘입니다: " + algorithm);
+	}
+
+	private static KeyPair generateKeyPair(SignatureAlgorithm signatureAlgorithm) {
+		if (signatureAlgorithm == Jwts.SIG.EdDSA) {
+			return Jwks.CRV.Ed25519.keyPair().build();
+		}
+		return signatureAlgorithm.keyPair().build();
+	}
+
+	private static KeyPair decodeKeyPair(SignatureAlgorithm signatureAlgorithm, String privateKey, String publicKey) {
+		try {
+			KeyFactory keyFactory = KeyFactory.getInstance(signatureAlgorithm == Jwts.SIG.EdDSA ? "Ed25519" : "EC");
+			PrivateKey decodedPrivate = keyFactory.generatePrivate(
+				new PKCS8EncodedKeySpec(Base64.getDecoder().decode(stripPem(privateKey))));
+			PublicKey decodedPublic = keyFactory.generatePublic(
+				new X509EncodedKeySpec(Base64.getDecoder().decode(stripPem(publicKey))));
+			return new KeyPair(decodedPublic, decodedPrivate);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("JWT 서명 키를 읽을 수 없습니다", e);
+		}
+	}
+
+	private static String stripPem(String value) {
+		return value.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+	}
+}
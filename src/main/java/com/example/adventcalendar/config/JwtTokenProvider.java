@@ -1,29 +1,73 @@
 package com.example.adventcalendar.config;
 
+import com.example.adventcalendar.constant.UserStatus;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
-	private final SecretKey secretKey;
+	private final JwtSigningKeys signingKeys;
+	private final JwtParser parser;
 	private final long accessTokenValidityInMilliseconds;
 	private final long refreshTokenValidityInMilliseconds;
 
+	public JwtTokenProvider(
+		String secret,
+		long accessTokenValidityInSeconds,
+		long refreshTokenValidityInSeconds
+	) {
+		this(JwtSigningKeys.hmac(secret), accessTokenValidityInSeconds, refreshTokenValidityInSeconds);
+	}
+
+	@Autowired
 	public JwtTokenProvider(
 		@Value("${jwt.secret}") String secret,
 		@Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
-		@Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds
+		@Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+		@Value("${jwt.signing.algorithm:HS512}") String algorithm,
+		@Value("${jwt.signing.key-id:}") String keyId,
+		@Value("${jwt.signing.private-key:}") String privateKey,
+		@Value("${jwt.signing.public-key:}") String publicKey,
+		@Value("${jwt.signing.hs512-accept-until:}") String hs512AcceptUntil
+	) {
+		this(
+			JwtSigningKeys.create(
+				algorithm,
+				secret,
+				keyId,
+				privateKey,
+				publicKey,
+				StringUtils.hasText(hs512AcceptUntil) ? Instant.parse(hs512AcceptUntil) : null,
+				Clock.systemUTC()
+			),
+			accessTokenValidityInSeconds,
+			refreshTokenValidityInSeconds
+		);
+	}
+
+	public JwtTokenProvider(
+		JwtSigningKeys signingKeys,
+		long accessTokenValidityInSeconds,
+		long refreshTokenValidityInSeconds
 	) {
-		this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+		this.signingKeys = signingKeys;
+		this.parser = Jwts.parser()
+			.keyLocator(signingKeys.verificationKeyLocator())
+			.build();
 		this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
 		this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
 	}
@@ -32,42 +76,58 @@ public class JwtTokenProvider {
 		Date now = new Date();
 		Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
 
-		return Jwts.builder()
+		return signingKeys.sign(Jwts.builder()
 			.setSubject(userId.toString())
 			.claim("email", email)
 			.claim("oauthProvider", oauthProvider)
 			.claim("type", "access")
+			.claim("status", UserStatus.ACTIVE.name())
+			.setId(UUID.randomUUID().toString())
 			.setIssuedAt(now)
-			.setExpiration(validity)
-			.signWith(secretKey, SignatureAlgorithm.HS512)
+			.setExpiration(validity))
 			.compact();
 	}
 
 	public String createRefreshToken(Long userId) {
+		return createRefreshToken(userId, null, null);
+	}
+
+	/**
+	 * Access Token 재발급에 필요한 email/oauthProvider 를 함께 싣는다. 갱신 시 사용자 행을 읽지 않기 위함이다.
+	 */
+	public String createRefreshToken(Long userId, String email, String oauthProvider) {
 		Date now = new Date();
 		Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
 
-		return Jwts.builder()
+		// jti 로 같은 초에 발급한 토큰도 서로 다르게 해 세션 캐시 키(토큰 해시)가 겹치지 않게 한다
+		JwtBuilder builder = Jwts.builder()
 			.setSubject(userId.toString())
 			.claim("type", "refresh")
+			.setId(UUID.randomUUID().toString())
 			.setIssuedAt(now)
-			.setExpiration(validity)
-			.signWith(secretKey, SignatureAlgorithm.HS512)
-			.compact();
+			.setExpiration(validity);
+
+		if (email != null && oauthProvider != null) {
+			builder.claim("email", email)
+				.claim("oauthProvider", oauthProvider);
+		}
+
+		return signingKeys.sign(builder).compact();
 	}
 
 	public String createTempToken(Long userId, String email, String oauthProvider) {
 		Date now = new Date();
 		Date validity = new Date(now.getTime() + 5 * 60 * 1000);  // 5분
 
-		return Jwts.builder()
+		return signingKeys.sign(Jwts.builder()
 			.setSubject(userId.toString())
 			.claim("email", email)
 			.claim("oauthProvider", oauthProvider)
 			.claim("type", "temp")
+			.claim("status", UserStatus.PENDING.name())
+			.setId(UUID.randomUUID().toString())
 			.setIssuedAt(now)
-			.setExpiration(validity)
-			.signWith(secretKey, SignatureAlgorithm.HS512)
+			.setExpiration(validity))
 			.compact();
 	}
 
@@ -78,10 +138,7 @@ public class JwtTokenProvider {
 
 	public boolean validateToken(String token) {
 		try {
-			Jwts.parser()
-				.setSigningKey(secretKey)
-				.build()
-				.parseClaimsJws(token);
+			parser.parseSignedClaims(token);
 			return true;
 		} catch (Exception e) {
 			return false;
@@ -89,11 +146,14 @@ public class JwtTokenProvider {
 	}
 
 	public Claims parseClaims(String token) {
-		return Jwts.parser()
-			.setSigningKey(secretKey)
-			.build()
-			.parseClaimsJws(token)
-			.getBody();
+		return parser.parseSignedClaims(token).getPayload();
+	}
+
+	/**
+	 * 외부 검증자용 공개키 목록 (RFC 7517 JWK). HS512 모드에서는 비어 있다.
+	 */
+	public List<Map<String, Object>> getPublicJwks() {
+		return signingKeys.publicJwks();
 	}
 
 	public long getAccessTokenValidityInSeconds() {
@@ -0,0 +1,88 @@
+package com.example.adventcalendar.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * 네이버/카카오 OAuth 호출용 HTTP 클라이언트.
+ *
+ * 커넥션 풀로 keep-alive 연결을 재사용해 로그인마다 TLS 핸드셰이크를 하지 않고, 호스트(route)별 연결 수를 제한한다.
+ * 연결/응답/풀 대기 시간에 모두 상한을 두어 공급자가 느려져도 Tomcat 스레드가 오래 묶이지 않는다.
+ * 풀 상태는 httpcomponents.httpclient.pool.* 메트릭으로 노출한다 (/actuator/metrics).
+ */
+@Configuration
+public class OAuthHttpClientConfig {
+
+	public static final String POOL_NAME = "oauth";
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager oauthConnectionManager(
+		@Value("${app.oauth-http.max-total:50}") int maxTotal,
+		@Value("${app.oauth-http.max-per-route:20}") int maxPerRoute,
+		@Value("${app.oauth-http.connect-timeout-millis:2000}") long connectTimeoutMillis,
+		@Value("${app.oauth-http.read-timeout-millis:3000}") long readTimeoutMillis,
+		@Value("${app.oauth-http.time-to-live-seconds:300}") long timeToLiveSeconds,
+		MeterRegistry meterRegistry
+	) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxTotal)
+			.setMaxConnPerRoute(maxPerRoute)
+			.setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+			// 가장 최근에 쓴 연결부터 재사용해 유휴 연결이 자연스럽게 정리되게 한다
+			.setConnPoolPolicy(PoolReusePolicy.LIFO)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+				.setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+				.setValidateAfterInactivity(TimeValue.ofSeconds(10))
+				.setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+				.build())
+			.build();
+
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+		return connectionManager;
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient oauthHttpClient(
+		PoolingHttpClientConnectionManager oauthConnectionManager,
+		@Value("${app.oauth-http.connection-request-timeout-millis:1000}") long connectionRequestTimeoutMillis,
+		@Value("${app.oauth-http.read-timeout-millis:3000}") long readTimeoutMillis,
+		@Value("${app.oauth-http.idle-evict-seconds:30}") long idleEvictSeconds
+	) {
+		return HttpClients.custom()
+			.setConnectionManager(oauthConnectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+				.setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+				.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+			// 토큰 발급(POST)은 멱등하지 않으므로 자동 재시도하지 않는다
+			.disableAutomaticRetries()
+			.build();
+	}
+
+	@Bean
+	public RestTemplate oauthRestTemplate(RestTemplateBuilder builder, CloseableHttpClient oauthHttpClient) {
+		return builder
+			.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(oauthHttpClient))
+			.build();
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.adventcalendar.config;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * 최근에 쓰기 트랜잭션을 커밋한 호출자 목록. 복제 지연 동안 자기가 쓴 내용을 못 읽는 일이 없도록,
+ * 목록에 있는 호출자의 readOnly 트랜잭션은 복제본 대신 primary 로 보낸다.
+ *
+ * 인스턴스 메모리에만 보관하므로 같은 호출자의 쓰기와 읽기가 서로 다른 노드로 가면 보호되지 않는다.
+ */
+public class ReadYourWritesGuard {
+
+	private final Cache<String, Boolean> recentWriters;
+
+	public ReadYourWritesGuard(Duration window, long maxCallers) {
+		this(window, maxCallers, Ticker.systemTicker());
+	}
+
+	ReadYourWritesGuard(Duration window, long maxCallers, Ticker ticker) {
+		this.recentWriters = Caffeine.newBuilder()
+			.maximumSize(maxCallers)
+			.expireAfterWrite(window)
+			.ticker(ticker)
+			.build();
+	}
+
+	public void recordWrite(String caller) {
+		recentWriters.put(caller, Boolean.TRUE);
+	}
+
+	public boolean wroteRecently(String caller) {
+		return recentWriters.getIfPresent(caller) != null;
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.adventcalendar.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 복제본 설정 (app.datasource.replica.enabled=true).
+ *
+ * primary 는 spring.datasource.* 로, 복제본은 app.datasource.replica.* 로 각각 Hikari 풀을 만들고,
+ * 둘을 ReplicaRoutingDataSource 로 묶은 것을 기본 DataSource 로 쓴다. JPA, JdbcTemplate, Flyway 모두 이 DataSource 를 쓰며
+ * readOnly 트랜잭션만 복제본으로 간다. 복제본 URL 은 JDBC URL 이면 무엇이든 되므로 로컬/테스트에서는 내장 DB 를 쓸 수 있다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	public HikariDataSource replicaDataSource(
+		@Value("${app.datasource.replica.url}") String url,
+		@Value("${app.datasource.replica.username}") String username,
+		@Value("${app.datasource.replica.password:}") String password,
+		@Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize
+	) {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.url(url)
+			.username(username)
+			.password(password)
+			.build();
+		dataSource.setPoolName("replica");
+		dataSource.setMaximumPoolSize(maximumPoolSize);
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		@Value("${app.datasource.replica.read-your-writes-seconds:5}") long readYourWritesSeconds,
+		@Value("${app.datasource.replica.read-your-writes-max-callers:100000}") long readYourWritesMaxCallers
+	) {
+		log.info("읽기 전용 복제본 라우팅 사용 - readYourWritesSeconds: {}", readYourWritesSeconds);
+
+		ReadYourWritesGuard readYourWritesGuard = new ReadYourWritesGuard(
+			Duration.ofSeconds(readYourWritesSeconds), readYourWritesMaxCallers);
+		return new LazyConnectionDataSourceProxy(
+			new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesGuard));
+	}
+}
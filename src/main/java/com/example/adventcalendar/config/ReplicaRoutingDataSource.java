@@ -0,0 +1,68 @@
+package com.example.adventcalendar.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.adventcalendar.util.TransactionUtils;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 primary 로 보내는 DataSource.
+ *
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 가져올 때 정해져 있어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ * 쓰기 트랜잭션이 커밋되면 호출자를 ReadYourWritesGuard 에 남기고, 그 호출자의 readOnly 트랜잭션은 잠시 primary 로 보낸다.
+ * 호출자는 로그인 사용자의 userId 로 구분한다. 비로그인 요청은 보호하지 않는다. 로드 밸런서 뒤에서는 IP 로 구분할 수 없고,
+ * 가장 많은 비로그인 편지 작성이 모든 비로그인 조회를 primary 로 묶어 버리기 때문이다. 방문자가 방금 쓴 편지가 개수 조회에
+ * 복제 지연만큼 늦게 보이는 것은 감수한다.
+ *
+ * ReadYourWritesGuard 는 노드 메모리에만 있으므로 이 보호는 쓰기와 읽기가 같은 노드로 갔을 때만 유효하다.
+ * 로드 밸런서가 다음 요청을 다른 노드로 보내면 로그인 사용자라도 복제 지연만큼 예전 값을 읽는다.
+ *
+ * 그래서 방금 커밋한 행을 읽어야 하는 조회는 이 보호에 기대지 않고 readOnly 를 빼서 primary 로 보낸다.
+ * 데이터 키 경합, 토큰 재발급, 가입 직후의 /api/auth/me 와 본인 편지 목록이 여기에 해당한다.
+ * Spring Data 기본 조회 메서드도 readOnly 이므로 이런 조회는 repository 에서 @Transactional 로 덮어쓴다.
+ * 복제본에는 비로그인 공개 조회(날짜별 개수 등)처럼 잠깐 늦게 보여도 되는 읽기만 남긴다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Target {
+		PRIMARY,
+		REPLICA
+	}
+
+	private final ReadYourWritesGuard readYourWritesGuard;
+
+	public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesGuard readYourWritesGuard) {
+		this.readYourWritesGuard = readYourWritesGuard;
+		setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		String caller = currentCaller();
+
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return caller != null && readYourWritesGuard.wroteRecently(caller) ? Target.PRIMARY : Target.REPLICA;
+		}
+
+		if (caller != null) {
+			TransactionUtils.runAfterCommit(() -> readYourWritesGuard.recordWrite(caller));
+		}
+		return Target.PRIMARY;
+	}
+
+	static String currentCaller() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+			return "user:" + userId;
+		}
+		return null;
+	}
+}
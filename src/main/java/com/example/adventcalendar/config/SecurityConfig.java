@@ -6,6 +6,8 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,6 +20,7 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -34,7 +37,11 @@ public class SecurityConfig {
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
 	@Bean
-	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain filterChain(
+		HttpSecurity http,
+		@Value("${management.server.port:-1}") int managementPort,
+		@Value("${server.port:8080}") int serverPort
+	) throws Exception {
 		http
 			.csrf(AbstractHttpConfigurer::disable)
 
@@ -66,16 +73,21 @@ public class SecurityConfig {
 				.requestMatchers(HttpMethod.POST, "/api/*/letters").permitAll()
 
 				.requestMatchers(HttpMethod.GET, "/api/{uuid}/letters/count").permitAll()
+
+				.requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
 				.requestMatchers(
 					"/swagger-ui/**",
 					"/swagger-ui.html",
 					"/v3/api-docs/**",
 					"/swagger-resources/**",
 					"/webjars/**",
-					"/swagger-ui/index.html",
-					"/actuator/**"
+					"/swagger-ui/index.html"
 				).permitAll()
 
+				// actuator 는 관리 포트(기본 루프백)로만 열고, 서비스 포트에는 로드밸런서 헬스 체크 경로만 둔다
+				.requestMatchers(HttpMethod.GET, "/livez", "/readyz").permitAll()
+				.requestMatchers(managementPortEndpoints(managementPort, serverPort)).permitAll()
+
 				.anyRequest().authenticated()
 			)
 
@@ -87,6 +99,15 @@ public class SecurityConfig {
 		return http.build();
 	}
 
+	/**
+	 * 관리 포트로 들어온 actuator 요청. 관리 포트를 서비스 포트와 같게 두면 아무것도 열지 않는다.
+	 */
+	private RequestMatcher managementPortEndpoints(int managementPort, int serverPort) {
+		RequestMatcher endpoints = EndpointRequest.toAnyEndpoint();
+		boolean separatePort = managementPort > 0 && managementPort != serverPort;
+		return request -> separatePort && request.getLocalPort() == managementPort && endpoints.matches(request);
+	}
+
 	@Bean
 	public AuthenticationEntryPoint customAuthenticationEntryPoint() {
 		return (request, response, authException) -> {
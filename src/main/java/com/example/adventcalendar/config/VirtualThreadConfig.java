@@ -0,0 +1,52 @@
+package com.example.adventcalendar.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상) 전용 설정.
+ *
+ * Tomcat 요청 처리와 @Scheduled/@Async 실행기는 Spring Boot 가 가상 스레드로 바꾸고,
+ * 여기서는 DataSource 앞에 동시 사용 한도를 둬 요청이 한꺼번에 Hikari 풀로 몰리지 않게 한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+	/**
+	 * 커넥션 풀마다 한 번씩만 감싼다. 복제본 라우팅을 쓰면 primary/replica 풀에 각각 적용되고,
+	 * 그 앞의 라우팅/프록시 DataSource 에는 적용하지 않는다.
+	 */
+	@Bean
+	public static BeanPostProcessor dataSourceConcurrencyLimiter(
+		@Value("${app.db-concurrency.max-concurrent:8}") int maxConcurrent,
+		@Value("${app.db-concurrency.acquire-timeout-millis:20000}") long acquireTimeoutMillis
+	) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource
+					&& !(bean instanceof DelegatingDataSource)
+					&& !(bean instanceof AbstractRoutingDataSource)) {
+					log.info("DB 동시 사용 한도 적용 - dataSource: {}, maxConcurrent: {}", beanName, maxConcurrent);
+					return new ConcurrencyLimitingDataSource(
+						dataSource, maxConcurrent, Duration.ofMillis(acquireTimeoutMillis));
+				}
+				return bean;
+			}
+		};
+	}
+}
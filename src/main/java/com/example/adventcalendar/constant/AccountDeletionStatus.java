@@ -0,0 +1,7 @@
+package com.example.adventcalendar.constant;
+
+public enum AccountDeletionStatus {
+	PENDING,// 삭제 대기 또는 재시도 대기
+	COMPLETED,// 편지/세션/사용자 삭제 완료
+	FAILED// 재시도 횟수 초과, 수동 확인 필요
+}
@@ -2,5 +2,6 @@ package com.example.adventcalendar.constant;
 
 public enum UserStatus {
 	PENDING,// OAuth 인증 완료, 추가 정보 입력 대기
-	ACTIVE// 회원가입 완료
+	ACTIVE,// 회원가입 완료
+	DELETED// 탈퇴 요청됨, 백그라운드에서 데이터 삭제 대기
 }
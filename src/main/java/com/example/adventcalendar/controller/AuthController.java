@@ -1,21 +1,23 @@
 package com.example.adventcalendar.controller;
 
-import com.example.adventcalendar.constant.UserStatus;
+import com.example.adventcalendar.config.JwtAuthenticationFilter;
+import com.example.adventcalendar.dto.SessionDevice;
 import com.example.adventcalendar.dto.request.UserCreateRequest;
 import com.example.adventcalendar.dto.response.ApiResponse;
 import com.example.adventcalendar.dto.response.LoginResponse;
+import com.example.adventcalendar.dto.response.SessionResponse;
 import com.example.adventcalendar.dto.response.UserCreateResponse;
 import com.example.adventcalendar.dto.response.UserInfoResponse;
 import com.example.adventcalendar.dto.response.UserRegistrationResult;
-import com.example.adventcalendar.entity.User;
-import com.example.adventcalendar.exception.ResourceNotFoundException;
 import com.example.adventcalendar.exception.UnauthorizedException;
 import com.example.adventcalendar.service.AuthService;
-import com.example.adventcalendar.repository.UserRepository;
+import com.example.adventcalendar.service.UserInfoService;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +26,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.view.RedirectView;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 
+import java.util.List;
+
 @Slf4j
 @Tag(name = "인증", description = "OAuth2 소셜 로그인 API")
 @RestController
@@ -34,7 +39,7 @@ import org.springframework.http.ResponseCookie;
 public class AuthController {
 
 	private final AuthService authService;
-	private final UserRepository userRepository;
+	private final UserInfoService userInfoService;
 
 	@Value("${app.frontend.url}")
 	private String frontendUrl;
@@ -86,12 +91,15 @@ public class AuthController {
 	public RedirectView naverCallback(
 		@Parameter(description = "Authorization code") @RequestParam String code,
 		@Parameter(description = "State parameter") @RequestParam String state,
+		@CookieValue(name = "deviceId", required = false) String deviceId,
+		HttpServletRequest request,
 		HttpServletResponse response
 	) {
 		try {
 			log.info("네이버 OAuth 콜백 처리 시작 - code: {}, state: {}", code, state);
 
-			LoginResponse loginResponse = authService.handleNaverCallback(code, state);
+			SessionDevice device = resolveDevice(deviceId, request, response);
+			LoginResponse loginResponse = authService.handleNaverCallback(code, state, device);
 
 			if (loginResponse.isExistingUser()) {
 				setRefreshTokenCookie(response, loginResponse.refreshToken());
@@ -118,12 +126,15 @@ public class AuthController {
 	@GetMapping("/oauth/kakao/callback")
 	public RedirectView kakaoCallback(
 		@Parameter(description = "Authorization code") @RequestParam String code,
+		@CookieValue(name = "deviceId", required = false) String deviceId,
+		HttpServletRequest request,
 		HttpServletResponse response
 	) {
 		try {
 			log.info("카카오 OAuth 콜백 처리 시작 - code: {}", code);
 
-			LoginResponse loginResponse = authService.handleKakaoCallback(code);
+			SessionDevice device = resolveDevice(deviceId, request, response);
+			LoginResponse loginResponse = authService.handleKakaoCallback(code, device);
 
 			if (loginResponse.isExistingUser()) {
 				setRefreshTokenCookie(response, loginResponse.refreshToken());
@@ -151,6 +162,8 @@ public class AuthController {
 	public ApiResponse<UserCreateResponse> createUser(
 		@Parameter(description = "현재 로그인된 사용자 ID", hidden = true) Authentication authentication,
 		@Parameter(description = "사용자 정보", required = true) @Valid @RequestBody UserCreateRequest request,
+		@CookieValue(name = "deviceId", required = false) String deviceId,
+		HttpServletRequest httpRequest,
 		HttpServletResponse response
 	) {
 		if (authentication == null || authentication.getPrincipal() == null) {
@@ -160,7 +173,8 @@ public class AuthController {
 		Long userId = (Long) authentication.getPrincipal();
 		log.info("신규 사용자 등록 요청 - userId: {}, 이름: {}, 색상: {}", userId, request.getName(), request.getColor());
 
-		UserRegistrationResult result = authService.completeUserRegistration(userId, request);
+		SessionDevice device = resolveDevice(deviceId, httpRequest, response);
+		UserRegistrationResult result = authService.completeUserRegistration(userId, request, device);
 
 		// tempToken 쿠키 삭제
 		ResponseCookie deleteTempToken = ResponseCookie.from("tempToken", "")
@@ -192,16 +206,13 @@ public class AuthController {
 		}
 
 		Long userId = (Long) authentication.getPrincipal();
-		log.info("현재 사용자 정보 조회 요청 - userId: {}", userId);
-
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 사용자입니다"));
+		log.debug("현재 사용자 정보 조회 요청 - userId: {}", userId);
 
-		if (user.getStatus() != UserStatus.ACTIVE) {
-			throw new IllegalStateException("회원가입을 완료해주세요");
-		}
+		String tokenStatus = authentication.getDetails() instanceof Claims claims
+			? claims.get("status", String.class)
+			: null;
 
-		UserInfoResponse response = UserInfoResponse.fromEntity(user);
+		UserInfoResponse response = userInfoService.getCurrentUser(userId, tokenStatus);
 
 		return ApiResponse.success(response);
 	}
@@ -231,6 +242,7 @@ public class AuthController {
 	@PostMapping("/logout")
 	public ApiResponse<Void> logout(
 		@CookieValue(name = "refreshToken", required = false) String refreshToken,
+		HttpServletRequest request,
 		HttpServletResponse response
 	) {
 		log.info("로그아웃 요청");
@@ -239,6 +251,8 @@ public class AuthController {
 			authService.logout(refreshToken);
 		}
 
+		authService.revokeAccessToken(JwtAuthenticationFilter.resolveToken(request));
+
 		// 쿠키 삭제 - ResponseCookie 사용
 		ResponseCookie deleteRefreshToken = ResponseCookie.from("refreshToken", "")
 			.httpOnly(true)
@@ -264,10 +278,45 @@ public class AuthController {
 		return ApiResponse.success();
 	}
 
+	@Operation(summary = "로그인 세션 목록", description = "로그인된 기기별 세션을 최근 사용 순으로 조회합니다")
+	@GetMapping("/sessions")
+	public ApiResponse<List<SessionResponse>> getSessions(
+		@Parameter(description = "현재 로그인된 사용자 ID", hidden = true) Authentication authentication,
+		@CookieValue(name = "refreshToken", required = false) String refreshToken
+	) {
+		if (authentication == null || authentication.getPrincipal() == null) {
+			throw new UnauthorizedException("인증이 필요합니다");
+		}
+
+		Long userId = (Long) authentication.getPrincipal();
+		log.info("세션 목록 조회 요청 - userId: {}", userId);
+
+		return ApiResponse.success(authService.getSessions(userId, refreshToken));
+	}
+
+	@Operation(summary = "로그인 세션 종료", description = "특정 기기의 세션을 종료합니다")
+	@DeleteMapping("/sessions/{sessionId}")
+	public ApiResponse<Void> revokeSession(
+		@Parameter(description = "현재 로그인된 사용자 ID", hidden = true) Authentication authentication,
+		@Parameter(description = "종료할 세션 ID") @PathVariable Long sessionId
+	) {
+		if (authentication == null || authentication.getPrincipal() == null) {
+			throw new UnauthorizedException("인증이 필요합니다");
+		}
+
+		Long userId = (Long) authentication.getPrincipal();
+		log.info("세션 종료 요청 - userId: {}, sessionId: {}", userId, sessionId);
+
+		authService.revokeSession(userId, sessionId);
+
+		return ApiResponse.success();
+	}
+
 	@Operation(summary = "회원 탈퇴", description = "회원 탈퇴 및 모든 데이터를 삭제합니다")
 	@DeleteMapping("/users")
 	public ApiResponse<Void> deleteUser(
 		@Parameter(description = "현재 로그인된 사용자 ID", hidden = true) Authentication authentication,
+		HttpServletRequest request,
 		HttpServletResponse response
 	) {
 		if (authentication == null || authentication.getPrincipal() == null) {
@@ -278,6 +327,7 @@ public class AuthController {
 		log.info("회원 탈퇴 요청 - userId: {}", userId);
 
 		authService.deleteUser(userId);
+		authService.revokeAccessToken(JwtAuthenticationFilter.resolveToken(request));
 
 		// 쿠키 삭제
 		ResponseCookie deleteRefreshToken = ResponseCookie.from("refreshToken", "")
@@ -304,6 +354,24 @@ public class AuthController {
 		return ApiResponse.success();
 	}
 
+	private SessionDevice resolveDevice(String deviceId, HttpServletRequest request, HttpServletResponse response) {
+		if (deviceId == null || deviceId.isBlank() || deviceId.length() > 36) {
+			deviceId = java.util.UUID.randomUUID().toString();
+
+			ResponseCookie cookie = ResponseCookie.from("deviceId", deviceId)
+				.httpOnly(true)
+				.secure(true)
+				.path("/")
+				.maxAge(365 * 24 * 60 * 60)  // 1년
+				.sameSite("Lax")
+				.build();
+
+			response.addHeader("Set-Cookie", cookie.toString());
+		}
+
+		return SessionDevice.of(deviceId, request.getHeader(HttpHeaders.USER_AGENT));
+	}
+
 	private void setTempTokenCookie(HttpServletResponse response, String tempToken) {
 		ResponseCookie cookie = ResponseCookie.from("tempToken", tempToken)
 			.httpOnly(true)
@@ -0,0 +1,31 @@
+package com.example.adventcalendar.controller;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.adventcalendar.config.JwtTokenProvider;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "인증", description = "OAuth2 소셜 로그인 API")
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+	private final JwtTokenProvider jwtTokenProvider;
+
+	@Operation(summary = "JWT 공개키 조회", description = "게이트웨이 등 외부 검증자가 사용할 JWK Set 을 반환합니다 (비대칭 서명 모드에서만 키가 존재)")
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<Map<String, Object>> getJwks() {
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.maxAge(10, TimeUnit.MINUTES).cachePublic())
+			.body(Map.of("keys", jwtTokenProvider.getPublicJwks()));
+	}
+}
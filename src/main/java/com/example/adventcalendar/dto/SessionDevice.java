@@ -0,0 +1,25 @@
+package com.example.adventcalendar.dto;
+
+import java.util.UUID;
+
+/**
+ * 로그인 세션을 구분하는 기기 정보. deviceId 는 deviceId 쿠키로 유지된다.
+ */
+public record SessionDevice(
+	String deviceId,
+	String deviceName
+) {
+	private static final int MAX_DEVICE_NAME_LENGTH = 100;
+
+	public static SessionDevice of(String deviceId, String userAgent) {
+		String deviceName = userAgent;
+		if (deviceName != null && deviceName.length() > MAX_DEVICE_NAME_LENGTH) {
+			deviceName = deviceName.substring(0, MAX_DEVICE_NAME_LENGTH);
+		}
+		return new SessionDevice(deviceId, deviceName);
+	}
+
+	public static SessionDevice unknown() {
+		return new SessionDevice(UUID.randomUUID().toString(), null);
+	}
+}
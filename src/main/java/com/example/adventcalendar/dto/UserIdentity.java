@@ -0,0 +1,24 @@
+package com.example.adventcalendar.dto;
+
+import com.example.adventcalendar.entity.User;
+
+/**
+ * 재로그인 시 토큰 발급에 필요한 사용자 정보만 담은 값. User 행 대신 UserIdentityCache 에 보관한다.
+ */
+public record UserIdentity(
+	Long userId,
+	String email,
+	String oauthProvider,
+	String oauthId,
+	String shareUuid
+) {
+	public static UserIdentity from(User user) {
+		return new UserIdentity(
+			user.getId(),
+			user.getEmail(),
+			user.getOauthProvider(),
+			user.getOauthId(),
+			user.getShareUuid()
+		);
+	}
+}
@@ -3,6 +3,7 @@ package com.example.adventcalendar.dto.response;
 import java.time.LocalDateTime;
 
 import com.example.adventcalendar.entity.Letter;
+import com.example.adventcalendar.util.XssUtils;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 import lombok.AllArgsConstructor;
@@ -23,11 +24,14 @@ public class LetterResponse {
 	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
 	private LocalDateTime createdAt;
 
+	/**
+	 * 편지는 원문 그대로 저장하고 응답을 만들 때 HTML 이스케이프한다. 결과는 LetterRenderer 가 (사용자 id, 편지 id) 로 캐시한다.
+	 */
 	public static LetterResponse fromEntity(Letter letter) {
 		return LetterResponse.builder()
 			.day(letter.getDay())
-			.content(letter.getContent())
-			.fromName(letter.getFromName())
+			.content(XssUtils.sanitizeHtml(letter.getContent()))
+			.fromName(XssUtils.sanitizeHtml(letter.getFromName()))
 			.createdAt(letter.getCreatedAt())
 			.build();
 	}
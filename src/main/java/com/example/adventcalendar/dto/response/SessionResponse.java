@@ -0,0 +1,29 @@
+package com.example.adventcalendar.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.example.adventcalendar.entity.RefreshToken;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record SessionResponse(
+	Long id,
+	String deviceName,
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	LocalDateTime createdAt,
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	LocalDateTime lastUsedAt,
+	@JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	LocalDateTime expiresAt,
+	boolean current
+) {
+	public static SessionResponse fromEntity(RefreshToken session, String currentRefreshToken) {
+		return new SessionResponse(
+			session.getId(),
+			session.getDeviceName(),
+			session.getCreatedAt(),
+			session.getLastUsedAt(),
+			session.getExpiresAt(),
+			session.matches(currentRefreshToken)
+		);
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.adventcalendar.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.adventcalendar.constant.AccountDeletionStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 탈퇴 후 남은 데이터 삭제 작업. 사용자 행이 지워진 뒤에도 진행 기록으로 남는다.
+ */
+@Entity
+@Table(name = "account_deletions", indexes = {
+	@Index(name = "idx_account_deletions_status_next", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountDeletion extends BaseEntity {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	@Id
+	private Long userId;
+
+	@Column(nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private AccountDeletionStatus status;
+
+	@Column(nullable = false)
+	private long lettersPurged;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	public static AccountDeletion request(Long userId) {
+		AccountDeletion deletion = new AccountDeletion();
+		deletion.userId = userId;
+		deletion.status = AccountDeletionStatus.PENDING;
+		deletion.nextAttemptAt = LocalDateTime.now();
+		return deletion;
+	}
+
+	public void addLettersPurged(int count) {
+		this.lettersPurged += count;
+	}
+
+	public void complete() {
+		this.status = AccountDeletionStatus.COMPLETED;
+		this.lastError = null;
+	}
+
+	/**
+	 * 실패 횟수를 올리고 다음 시도 시각을 정한다. maxAttempts 에 도달하면 FAILED 로 멈춘다.
+	 */
+	public void fail(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+		this.attempts++;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+		this.nextAttemptAt = nextAttemptAt;
+
+		if (this.attempts >= maxAttempts) {
+			this.status = AccountDeletionStatus.FAILED;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.adventcalendar.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 암호화 키별 재암호화 진행 위치. nextId 미만의 users 행은 모두 해당 키로 다시 암호화되었고,
+ * dataKeyNextId 미만의 user_data_keys 행은 모두 해당 키로 다시 감싸졌다. 두 단계가 모두 끝나야 완료된다.
+ */
+@Entity
+@Table(name = "key_rotation_progress")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KeyRotationProgress extends BaseEntity {
+
+	@Id
+	@Column(length = 16)
+	private String keyId;
+
+	@Column(nullable = false)
+	private long nextId;
+
+	@Column(nullable = false)
+	private long rowsRewritten;
+
+	@Column(nullable = false)
+	private long dataKeyNextId;
+
+	private LocalDateTime completedAt;
+
+	public static KeyRotationProgress start(String keyId) {
+		KeyRotationProgress progress = new KeyRotationProgress();
+		progress.keyId = keyId;
+		progress.nextId = 0;
+		return progress;
+	}
+
+	public boolean isCompleted() {
+		return completedAt != null;
+	}
+
+	public void checkpoint(long nextId, long rowsRewritten) {
+		this.nextId = nextId;
+		this.rowsRewritten += rowsRewritten;
+	}
+
+	public void checkpointDataKeys(long dataKeyNextId, long rowsRewritten) {
+		this.dataKeyNextId = dataKeyNextId;
+		this.rowsRewritten += rowsRewritten;
+	}
+
+	public void complete() {
+		this.completedAt = LocalDateTime.now();
+	}
+}
@@ -10,12 +10,16 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import com.example.adventcalendar.util.DataKey;
+
 @Entity
 @Table(name = "letters", indexes = {
 	@Index(name = "idx_user_id", columnList = "user_id"),
@@ -42,6 +46,29 @@ public class Letter extends BaseEntity {
 	@Column(nullable = false, length = 100)
 	private String fromName;
 
-	@Column(nullable = false, columnDefinition = "LONGTEXT")
+	// 사용자 데이터 키로 암호화한 내용. 평문은 seal/open 으로만 오간다
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	@Column(name = "content", nullable = false, columnDefinition = "MEDIUMBLOB")
+	private byte[] sealedContent;
+
+	@Transient
 	private String content;
+
+	/**
+	 * 저장 전에 평문 내용을 암호화한다.
+	 */
+	public void seal(DataKey dataKey) {
+		this.sealedContent = dataKey.encrypt(content);
+	}
+
+	/**
+	 * 조회한 편지의 내용을 복호화한다. 이미 평문이 있으면(방금 작성한 편지 등) 그대로 쓴다.
+	 */
+	public String open(DataKey dataKey) {
+		if (content == null && sealedContent != null) {
+			content = dataKey.decrypt(sealedContent);
+		}
+		return content;
+	}
 }
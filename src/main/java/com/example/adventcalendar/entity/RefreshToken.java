@@ -1,5 +1,6 @@
 package com.example.adventcalendar.entity;
 
+import com.example.adventcalendar.util.HashUtils;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,12 +8,18 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
+/**
+ * 로그인 세션. 사용자 + 기기(deviceId) 당 한 행이며, 재로그인 시 같은 행의 토큰을 교체한다.
+ */
 @Entity
-@Table(name = "refresh_tokens", indexes = {
-	@Index(name = "idx_user_id", columnList = "user_id"),
-	@Index(name = "idx_token", columnList = "token")
+@Table(name = "refresh_tokens", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_refresh_tokens_user_device", columnNames = {"user_id", "device_id"})
+}, indexes = {
+	@Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
 })
 @Getter
 @Setter
@@ -28,9 +35,40 @@ public class RefreshToken extends BaseEntity {
 	@Column(nullable = false)
 	private Long userId;
 
-	@Column(nullable = false, unique = true, length = 500)
-	private String token;
+	@Column(nullable = false, length = 36)
+	@Builder.Default
+	private String deviceId = UUID.randomUUID().toString();
+
+	@Column(length = 100)
+	private String deviceName;
+
+	// 원문 JWT 대신 SHA-256 해시만 저장 (고정 32바이트 유니크 인덱스)
+	@Column(nullable = false, unique = true, columnDefinition = "BINARY(32)")
+	private byte[] tokenHash;
 
 	@Column(nullable = false)
 	private LocalDateTime expiresAt;
+
+	@Column(nullable = false)
+	@Builder.Default
+	private LocalDateTime lastUsedAt = LocalDateTime.now();
+
+	public boolean matches(String token) {
+		return token != null && MessageDigest.isEqual(tokenHash, HashUtils.sha256(token));
+	}
+
+	public void rotate(String token, LocalDateTime expiresAt, String deviceName) {
+		this.tokenHash = HashUtils.sha256(token);
+		this.expiresAt = expiresAt;
+		this.deviceName = deviceName;
+		this.lastUsedAt = LocalDateTime.now();
+	}
+
+	public static class RefreshTokenBuilder {
+
+		public RefreshTokenBuilder token(String token) {
+			this.tokenHash = HashUtils.sha256(token);
+			return this;
+		}
+	}
 }
@@ -0,0 +1,31 @@
+package com.example.adventcalendar.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 실행권. lockedUntil 이 지나기 전까지는 owner 노드만 작업을 실행한다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+	@Id
+	@Column(length = 64)
+	private String name;
+
+	@Column(nullable = false, length = 100)
+	private String owner;
+
+	@Column(nullable = false)
+	private LocalDateTime lockedUntil;
+}
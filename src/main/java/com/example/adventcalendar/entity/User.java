@@ -4,6 +4,8 @@ import java.util.UUID;
 
 import com.example.adventcalendar.config.EncryptionConverter;
 import com.example.adventcalendar.constant.UserStatus;
+import com.example.adventcalendar.util.EncryptedValue;
+import com.example.adventcalendar.util.EncryptionUtils;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
@@ -13,16 +15,25 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
+// 바뀐 컬럼만 UPDATE 한다. 키 교체(EncryptionKeyRotator)가 email 을 다시 암호화한 뒤, 그 전에 읽어 둔 엔티티를
+// 저장해도 이전 키 암호문으로 되돌리지 않도록 한다
+@DynamicUpdate
 @Entity
 @Table(name = "users", indexes = {
-	@Index(name = "idx_email", columnList = "email"),
+	@Index(name = "idx_users_email_hash", columnList = "email_hash"),
 	@Index(name = "idx_oauth_id", columnList = "oauth_provider, oauth_id"),
 	@Index(name = "idx_share_uuid", columnList = "share_uuid")
 })
@@ -37,9 +48,13 @@ public class User extends BaseEntity {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@Column(nullable = false, length = 255)
+	@Column(nullable = false, columnDefinition = "VARBINARY(300)")
 	@Convert(converter = EncryptionConverter.class)
-	private String email;
+	private EncryptedValue email;
+
+	// 암호문은 IV 가 매번 달라 검색할 수 없으므로 이메일 조회는 이 blind index 로 한다
+	@Column(nullable = false, columnDefinition = "BINARY(32)")
+	private byte[] emailHash;
 
 	@Column(nullable = false, length = 50)
 	private String name;
@@ -61,10 +76,55 @@ public class User extends BaseEntity {
 	@Builder.Default
 	private UserStatus status = UserStatus.PENDING;
 
+	// emailHash 를 마지막으로 계산한 email 값. 이메일이 바뀌지 않았으면 갱신 시 복호화하지 않는다
+	@Transient
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private EncryptedValue hashedEmail;
+
+	public String getEmail() {
+		return email == null ? null : email.plain();
+	}
+
+	public void setEmail(String email) {
+		this.email = EncryptedValue.ofPlainText(email);
+	}
+
+	@PostLoad
+	void markEmailHashed() {
+		this.hashedEmail = email;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void updateEmailHash() {
+		if (email != hashedEmail) {
+			this.emailHash = EncryptionUtils.emailBlindIndex(getEmail());
+			this.hashedEmail = email;
+		}
+	}
+
 	public void completeRegistration(String name, String selectedColor) {
 		this.name = name;
 		this.selectedColor = selectedColor;
 		this.shareUuid = UUID.randomUUID().toString();
 		this.status = UserStatus.ACTIVE;
 	}
+
+	/**
+	 * 탈퇴 표시만 남긴다. 공유 링크를 끊고 OAuth 식별자를 비워 같은 계정으로 바로 재가입할 수 있게 한다.
+	 */
+	public void markDeleted() {
+		this.shareUuid = null;
+		this.oauthId = "deleted:" + this.id;
+		this.status = UserStatus.DELETED;
+	}
+
+	public static class UserBuilder {
+
+		public UserBuilder email(String email) {
+			this.email = EncryptedValue.ofPlainText(email);
+			return this;
+		}
+	}
 }
@@ -0,0 +1,30 @@
+package com.example.adventcalendar.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 편지 암호화 키. 마스터 키로 감싼(wrapped) 상태로만 저장한다.
+ */
+@Entity
+@Table(name = "user_data_keys")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserDataKey {
+
+	@Id
+	private Long userId;
+
+	@Column(nullable = false, columnDefinition = "VARBINARY(80)")
+	private byte[] wrappedKey;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+}
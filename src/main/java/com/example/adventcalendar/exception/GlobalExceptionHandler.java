@@ -106,6 +106,22 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
 	}
 
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+		ServiceUnavailableException ex,
+		HttpServletRequest request
+	) {
+		ErrorResponse errorResponse = ErrorResponse.of(
+			HttpStatus.SERVICE_UNAVAILABLE.value(),
+			ex.getMessage(),
+			"SERVICE_UNAVAILABLE",
+			request.getRequestURI()
+		);
+
+		log.warn("외부 서비스 일시 불가: {}", ex.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+	}
+
 	@ExceptionHandler(IllegalArgumentException.class)
 	public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
 		IllegalArgumentException ex,
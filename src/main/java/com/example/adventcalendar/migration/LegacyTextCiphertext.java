@@ -0,0 +1,69 @@
+package com.example.adventcalendar.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.adventcalendar.util.EncryptionUtils;
+import com.example.adventcalendar.util.KeyRing;
+
+/**
+ * V8 이전 users.email 의 문자열 암호문 형식. V6, V8 마이그레이션에서만 쓴다.
+ *
+ * 형식은 $keyId$<base64(iv + 암호문 + 태그)> 이고, 헤더가 없으면 legacy 키로 암호화된 값이다.
+ * iv 와 암호문 배치가 EncryptionUtils 바이너리 형식과 같으므로 복호화 없이 헤더만 바꿔 옮길 수 있다.
+ */
+final class LegacyTextCiphertext {
+
+	// '$' 는 Base64 문자가 아니므로 헤더 없는 예전 암호문과 구분된다
+	private static final char HEADER_MARK = '$';
+	private static final byte BINARY_VERSION = 1;
+
+	private LegacyTextCiphertext() {
+	}
+
+	/**
+	 * 바이너리 형식([버전 1B][키 ID 길이 1B][키 ID][iv 12B][암호문 + 태그 16B])으로 옮긴다.
+	 * 헤더가 없으면 키 링의 legacy 키 ID 를 붙인다.
+	 */
+	static byte[] toBinary(KeyRing keyRing, String encryptedText) {
+		if (encryptedText == null) {
+			return null;
+		}
+
+		String keyId = keyIdOf(encryptedText);
+		String body = encryptedText;
+		if (keyId == null) {
+			keyId = keyRing.getLegacyKeyId();
+		} else {
+			body = encryptedText.substring(keyId.length() + 2);
+		}
+
+		byte[] keyIdBytes = keyId.getBytes(StandardCharsets.US_ASCII);
+		byte[] decoded = Base64.getDecoder().decode(body);
+
+		byte[] output = new byte[2 + keyIdBytes.length + decoded.length];
+		output[0] = BINARY_VERSION;
+		output[1] = (byte)keyIdBytes.length;
+		System.arraycopy(keyIdBytes, 0, output, 2, keyIdBytes.length);
+		System.arraycopy(decoded, 0, output, 2 + keyIdBytes.length, decoded.length);
+		return output;
+	}
+
+	static String decrypt(KeyRing keyRing, String encryptedText) {
+		return EncryptionUtils.decryptBytes(keyRing, toBinary(keyRing, encryptedText));
+	}
+
+	/**
+	 * 헤더의 키 ID. 헤더가 없는 예전 암호문이면 null.
+	 */
+	private static String keyIdOf(String encryptedText) {
+		if (encryptedText.isEmpty() || encryptedText.charAt(0) != HEADER_MARK) {
+			return null;
+		}
+		int end = encryptedText.indexOf(HEADER_MARK, 1);
+		if (end < 0) {
+			throw new IllegalArgumentException("암호문 헤더가 잘못되었습니다");
+		}
+		return encryptedText.substring(1, end);
+	}
+}
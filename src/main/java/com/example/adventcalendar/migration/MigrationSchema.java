@@ -0,0 +1,61 @@
+package com.example.adventcalendar.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Java 마이그레이션이 현재 스키마를 보고 이미 끝난 DDL 단계를 건너뛰도록 information_schema 를 조회한다.
+ *
+ * MySQL DDL 은 바로 커밋되므로 중간에 실패하면 스키마가 반쯤 바뀐 채 남는다. flyway repair 후 다시 돌 때
+ * 각 단계를 이 조회로 감싸 두면 남은 단계부터 이어서 진행한다.
+ */
+final class MigrationSchema {
+
+	private MigrationSchema() {
+	}
+
+	static boolean tableExists(Connection connection, String table) throws SQLException {
+		return exists(connection,
+			"SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+			table);
+	}
+
+	static boolean columnExists(Connection connection, String table, String column) throws SQLException {
+		return columnType(connection, table, column) != null;
+	}
+
+	/**
+	 * 컬럼의 data_type (소문자, 예: varchar, varbinary). 컬럼이 없으면 null.
+	 */
+	static String columnType(Connection connection, String table, String column) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(
+			"SELECT data_type FROM information_schema.columns"
+				+ " WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?")) {
+			statement.setString(1, table);
+			statement.setString(2, column);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next() ? resultSet.getString(1).toLowerCase() : null;
+			}
+		}
+	}
+
+	static boolean indexExists(Connection connection, String table, String index) throws SQLException {
+		return exists(connection,
+			"SELECT 1 FROM information_schema.statistics"
+				+ " WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+			table, index);
+	}
+
+	private static boolean exists(Connection connection, String sql, String... params) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			for (int i = 0; i < params.length; i++) {
+				statement.setString(i + 1, params[i]);
+			}
+			try (ResultSet resultSet = statement.executeQuery()) {
+				return resultSet.next();
+			}
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.adventcalendar.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import com.example.adventcalendar.util.DataKey;
+import com.example.adventcalendar.util.KeyRing;
+import com.example.adventcalendar.util.XssUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작성 시 HTML 이스케이프되어 저장된 편지 내용/보낸 사람을 원문으로 되돌린다. 이후 이스케이프는 응답을 만들 때 한다.
+ *
+ * 내용은 사용자 데이터 키로 암호화되어 있으므로 (user_id, id) 순서로 훑으면서 사용자가 바뀔 때만 키를 풀고,
+ * 복호화 - 디코딩 - 재암호화한다. 바뀐 행만 갱신하며 배치마다 커밋한다.
+ *
+ * unescapeHtml 은 멱등이 아니라("&amp;lt;" → "&lt;" → "<") 변환한 행을 다시 디코딩하면 내용이 바뀐다.
+ * 그래서 마지막으로 처리한 (user_id, id) 를 letter_canonical_progress 에 편지 갱신과 같은 트랜잭션으로 남기고,
+ * 중간에 실패해 flyway repair 후 다시 돌면 그 다음 행부터 이어서 한다. 끝나면 completed_at 을 남겨 다시 돌아도 아무것도 하지 않는다.
+ */
+@Slf4j
+public class V10__Canonical_letter_text extends BaseJavaMigration {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final KeyRing keyRing;
+
+	public V10__Canonical_letter_text(KeyRing keyRing) {
+		this.keyRing = keyRing;
+	}
+
+	@Override
+	public boolean canExecuteInTransaction() {
+		return false;
+	}
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		Connection connection = context.getConnection();
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS letter_canonical_progress ("
+				+ " id TINYINT NOT NULL,"
+				+ " last_user_id BIGINT NOT NULL,"
+				+ " last_id BIGINT NOT NULL,"
+				+ " completed_at DATETIME(6) NULL,"
+				+ " PRIMARY KEY (id)"
+				+ ") ENGINE = InnoDB");
+			statement.execute("INSERT IGNORE INTO letter_canonical_progress (id, last_user_id, last_id) VALUES (1, 0, 0)");
+		}
+
+		long lastUserId;
+		long lastId;
+		try (
+			Statement statement = connection.createStatement();
+			ResultSet resultSet = statement.executeQuery(
+				"SELECT last_user_id, last_id, completed_at FROM letter_canonical_progress WHERE id = 1")
+		) {
+			resultSet.next();
+			if (resultSet.getTimestamp("completed_at") != null) {
+				log.info("편지 원문 복원은 이미 끝났습니다 - completedAt: {}", resultSet.getTimestamp("completed_at"));
+				return;
+			}
+			lastUserId = resultSet.getLong("last_user_id");
+			lastId = resultSet.getLong("last_id");
+		}
+
+		if (lastUserId > 0) {
+			log.info("편지 원문 복원 이어서 진행 - lastUserId: {}, lastId: {}", lastUserId, lastId);
+		}
+
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+
+		long scanned = 0;
+		long rewritten = 0;
+		DataKey dataKey = null;
+
+		try (
+			PreparedStatement select = connection.prepareStatement(
+				"SELECT id, user_id, content, from_name FROM letters"
+					+ " WHERE user_id > ? OR (user_id = ? AND id > ?)"
+					+ " ORDER BY user_id, id LIMIT " + BATCH_SIZE);
+			PreparedStatement selectKey = connection.prepareStatement(
+				"SELECT wrapped_key FROM user_data_keys WHERE user_id = ?");
+			PreparedStatement update = connection.prepareStatement(
+				"UPDATE letters SET content = ?, from_name = ? WHERE id = ?");
+			PreparedStatement saveProgress = connection.prepareStatement(
+				"UPDATE letter_canonical_progress SET last_user_id = ?, last_id = ? WHERE id = 1")
+		) {
+			while (true) {
+				select.setLong(1, lastUserId);
+				select.setLong(2, lastUserId);
+				select.setLong(3, lastId);
+
+				int rows = 0;
+				try (ResultSet resultSet = select.executeQuery()) {
+					while (resultSet.next()) {
+						long userId = resultSet.getLong("user_id");
+						if (dataKey == null || userId != lastUserId) {
+							dataKey = loadDataKey(selectKey, userId);
+						}
+
+						lastUserId = userId;
+						lastId = resultSet.getLong("id");
+						rows++;
+
+						String content = dataKey.decrypt(resultSet.getBytes("content"));
+						String fromName = resultSet.getString("from_name");
+						String canonicalContent = XssUtils.unescapeHtml(content);
+						String canonicalFromName = XssUtils.unescapeHtml(fromName);
+						if (Objects.equals(content, canonicalContent) && Objects.equals(fromName, canonicalFromName)) {
+							continue;
+						}
+
+						update.setBytes(1, dataKey.encrypt(canonicalContent));
+						update.setString(2, canonicalFromName);
+						update.setLong(3, lastId);
+						update.addBatch();
+						rewritten++;
+					}
+				}
+
+				if (rows == 0) {
+					break;
+				}
+
+				update.executeBatch();
+				saveProgress.setLong(1, lastUserId);
+				saveProgress.setLong(2, lastId);
+				saveProgress.executeUpdate();
+				connection.commit();
+				scanned += rows;
+			}
+
+			try (PreparedStatement complete = connection.prepareStatement(
+				"UPDATE letter_canonical_progress SET completed_at = ? WHERE id = 1")) {
+				complete.setTimestamp(1, Timestamp.valueOf(LocalDateTime.now()));
+				complete.executeUpdate();
+			}
+			connection.commit();
+		} catch (Exception e) {
+			// setAutoCommit(true) 가 남은 갱신을 커밋하지 않도록 진행 위치와 함께 되돌린다
+			connection.rollback();
+			throw e;
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+
+		log.info("편지 원문 복원 완료 - scanned: {}, rewritten: {}", scanned, rewritten);
+	}
+
+	private DataKey loadDataKey(PreparedStatement selectKey, long userId) throws Exception {
+		selectKey.setLong(1, userId);
+		try (ResultSet resultSet = selectKey.executeQuery()) {
+			if (!resultSet.next()) {
+				throw new IllegalStateException("데이터 키가 없는 사용자의 편지입니다 - userId: " + userId);
+			}
+			return DataKey.unwrap(keyRing, resultSet.getBytes("wrapped_key"));
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.example.adventcalendar.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import com.example.adventcalendar.util.HashUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * refresh_tokens.token(VARCHAR(500)) 을 SHA-256 해시(BINARY(32)) 로 교체한다.
+ *
+ * 기존 행은 id 순서로 BATCH_SIZE 씩 끊어서 채우고, 배치마다 커밋해 긴 잠금을 피한다.
+ * token 컬럼을 지우면 그 위의 유니크 인덱스와 중복 인덱스(idx_token) 도 함께 사라진다.
+ *
+ * 중간에 실패해 flyway repair 후 다시 돌면 이미 끝난 단계는 스키마를 보고 건너뛰고, 백필은 해시가 빈 행만 채운다.
+ * 마지막 ALTER 는 한 문장이라 token 컬럼이 남아 있으면 아직 하지 않은 것이다.
+ *
+ * 전후 인덱스 크기 확인:
+ *   SELECT index_name, stat_value * @@innodb_page_size AS bytes
+ *   FROM mysql.innodb_index_stats
+ *   WHERE table_name = 'refresh_tokens' AND stat_name = 'size';
+ */
+@Slf4j
+public class V2__Hash_refresh_tokens extends BaseJavaMigration {
+
+	private static final int BATCH_SIZE = 1000;
+
+	@Override
+	public boolean canExecuteInTransaction() {
+		return false;
+	}
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		Connection connection = context.getConnection();
+
+		if (!MigrationSchema.columnExists(connection, "refresh_tokens", "token")) {
+			log.info("refresh_tokens 해시 전환은 이미 끝났습니다");
+			return;
+		}
+
+		if (!MigrationSchema.columnExists(connection, "refresh_tokens", "token_hash")) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ALTER TABLE refresh_tokens ADD COLUMN token_hash BINARY(32) NULL AFTER user_id");
+			}
+		}
+
+		long backfilled = backfill(connection);
+		log.info("refresh_tokens 해시 백필 완료 - rows: {}", backfilled);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE refresh_tokens"
+				+ " MODIFY token_hash BINARY(32) NOT NULL,"
+				+ " ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),"
+				+ " DROP COLUMN token");
+		}
+	}
+
+	private long backfill(Connection connection) throws Exception {
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+
+		long lastId = 0;
+		long total = 0;
+
+		try (
+			PreparedStatement select = connection.prepareStatement(
+				"SELECT id, token FROM refresh_tokens WHERE id > ? AND token_hash IS NULL ORDER BY id LIMIT " + BATCH_SIZE);
+			PreparedStatement update = connection.prepareStatement(
+				"UPDATE refresh_tokens SET token_hash = ? WHERE id = ?")
+		) {
+			while (true) {
+				select.setLong(1, lastId);
+
+				int rows = 0;
+				try (ResultSet resultSet = select.executeQuery()) {
+					while (resultSet.next()) {
+						lastId = resultSet.getLong("id");
+						update.setBytes(1, HashUtils.sha256(resultSet.getString("token")));
+						update.setLong(2, lastId);
+						update.addBatch();
+						rows++;
+					}
+				}
+
+				if (rows == 0) {
+					break;
+				}
+
+				update.executeBatch();
+				connection.commit();
+				total += rows;
+			}
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+
+		return total;
+	}
+}
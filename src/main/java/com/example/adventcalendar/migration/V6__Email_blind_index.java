@@ -0,0 +1,113 @@
+package com.example.adventcalendar.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import javax.crypto.SecretKey;
+
+import com.example.adventcalendar.util.EncryptionUtils;
+import com.example.adventcalendar.util.KeyRing;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * users.email_hash(HMAC blind index) 를 추가하고, 쓸모없는 idx_email 을 지운다.
+ *
+ * email 은 AES-GCM 암호문이라 행마다 복호화해서 blind index 를 계산해야 하므로 SQL 이 아닌 Java 마이그레이션이다.
+ * 키 링과 blind index 키는 FlywayMigrationConfig 가 생성자로 넘긴다.
+ *
+ * 중간에 실패해 flyway repair 후 다시 돌면 이미 끝난 단계는 스키마를 보고 건너뛰고, 백필은 해시가 빈 행만 채운다.
+ * 마지막 ALTER 는 한 문장이라 idx_users_email_hash 가 없으면 아직 하지 않은 것이다.
+ */
+@Slf4j
+public class V6__Email_blind_index extends BaseJavaMigration {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private final KeyRing keyRing;
+	private final SecretKey blindIndexKey;
+
+	public V6__Email_blind_index(KeyRing keyRing, SecretKey blindIndexKey) {
+		this.keyRing = keyRing;
+		this.blindIndexKey = blindIndexKey;
+	}
+
+	@Override
+	public boolean canExecuteInTransaction() {
+		return false;
+	}
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		Connection connection = context.getConnection();
+
+		if (MigrationSchema.indexExists(connection, "users", "idx_users_email_hash")) {
+			log.info("users 이메일 blind index 추가는 이미 끝났습니다");
+			return;
+		}
+
+		if (!MigrationSchema.columnExists(connection, "users", "email_hash")) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ALTER TABLE users ADD COLUMN email_hash BINARY(32) NULL AFTER email");
+			}
+		}
+
+		long backfilled = backfill(connection);
+		log.info("users 이메일 blind index 백필 완료 - rows: {}", backfilled);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE users"
+				+ " MODIFY email_hash BINARY(32) NOT NULL,"
+				+ " ADD INDEX idx_users_email_hash (email_hash),"
+				+ " DROP INDEX idx_email");
+		}
+	}
+
+	private long backfill(Connection connection) throws Exception {
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+
+		long lastId = 0;
+		long total = 0;
+
+		try (
+			PreparedStatement select = connection.prepareStatement(
+				"SELECT id, email FROM users WHERE id > ? AND email_hash IS NULL ORDER BY id LIMIT " + BATCH_SIZE);
+			PreparedStatement update = connection.prepareStatement(
+				"UPDATE users SET email_hash = ? WHERE id = ?")
+		) {
+			while (true) {
+				select.setLong(1, lastId);
+
+				int rows = 0;
+				try (ResultSet resultSet = select.executeQuery()) {
+					while (resultSet.next()) {
+						lastId = resultSet.getLong("id");
+						String email = LegacyTextCiphertext.decrypt(keyRing, resultSet.getString("email"));
+						update.setBytes(1, EncryptionUtils.emailBlindIndex(blindIndexKey, email));
+						update.setLong(2, lastId);
+						update.addBatch();
+						rows++;
+					}
+				}
+
+				if (rows == 0) {
+					break;
+				}
+
+				update.executeBatch();
+				connection.commit();
+				total += rows;
+			}
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+
+		return total;
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.adventcalendar.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import com.example.adventcalendar.util.KeyRing;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * users.email 을 Base64 문자열(VARCHAR(255)) 에서 바이너리(VARBINARY(300)) 로 바꾼다.
+ *
+ * 복호화 없이 Base64 만 풀어 [버전][키 ID][iv][암호문 + 태그] 형식으로 옮기므로 키가 필요 없고 빠르다.
+ * 헤더 없는 예전 암호문에는 encryption.legacy-key-id 를 붙인다. 배치마다 커밋해 긴 잠금을 피한다.
+ * legacy 키 ID 는 FlywayMigrationConfig 가 넘기는 키 링에서 읽는다.
+ *
+ * DDL 은 바로 커밋되므로 중간에 실패하면 스키마가 반쯤 바뀐 채 남는다. flyway repair 후 다시 돌면
+ * email / email_bin 컬럼 상태를 보고 남은 단계부터 이어서 하고, 변환은 email_bin 이 빈 행만 채운다.
+ *
+ * 전후 행/인덱스 크기 확인:
+ *   SELECT AVG(LENGTH(email)) FROM users;
+ *   SELECT data_length, avg_row_length FROM information_schema.tables WHERE table_name = 'users';
+ */
+@Slf4j
+public class V8__Binary_email_ciphertext extends BaseJavaMigration {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private final KeyRing keyRing;
+
+	public V8__Binary_email_ciphertext(KeyRing keyRing) {
+		this.keyRing = keyRing;
+	}
+
+	@Override
+	public boolean canExecuteInTransaction() {
+		return false;
+	}
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		Connection connection = context.getConnection();
+
+		// 변환 전 email 은 varchar, 끝나면 varbinary. 둘 사이에 실패하면 email 없이 email_bin 만 남는다
+		String emailType = MigrationSchema.columnType(connection, "users", "email");
+		boolean hasEmailBin = MigrationSchema.columnExists(connection, "users", "email_bin");
+
+		if ("varbinary".equals(emailType) && !hasEmailBin) {
+			log.info("users 이메일 바이너리 변환은 이미 끝났습니다");
+			return;
+		}
+
+		if (!hasEmailBin) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ALTER TABLE users ADD COLUMN email_bin VARBINARY(300) NULL AFTER email");
+			}
+		}
+
+		if (emailType != null) {
+			long converted = convert(connection);
+			log.info("users 이메일 바이너리 변환 완료 - rows: {}", converted);
+
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ALTER TABLE users DROP COLUMN email");
+			}
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE users CHANGE COLUMN email_bin email VARBINARY(300) NOT NULL");
+		}
+	}
+
+	private long convert(Connection connection) throws Exception {
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+
+		long lastId = 0;
+		long total = 0;
+
+		try (
+			PreparedStatement select = connection.prepareStatement(
+				"SELECT id, email FROM users WHERE id > ? AND email_bin IS NULL ORDER BY id LIMIT " + BATCH_SIZE);
+			PreparedStatement update = connection.prepareStatement(
+				"UPDATE users SET email_bin = ? WHERE id = ?")
+		) {
+			while (true) {
+				select.setLong(1, lastId);
+
+				int rows = 0;
+				try (ResultSet resultSet = select.executeQuery()) {
+					while (resultSet.next()) {
+						lastId = resultSet.getLong("id");
+						update.setBytes(1, LegacyTextCiphertext.toBinary(keyRing, resultSet.getString("email")));
+						update.setLong(2, lastId);
+						update.addBatch();
+						rows++;
+					}
+				}
+
+				if (rows == 0) {
+					break;
+				}
+
+				update.executeBatch();
+				connection.commit();
+				total += rows;
+			}
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+
+		return total;
+	}
+}
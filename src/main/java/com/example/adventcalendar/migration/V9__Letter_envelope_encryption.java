@@ -0,0 +1,164 @@
+package com.example.adventcalendar.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import com.example.adventcalendar.util.DataKey;
+import com.example.adventcalendar.util.KeyRing;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 데이터 키 테이블(user_data_keys)을 만들고 letters.content 평문을 데이터 키로 암호화한다.
+ *
+ * 편지를 (user_id, id) 순서로 훑으므로 한 사용자의 편지는 연속해서 나오고, 사용자가 바뀔 때만 새 키를 만든다.
+ * 배치마다 커밋해 긴 잠금을 피하며, 변환이 끝나면 평문 컬럼을 지우고 암호문 컬럼을 content 로 바꾼다.
+ * 데이터 키는 FlywayMigrationConfig 가 넘기는 키 링의 현재 키로 감싼다.
+ *
+ * DDL 은 바로 커밋되므로 중간에 실패하면 스키마가 반쯤 바뀐 채 남는다. flyway repair 후 다시 돌면
+ * content / content_sealed 컬럼 상태를 보고 남은 단계부터 이어서 하고, 암호화는 content_sealed 가 빈 행만 채운다.
+ * 이미 키가 만들어진 사용자는 그 키를 풀어 이어서 쓴다.
+ */
+@Slf4j
+public class V9__Letter_envelope_encryption extends BaseJavaMigration {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final KeyRing keyRing;
+
+	public V9__Letter_envelope_encryption(KeyRing keyRing) {
+		this.keyRing = keyRing;
+	}
+
+	@Override
+	public boolean canExecuteInTransaction() {
+		return false;
+	}
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		Connection connection = context.getConnection();
+
+		// 암호화 전 content 는 longtext, 끝나면 mediumblob. 둘 사이에 실패하면 content 없이 content_sealed 만 남는다
+		String contentType = MigrationSchema.columnType(connection, "letters", "content");
+		boolean hasContentSealed = MigrationSchema.columnExists(connection, "letters", "content_sealed");
+
+		if ("mediumblob".equals(contentType) && !hasContentSealed) {
+			log.info("편지 내용 암호화는 이미 끝났습니다");
+			return;
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS user_data_keys ("
+				+ " user_id BIGINT NOT NULL,"
+				+ " wrapped_key VARBINARY(80) NOT NULL,"
+				+ " created_at DATETIME(6) NOT NULL,"
+				+ " PRIMARY KEY (user_id)"
+				+ ") ENGINE = InnoDB");
+			if (!hasContentSealed) {
+				statement.execute("ALTER TABLE letters ADD COLUMN content_sealed MEDIUMBLOB NULL AFTER content");
+			}
+		}
+
+		if (contentType != null) {
+			long encrypted = encrypt(connection);
+			log.info("편지 내용 암호화 완료 - rows: {}", encrypted);
+
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("ALTER TABLE letters DROP COLUMN content");
+			}
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE letters CHANGE COLUMN content_sealed content MEDIUMBLOB NOT NULL");
+		}
+	}
+
+	private long encrypt(Connection connection) throws Exception {
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+
+		long lastUserId = 0;
+		long lastId = 0;
+		long total = 0;
+		DataKey dataKey = null;
+
+		try (
+			PreparedStatement select = connection.prepareStatement(
+				"SELECT id, user_id, content FROM letters"
+					+ " WHERE content_sealed IS NULL AND (user_id > ? OR (user_id = ? AND id > ?))"
+					+ " ORDER BY user_id, id LIMIT " + BATCH_SIZE);
+			PreparedStatement selectKey = connection.prepareStatement(
+				"SELECT wrapped_key FROM user_data_keys WHERE user_id = ?");
+			PreparedStatement insertKey = connection.prepareStatement(
+				"INSERT INTO user_data_keys (user_id, wrapped_key, created_at) VALUES (?, ?, ?)");
+			PreparedStatement update = connection.prepareStatement(
+				"UPDATE letters SET content_sealed = ? WHERE id = ?")
+		) {
+			while (true) {
+				select.setLong(1, lastUserId);
+				select.setLong(2, lastUserId);
+				select.setLong(3, lastId);
+
+				int rows = 0;
+				try (ResultSet resultSet = select.executeQuery()) {
+					while (resultSet.next()) {
+						long userId = resultSet.getLong("user_id");
+						if (dataKey == null || userId != lastUserId) {
+							dataKey = dataKeyFor(selectKey, insertKey, userId);
+						}
+
+						lastUserId = userId;
+						lastId = resultSet.getLong("id");
+						update.setBytes(1, dataKey.encrypt(resultSet.getString("content")));
+						update.setLong(2, lastId);
+						update.addBatch();
+						rows++;
+					}
+				}
+
+				if (rows == 0) {
+					break;
+				}
+
+				update.executeBatch();
+				connection.commit();
+				total += rows;
+			}
+		} catch (Exception e) {
+			// setAutoCommit(true) 가 반쯤 채운 배치를 커밋하지 않도록 되돌린다
+			connection.rollback();
+			throw e;
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+
+		return total;
+	}
+
+	/**
+	 * 이전 실행에서 키를 만든 사용자는 그 키를 이어서 쓰고, 없으면 새로 만든다. 키는 같은 배치의 편지와 함께 커밋된다.
+	 */
+	private DataKey dataKeyFor(PreparedStatement selectKey, PreparedStatement insertKey, long userId) throws Exception {
+		selectKey.setLong(1, userId);
+		try (ResultSet resultSet = selectKey.executeQuery()) {
+			if (resultSet.next()) {
+				return DataKey.unwrap(keyRing, resultSet.getBytes("wrapped_key"));
+			}
+		}
+
+		DataKey dataKey = DataKey.generate();
+		insertKey.setLong(1, userId);
+		insertKey.setBytes(2, dataKey.wrap(keyRing));
+		insertKey.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+		insertKey.executeUpdate();
+		return dataKey;
+	}
+}
@@ -0,0 +1,20 @@
+package com.example.adventcalendar.repository;
+
+import com.example.adventcalendar.constant.AccountDeletionStatus;
+import com.example.adventcalendar.entity.AccountDeletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountDeletionRepository extends JpaRepository<AccountDeletion, Long> {
+
+	List<AccountDeletion> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+		AccountDeletionStatus status,
+		LocalDateTime now,
+		Limit limit
+	);
+}
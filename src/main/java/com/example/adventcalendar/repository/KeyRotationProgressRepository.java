@@ -0,0 +1,9 @@
+package com.example.adventcalendar.repository;
+
+import com.example.adventcalendar.entity.KeyRotationProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface KeyRotationProgressRepository extends JpaRepository<KeyRotationProgress, String> {
+}
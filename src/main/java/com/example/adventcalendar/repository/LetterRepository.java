@@ -2,6 +2,7 @@ package com.example.adventcalendar.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,4 +23,10 @@ public interface LetterRepository extends JpaRepository<Letter, Long> {
 	List<Object[]> countByUserIdGroupByDay(@Param("userId") Long userId);
 
 	void deleteByUserId(Long userId);
+
+	/**
+	 * 탈퇴 사용자 편지를 잘라 지우기 위한 id 목록. deleteAllByIdInBatch 와 함께 쓴다.
+	 */
+	@Query("SELECT l.id FROM Letter l WHERE l.user.id = :userId ORDER BY l.id")
+	List<Long> findIdsByUserId(@Param("userId") Long userId, Limit limit);
 }
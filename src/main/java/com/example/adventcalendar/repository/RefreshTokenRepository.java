@@ -1,20 +1,58 @@
 package com.example.adventcalendar.repository;
 
 import com.example.adventcalendar.entity.RefreshToken;
+import com.example.adventcalendar.util.HashUtils;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-	Optional<RefreshToken> findByToken(String token);
+	/**
+	 * 로그인 직후 다른 노드로 온 토큰 재발급도 방금 저장한 세션을 찾아야 하므로 primary 에서 읽는다.
+	 * 재발급은 비로그인 요청이라 복제본 라우팅의 쓰기 후 읽기 보호를 받지 못한다 (readOnly 면 복제본으로 라우팅된다).
+	 */
+	@Transactional
+	Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
-	Optional<RefreshToken> findByUserId(Long userId);
+	default Optional<RefreshToken> findByToken(String token) {
+		return findByTokenHash(HashUtils.sha256(token));
+	}
+
+	Optional<RefreshToken> findByUserIdAndDeviceId(Long userId, String deviceId);
+
+	List<RefreshToken> findByUserIdOrderByLastUsedAtDesc(Long userId);
+
+	@Query("SELECT r.id FROM RefreshToken r WHERE r.userId = :userId ORDER BY r.lastUsedAt DESC, r.id DESC")
+	List<Long> findSessionIdsByUserId(@Param("userId") Long userId);
 
 	void deleteByUserId(Long userId);
 
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+	int bulkDeleteByUserId(@Param("userId") Long userId);
+
 	void deleteByExpiresAtBefore(LocalDateTime now);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE RefreshToken r SET r.lastUsedAt = :now WHERE r.id = :id")
+	int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+	/**
+	 * 만료 토큰을 최대 limit 개만 한 번의 DELETE 로 지운다. 엔티티를 읽지 않으므로 행 락도 짧게 끝난다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+	int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -0,0 +1,59 @@
+package com.example.adventcalendar.repository;
+
+import com.example.adventcalendar.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+	/**
+	 * 만료됐거나 이미 내가 가진 임대만 가져온다. 갱신된 행 수가 1 이면 획득 성공.
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE SchedulerLease l SET l.owner = :owner, l.lockedUntil = :lockedUntil "
+		+ "WHERE l.name = :name AND (l.lockedUntil < :now OR l.owner = :owner)")
+	int takeOver(
+		@Param("name") String name,
+		@Param("owner") String owner,
+		@Param("now") LocalDateTime now,
+		@Param("lockedUntil") LocalDateTime lockedUntil
+	);
+
+	/**
+	 * 처음 쓰는 임대 행을 만든다. 다른 노드가 먼저 만들었다면 PK 충돌로 실패한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO scheduler_leases (name, owner, locked_until) VALUES (:name, :owner, :lockedUntil)",
+		nativeQuery = true)
+	int create(
+		@Param("name") String name,
+		@Param("owner") String owner,
+		@Param("lockedUntil") LocalDateTime lockedUntil
+	);
+
+	/**
+	 * 아직 내가 가진 임대의 만료 시각만 늦춘다. 다른 노드가 가져갔으면 0.
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE SchedulerLease l SET l.lockedUntil = :lockedUntil WHERE l.name = :name AND l.owner = :owner")
+	int extend(
+		@Param("name") String name,
+		@Param("owner") String owner,
+		@Param("lockedUntil") LocalDateTime lockedUntil
+	);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE SchedulerLease l SET l.lockedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+	int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
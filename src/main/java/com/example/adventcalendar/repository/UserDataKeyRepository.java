@@ -0,0 +1,44 @@
+package com.example.adventcalendar.repository;
+
+import com.example.adventcalendar.entity.UserDataKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UserDataKeyRepository extends JpaRepository<UserDataKey, Long> {
+
+	/**
+	 * 처음 쓰는 데이터 키를 만든다. 같은 사용자 키를 동시에 만들면 PK 충돌로 실패한다.
+	 * 편지 트랜잭션을 열기 전에 부르므로(LetterService.createLetter) 실패해도 되돌릴 바깥 트랜잭션이 없고,
+	 * 커넥션도 하나만 잡는다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO user_data_keys (user_id, wrapped_key, created_at) "
+		+ "VALUES (:userId, :wrappedKey, :createdAt)", nativeQuery = true)
+	int create(
+		@Param("userId") Long userId,
+		@Param("wrappedKey") byte[] wrappedKey,
+		@Param("createdAt") LocalDateTime createdAt
+	);
+
+	/**
+	 * 생성 경합에서 진 뒤 이긴 쪽이 커밋한 키를 읽는다. 바깥 트랜잭션 없이 부르므로 새 트랜잭션에서 커밋된 값을 본다.
+	 * 방금 primary 에 커밋된 행을 읽어야 하므로 readOnly 를 붙이지 않는다 (readOnly 면 복제본으로 라우팅된다).
+	 */
+	@Transactional
+	@Query("SELECT k.wrappedKey FROM UserDataKey k WHERE k.userId = :userId")
+	Optional<byte[]> findCommittedWrappedKey(@Param("userId") Long userId);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM UserDataKey k WHERE k.userId = :userId")
+	int bulkDeleteByUserId(@Param("userId") Long userId);
+}
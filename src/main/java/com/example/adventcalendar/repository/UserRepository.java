@@ -1,11 +1,19 @@
 package com.example.adventcalendar.repository;
 
+import jakarta.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.example.adventcalendar.entity.User;
+import com.example.adventcalendar.util.EncryptionUtils;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -13,4 +21,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByOauthProviderAndOauthId(String oauthProvider, String oauthId);
 
 	Optional<User> findByShareUuid(String shareUuid);
+
+	List<User> findAllByEmailHash(byte[] emailHash);
+
+	/**
+	 * 가입 완료 직후 다른 노드로 온 /api/auth/me 도 방금 커밋한 상태를 봐야 하므로 primary 에서 읽는다.
+	 * 쓰기 후 읽기 보호는 노드마다 따로라 다른 노드로 온 요청은 보호받지 못한다 (readOnly 면 복제본으로 라우팅된다).
+	 */
+	@Transactional
+	@Query("SELECT u FROM User u WHERE u.id = :userId")
+	Optional<User> findCommittedById(@Param("userId") Long userId);
+
+	/**
+	 * ACTIVE 사용자 행에 공유 잠금을 걸고 id 만 읽는다 (엔티티를 만들지 않아 이메일도 복호화하지 않음).
+	 * 잠금은 트랜잭션이 끝날 때까지 유지되므로 그동안 다른 트랜잭션이 탈퇴 처리로 상태를 바꿀 수 없다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT u.id FROM User u WHERE u.id = :userId"
+		+ " AND u.status = com.example.adventcalendar.constant.UserStatus.ACTIVE")
+	Optional<Long> lockIfActive(@Param("userId") Long userId);
+
+	/**
+	 * 같은 이메일로 여러 OAuth 계정이 있을 수 있으므로 목록으로 반환한다.
+	 */
+	default List<User> findAllByEmail(String email) {
+		return findAllByEmailHash(EncryptionUtils.emailBlindIndex(email));
+	}
 }
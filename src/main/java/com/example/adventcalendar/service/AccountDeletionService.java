@@ -0,0 +1,154 @@
+package com.example.adventcalendar.service;
+
+import com.example.adventcalendar.constant.AccountDeletionStatus;
+import com.example.adventcalendar.entity.AccountDeletion;
+import com.example.adventcalendar.repository.AccountDeletionRepository;
+import com.example.adventcalendar.repository.LetterRepository;
+import com.example.adventcalendar.repository.RefreshTokenRepository;
+import com.example.adventcalendar.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 탈퇴한 사용자의 편지, 세션, 사용자 행을 백그라운드에서 지운다.
+ *
+ * 편지는 chunkSize 개씩 id 로 잘라 한 번의 bulk DELETE 로 지우고, 청크마다 진행 상황을 기록한다.
+ * 편지를 모두 지운 뒤 사용자 데이터 키도 지워 백업에 남은 편지 암호문까지 복호화할 수 없게 하고,
+ * 이 노드에 캐시된 복호화된 편지 응답도 함께 지운다.
+ * 각 DELETE 는 자체 트랜잭션이라 중간에 실패해도 이미 지운 청크는 유지되고 다음 시도에서 이어서 지운다.
+ * 작업 사이와 청크 사이마다 leaseHeld 로 배치 임대를 확인(연장)하고, 임대를 잃으면 그 자리에서 멈춘다.
+ */
+@Slf4j
+@Service
+public class AccountDeletionService {
+
+	private static final int MAX_BACKOFF_SHIFT = 10;
+
+	private final AccountDeletionRepository accountDeletionRepository;
+	private final LetterRepository letterRepository;
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final UserRepository userRepository;
+	private final DataKeyService dataKeyService;
+	private final LetterRenderer letterRenderer;
+	private final int chunkSize;
+	private final int maxAttempts;
+	private final long retryBaseSeconds;
+
+	public AccountDeletionService(
+		AccountDeletionRepository accountDeletionRepository,
+		LetterRepository letterRepository,
+		RefreshTokenRepository refreshTokenRepository,
+		UserRepository userRepository,
+		DataKeyService dataKeyService,
+		LetterRenderer letterRenderer,
+		@Value("${app.account-deletion.chunk-size:500}") int chunkSize,
+		@Value("${app.account-deletion.max-attempts:8}") int maxAttempts,
+		@Value("${app.account-deletion.retry-base-seconds:60}") long retryBaseSeconds
+	) {
+		this.accountDeletionRepository = accountDeletionRepository;
+		this.letterRepository = letterRepository;
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.userRepository = userRepository;
+		this.dataKeyService = dataKeyService;
+		this.letterRenderer = letterRenderer;
+		this.chunkSize = chunkSize;
+		this.maxAttempts = maxAttempts;
+		this.retryBaseSeconds = retryBaseSeconds;
+	}
+
+	/**
+	 * 처리 시각이 된 삭제 작업을 최대 batchSize 개 처리한다.
+	 *
+	 * @return 처리한 작업 수
+	 */
+	public int processDue(int batchSize) {
+		return processDue(batchSize, () -> true);
+	}
+
+	/**
+	 * @param leaseHeld 작업/청크 사이마다 호출한다. false 면 남은 작업은 다음 실행으로 미룬다
+	 * @return 처리한 작업 수
+	 */
+	public int processDue(int batchSize, BooleanSupplier leaseHeld) {
+		List<AccountDeletion> due = accountDeletionRepository
+			.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+				AccountDeletionStatus.PENDING,
+				LocalDateTime.now(),
+				Limit.of(batchSize)
+			);
+
+		int processed = 0;
+		for (AccountDeletion deletion : due) {
+			if (!leaseHeld.getAsBoolean()) {
+				log.warn("배치 임대를 잃어 탈퇴 처리 대기열 중단 - processed: {}, remaining: {}",
+					processed, due.size() - processed);
+				break;
+			}
+			process(deletion, leaseHeld);
+			processed++;
+		}
+
+		return processed;
+	}
+
+	void process(AccountDeletion deletion) {
+		process(deletion, () -> true);
+	}
+
+	void process(AccountDeletion deletion, BooleanSupplier leaseHeld) {
+		try {
+			if (purge(deletion, leaseHeld)) {
+				deletion.complete();
+				log.info("탈퇴 사용자 데이터 삭제 완료 - userId: {}, letters: {}",
+					deletion.getUserId(), deletion.getLettersPurged());
+			} else {
+				log.warn("배치 임대를 잃어 탈퇴 사용자 데이터 삭제 중단, 다음 실행에서 이어서 삭제 - userId: {}, letters: {}",
+					deletion.getUserId(), deletion.getLettersPurged());
+			}
+		} catch (RuntimeException e) {
+			long backoffSeconds = retryBaseSeconds << Math.min(deletion.getAttempts(), MAX_BACKOFF_SHIFT);
+			deletion.fail(e.getMessage(), LocalDateTime.now().plusSeconds(backoffSeconds), maxAttempts);
+
+			if (deletion.getStatus() == AccountDeletionStatus.FAILED) {
+				log.error("탈퇴 사용자 데이터 삭제 실패, 재시도 중단 - userId: {}, attempts: {}",
+					deletion.getUserId(), deletion.getAttempts(), e);
+			} else {
+				log.warn("탈퇴 사용자 데이터 삭제 실패, {}초 후 재시도 - userId: {}, attempts: {}, error: {}",
+					backoffSeconds, deletion.getUserId(), deletion.getAttempts(), e.getMessage());
+			}
+		}
+
+		accountDeletionRepository.save(deletion);
+	}
+
+	/**
+	 * @return 끝까지 지웠으면 true, 청크 사이에 임대를 잃어 멈췄으면 false
+	 */
+	private boolean purge(AccountDeletion deletion, BooleanSupplier leaseHeld) {
+		Long userId = deletion.getUserId();
+
+		List<Long> letterIds = letterRepository.findIdsByUserId(userId, Limit.of(chunkSize));
+		while (!letterIds.isEmpty()) {
+			letterRepository.deleteAllByIdInBatch(letterIds);
+			deletion.addLettersPurged(letterIds.size());
+			accountDeletionRepository.save(deletion);
+
+			if (!leaseHeld.getAsBoolean()) {
+				return false;
+			}
+			letterIds = letterRepository.findIdsByUserId(userId, Limit.of(chunkSize));
+		}
+
+		dataKeyService.destroy(userId);
+		letterRenderer.invalidateUser(userId);
+		refreshTokenRepository.bulkDeleteByUserId(userId);
+		userRepository.deleteById(userId);
+		return true;
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.adventcalendar.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 탈퇴 처리 대기열을 주기적으로 비운다. scheduler_leases 임대를 얻은 노드 하나만 실행한다.
+ *
+ * 편지가 많은 사용자가 몰리면 한 번의 실행이 임대 시간보다 길어질 수 있으므로, 청크 사이에 임대를 연장한다.
+ * 연장은 임대 시간의 1/3 이 지날 때마다 한 번만 하고, 그 사이 다른 노드가 임대를 가져갔으면 그 자리에서 멈춘다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.account-deletion.enabled", havingValue = "true", matchIfMissing = true)
+public class AccountDeletionWorker {
+
+	static final String LEASE_NAME = "account-deletion";
+
+	private final AccountDeletionService accountDeletionService;
+	private final SchedulerLeaseService schedulerLeaseService;
+	private final int batchSize;
+	private final Duration leaseDuration;
+
+	public AccountDeletionWorker(
+		AccountDeletionService accountDeletionService,
+		SchedulerLeaseService schedulerLeaseService,
+		@Value("${app.account-deletion.batch-size:20}") int batchSize,
+		@Value("${app.account-deletion.lease-seconds:300}") long leaseSeconds
+	) {
+		this.accountDeletionService = accountDeletionService;
+		this.schedulerLeaseService = schedulerLeaseService;
+		this.batchSize = batchSize;
+		this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+	}
+
+	@Scheduled(
+		fixedDelayString = "${app.account-deletion.poll-millis:30000}",
+		initialDelayString = "${app.account-deletion.poll-millis:30000}"
+	)
+	public void run() {
+		if (!schedulerLeaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+			return;
+		}
+
+		try {
+			int processed = accountDeletionService.processDue(batchSize, leaseRenewer());
+			if (processed > 0) {
+				log.info("탈퇴 처리 대기열 실행 - processed: {}", processed);
+			}
+		} finally {
+			schedulerLeaseService.release(LEASE_NAME);
+		}
+	}
+
+	/**
+	 * 호출될 때 마지막 연장 후 임대 시간의 1/3 이 지났으면 임대를 연장한다. 연장에 실패하면 false.
+	 */
+	BooleanSupplier leaseRenewer() {
+		long renewIntervalNanos = leaseDuration.toNanos() / 3;
+		long[] renewedAt = {System.nanoTime()};
+
+		return () -> {
+			long now = System.nanoTime();
+			if (now - renewedAt[0] < renewIntervalNanos) {
+				return true;
+			}
+			if (!schedulerLeaseService.renew(LEASE_NAME, leaseDuration)) {
+				return false;
+			}
+			renewedAt[0] = now;
+			return true;
+		};
+	}
+}
@@ -1,25 +1,36 @@
 package com.example.adventcalendar.service;
 
+import com.example.adventcalendar.config.AccessTokenDenylist;
 import com.example.adventcalendar.config.JwtTokenProvider;
 import com.example.adventcalendar.constant.UserStatus;
+import com.example.adventcalendar.dto.SessionDevice;
+import com.example.adventcalendar.dto.UserIdentity;
 import com.example.adventcalendar.dto.request.UserCreateRequest;
 import com.example.adventcalendar.dto.response.LoginResponse;
+import com.example.adventcalendar.dto.response.SessionResponse;
 import com.example.adventcalendar.dto.response.UserRegistrationResult;
+import com.example.adventcalendar.entity.AccountDeletion;
 import com.example.adventcalendar.entity.RefreshToken;
 import com.example.adventcalendar.entity.User;
 import com.example.adventcalendar.exception.ConflictException;
 import com.example.adventcalendar.exception.ResourceNotFoundException;
 import com.example.adventcalendar.exception.UnauthorizedException;
-import com.example.adventcalendar.repository.LetterRepository;
+import com.example.adventcalendar.repository.AccountDeletionRepository;
 import com.example.adventcalendar.repository.RefreshTokenRepository;
 import com.example.adventcalendar.repository.UserRepository;
 import com.example.adventcalendar.util.XssUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -31,34 +42,72 @@ public class AuthService {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final UserRepository userRepository;
 	private final RefreshTokenRepository refreshTokenRepository;
-	private final LetterRepository letterRepository;
+	private final AccessTokenDenylist accessTokenDenylist;
+	private final AccountDeletionRepository accountDeletionRepository;
+	private final TransactionOperations transactionOperations;
+	private final UserIdentityCache userIdentityCache;
+	private final RefreshSessionCache refreshSessionCache;
+	private final UserInfoService userInfoService;
 
+	@Value("${app.session.max-per-user:5}")
+	private int maxSessionsPerUser;
+
+	@Value("${app.session.touch-interval-seconds:21600}")
+	private long sessionTouchIntervalSeconds;
 
-	@Transactional
 	public LoginResponse handleNaverCallback(String code, String state) {
+		return handleNaverCallback(code, state, SessionDevice.unknown());
+	}
+
+	/**
+	 * 공급자 토큰 교환/사용자 정보 조회는 트랜잭션 밖에서 먼저 끝내고, DB 작업만 짧은 트랜잭션으로 실행한다.
+	 * 공급자 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않기 위함이다.
+	 */
+	public LoginResponse handleNaverCallback(String code, String state, SessionDevice device) {
 		OAuth2Service.OAuthUserInfo userInfo = oAuth2Service.authenticateNaver(code, state);
 
-		Optional<User> existingUser = userRepository.findByOauthProviderAndOauthId(
-			userInfo.getOauthProvider(),
-			userInfo.getOauthId()
-		);
+		return loginInTransaction(userInfo, device);
+	}
 
-		if (existingUser.isPresent()) {
-			User user = existingUser.get();
+	public LoginResponse handleKakaoCallback(String code) {
+		return handleKakaoCallback(code, SessionDevice.unknown());
+	}
 
-			if (user.getStatus() == UserStatus.PENDING) {
-				return createLoginResponseForPendingUser(user);
-			}
+	public LoginResponse handleKakaoCallback(String code, SessionDevice device) {
+		OAuth2Service.OAuthUserInfo userInfo = oAuth2Service.authenticateKakao(code);
 
-			return loginExistingUser(user);
-		} else {
-			return createTemporaryUser(userInfo);
+		return loginInTransaction(userInfo, device);
+	}
+
+	/**
+	 * 같은 기기에서 동시에 로그인하면 두 요청이 모두 (user_id, device_id) 세션 행이 없다고 보고 INSERT 해
+	 * 늦은 쪽이 유니크 제약에 걸린다. 이때는 트랜잭션을 롤백하고 한 번 더 실행해, 먼저 커밋된 행의 토큰을 교체한다.
+	 */
+	private LoginResponse loginInTransaction(OAuth2Service.OAuthUserInfo userInfo, SessionDevice device) {
+		try {
+			return transactionOperations.execute(status -> login(userInfo, device));
+		} catch (DataIntegrityViolationException e) {
+			log.info("동시 로그인으로 세션 저장 충돌, 재시도 - provider: {}", userInfo.getOauthProvider());
+			return transactionOperations.execute(status -> login(userInfo, device));
 		}
 	}
 
-	@Transactional
-	public LoginResponse handleKakaoCallback(String code) {
-		OAuth2Service.OAuthUserInfo userInfo = oAuth2Service.authenticateKakao(code);
+	private LoginResponse login(OAuth2Service.OAuthUserInfo userInfo, SessionDevice device) {
+		Optional<UserIdentity> cachedIdentity = userIdentityCache.find(
+			userInfo.getOauthProvider(),
+			userInfo.getOauthId()
+		);
+		if (cachedIdentity.isPresent()) {
+			// 다른 노드에서 탈퇴했어도 이 노드 캐시에는 TTL 동안 남아 있으므로, 세션을 쓰기 전에 아직 ACTIVE 인지 잠금 읽기로 확인한다.
+			// 잠금은 커밋까지 유지되어 탈퇴 처리는 세션 저장 뒤로 밀리고, 그때 새 세션도 함께 지워진다.
+			if (userRepository.lockIfActive(cachedIdentity.get().userId()).isPresent()) {
+				return loginExistingUser(cachedIdentity.get(), device);
+			}
+
+			// 탈퇴한 사용자는 OAuth 식별자가 비워져 있어 아래에서 새 가입으로 처리된다
+			log.info("캐시된 사용자가 ACTIVE 가 아님, DB 에서 다시 조회 - userId: {}", cachedIdentity.get().userId());
+			userIdentityCache.invalidate(userInfo.getOauthProvider(), userInfo.getOauthId());
+		}
 
 		Optional<User> existingUser = userRepository.findByOauthProviderAndOauthId(
 			userInfo.getOauthProvider(),
@@ -72,29 +121,37 @@ public class AuthService {
 				return createLoginResponseForPendingUser(user);
 			}
 
-			return loginExistingUser(user);
+			UserIdentity identity = UserIdentity.from(user);
+			if (user.getStatus() == UserStatus.ACTIVE) {
+				userIdentityCache.put(identity);
+			}
+
+			return loginExistingUser(identity, device);
 		} else {
 			return createTemporaryUser(userInfo);
 		}
 	}
 
-
-	private LoginResponse loginExistingUser(User user) {
+	private LoginResponse loginExistingUser(UserIdentity identity, SessionDevice device) {
 		String accessToken = jwtTokenProvider.createAccessToken(
-			user.getId(),
-			user.getEmail(),
-			user.getOauthProvider()
+			identity.userId(),
+			identity.email(),
+			identity.oauthProvider()
 		);
 
-		String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+		String refreshToken = jwtTokenProvider.createRefreshToken(
+			identity.userId(),
+			identity.email(),
+			identity.oauthProvider()
+		);
 
-		saveRefreshToken(user.getId(), refreshToken);
+		saveSession(identity.userId(), device, refreshToken);
 
 		return LoginResponse.forExistingUser(
 			accessToken,
 			refreshToken,
 			jwtTokenProvider.getAccessTokenValidityInSeconds(),
-			user.getShareUuid()
+			identity.shareUuid()
 		);
 	}
 
@@ -136,6 +193,11 @@ public class AuthService {
 
 	@Transactional
 	public UserRegistrationResult completeUserRegistration(Long userId, UserCreateRequest request) {
+		return completeUserRegistration(userId, request, SessionDevice.unknown());
+	}
+
+	@Transactional
+	public UserRegistrationResult completeUserRegistration(Long userId, UserCreateRequest request, SessionDevice device) {
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
@@ -152,6 +214,8 @@ public class AuthService {
 
 		user.completeRegistration(sanitizedName, sanitizedColor);
 		user = userRepository.save(user);
+		userIdentityCache.invalidate(user.getOauthProvider(), user.getOauthId());
+		userInfoService.evict(user.getId());
 
 		String accessToken = jwtTokenProvider.createAccessToken(
 			user.getId(),
@@ -159,10 +223,15 @@ public class AuthService {
 			user.getOauthProvider()
 		);
 
-		String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+		String refreshToken = jwtTokenProvider.createRefreshToken(
+			user.getId(),
+			user.getEmail(),
+			user.getOauthProvider()
+		);
 
 		refreshTokenRepository.deleteByUserId(user.getId());
-		saveRefreshToken(user.getId(), refreshToken);
+		refreshSessionCache.invalidateUser(user.getId());
+		saveSession(user.getId(), device, refreshToken);
 
 		return UserRegistrationResult.create(
 			user,
@@ -171,33 +240,60 @@ public class AuthService {
 		);
 	}
 
-	@Transactional
+	/**
+	 * 세션은 RefreshSessionCache 에서, email/oauthProvider 는 Refresh Token claim 에서 얻는다.
+	 * 캐시에 없거나 캐시 항목이 만료된 세션만 refresh_tokens 를, claim 이 없는 예전 토큰만 users 를 조회한다.
+	 * lastUsedAt 은 sessionTouchIntervalSeconds 가 지났을 때만 갱신한다.
+	 * 트랜잭션을 열면 캐시 적중에도 커넥션을 잡으므로, 쓰기는 각 repository 메서드의 트랜잭션으로 처리한다.
+	 */
 	public String refreshAccessToken(String refreshToken) {
-		if (!jwtTokenProvider.validateToken(refreshToken)) {
-			throw new UnauthorizedException("유효하지 않은 RefreshToken입니다");
-		}
+		Claims claims = parseRefreshToken(refreshToken);
 
-		RefreshToken storedToken = refreshTokenRepository.findByToken(refreshToken)
-			.orElseThrow(() -> new UnauthorizedException("RefreshToken을 찾을 수 없습니다"));
+		RefreshSessionCache.Session session = refreshSessionCache.find(refreshToken)
+			.orElseGet(() -> loadSession(refreshToken));
 
-		if (storedToken.getExpiresAt().isBefore(LocalDateTime.now())) {
-			refreshTokenRepository.delete(storedToken);
+		LocalDateTime now = LocalDateTime.now();
+		if (session.expiresAt().isBefore(now)) {
+			refreshTokenRepository.deleteById(session.sessionId());
+			refreshSessionCache.invalidate(refreshToken);
 			throw new UnauthorizedException("RefreshToken이 만료되었습니다");
 		}
 
-		User user = userRepository.findById(storedToken.getUserId())
-			.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+		if (session.lastUsedAt().isBefore(now.minusSeconds(sessionTouchIntervalSeconds))) {
+			refreshTokenRepository.touch(session.sessionId(), now);
+			refreshSessionCache.put(refreshToken, session.touchedAt(now));
+		}
 
-		return jwtTokenProvider.createAccessToken(
-			user.getId(),
-			user.getEmail(),
-			user.getOauthProvider()
-		);
+		String email = claims.get("email", String.class);
+		String oauthProvider = claims.get("oauthProvider", String.class);
+		if (email == null || oauthProvider == null) {
+			User user = userRepository.findById(session.userId())
+				.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+			email = user.getEmail();
+			oauthProvider = user.getOauthProvider();
+		}
+
+		return jwtTokenProvider.createAccessToken(session.userId(), email, oauthProvider);
+	}
+
+	private Claims parseRefreshToken(String refreshToken) {
+		try {
+			return jwtTokenProvider.parseClaims(refreshToken);
+		} catch (JwtException | IllegalArgumentException e) {
+			throw new UnauthorizedException("유효하지 않은 RefreshToken입니다");
+		}
+	}
+
+	private RefreshSessionCache.Session loadSession(String refreshToken) {
+		RefreshToken storedToken = refreshTokenRepository.findByToken(refreshToken)
+			.orElseThrow(() -> new UnauthorizedException("RefreshToken을 찾을 수 없습니다"));
+
+		return refreshSessionCache.put(refreshToken, storedToken);
 	}
 
 	@Transactional
 	public void logout(String refreshToken) {
-		log.debug("로그아웃 처리 시작 - refreshToken: {}", refreshToken);
+		log.debug("로그아웃 처리 시작");
 
 		Optional<RefreshToken> tokenOptional = refreshTokenRepository.findByToken(refreshToken);
 
@@ -207,39 +303,97 @@ public class AuthService {
 
 			refreshTokenRepository.delete(token);
 			refreshTokenRepository.flush();
+			refreshSessionCache.invalidate(refreshToken);
 
 			log.debug("RefreshToken 삭제 완료");
 		} else {
-			log.warn("RefreshToken을 찾을 수 없음 - token: {}", refreshToken);
+			log.warn("RefreshToken을 찾을 수 없음");
+		}
+	}
+
+	/**
+	 * 남은 유효기간 동안 해당 Access Token 으로 인증되지 않도록 jti 를 폐기 목록에 올린다.
+	 */
+	public void revokeAccessToken(String accessToken) {
+		if (accessToken == null || !jwtTokenProvider.validateToken(accessToken)) {
+			return;
+		}
+
+		Claims claims = jwtTokenProvider.parseClaims(accessToken);
+		if (claims.getId() == null || claims.getExpiration() == null) {
+			return;
 		}
+
+		accessTokenDenylist.revoke(claims.getId(), claims.getExpiration().toInstant());
 	}
 
 	@Transactional
 	public void deleteUser(Long userId) {
 		User user = userRepository.findById(userId)
+			.filter(found -> found.getStatus() != UserStatus.DELETED)
 			.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
-		refreshTokenRepository.deleteByUserId(userId);
+		// 세션은 바로 끊고, 편지와 사용자 행은 AccountDeletionWorker 가 나눠서 지운다
+		userIdentityCache.invalidate(user.getOauthProvider(), user.getOauthId());
+		user.markDeleted();
+		refreshTokenRepository.bulkDeleteByUserId(userId);
+		refreshSessionCache.invalidateUser(userId);
+		userInfoService.evict(userId);
+		accountDeletionRepository.save(AccountDeletion.request(userId));
+
+		log.info("회원 탈퇴 접수 - userId: {}", userId);
+	}
+
+	@Transactional(readOnly = true)
+	public List<SessionResponse> getSessions(Long userId, String currentRefreshToken) {
+		return refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(userId).stream()
+			.map(session -> SessionResponse.fromEntity(session, currentRefreshToken))
+			.toList();
+	}
 
-		letterRepository.deleteByUserId(userId);
+	@Transactional
+	public void revokeSession(Long userId, Long sessionId) {
+		RefreshToken session = refreshTokenRepository.findById(sessionId)
+			.filter(found -> found.getUserId().equals(userId))
+			.orElseThrow(() -> new ResourceNotFoundException("세션을 찾을 수 없습니다"));
 
-		userRepository.delete(user);
+		refreshTokenRepository.delete(session);
+		refreshSessionCache.invalidateSession(sessionId);
 
-		log.info("회원 탈퇴 완료 - userId: {}", userId);
+		log.info("세션 종료 - userId: {}, sessionId: {}", userId, sessionId);
 	}
 
-	private void saveRefreshToken(Long userId, String token) {
-		RefreshToken refreshToken = RefreshToken.builder()
-			.userId(userId)
-			.token(token)
-			.expiresAt(LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenValidityInSeconds()))
-			.build();
+	/**
+	 * (사용자, 기기) 세션을 갱신하거나 새로 만들고, 최대 개수를 넘으면 가장 오래 쓰지 않은 세션부터 지운다.
+	 */
+	private void saveSession(Long userId, SessionDevice device, String token) {
+		LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(jwtTokenProvider.getRefreshTokenValidityInSeconds());
+
+		RefreshToken session = refreshTokenRepository.findByUserIdAndDeviceId(userId, device.deviceId())
+			.orElseGet(() -> RefreshToken.builder()
+				.userId(userId)
+				.deviceId(device.deviceId())
+				.build());
+		if (session.getId() != null) {
+			// 같은 기기의 이전 Refresh Token 은 더 이상 쓸 수 없다
+			refreshSessionCache.invalidateSession(session.getId());
+		}
+		session.rotate(token, expiresAt, device.deviceName());
 
-		refreshTokenRepository.save(refreshToken);
+		refreshTokenRepository.save(session);
+
+		List<Long> sessionIds = refreshTokenRepository.findSessionIdsByUserId(userId);
+		if (sessionIds.size() > maxSessionsPerUser) {
+			List<Long> evicted = sessionIds.subList(maxSessionsPerUser, sessionIds.size());
+			refreshTokenRepository.deleteAllByIdInBatch(evicted);
+			evicted.forEach(refreshSessionCache::invalidateSession);
+			log.info("오래된 세션 정리 - userId: {}, evicted: {}", userId, evicted.size());
+		}
 	}
 
 	public void validateUserActive(Long userId) {
 		User user = userRepository.findById(userId)
+			.filter(found -> found.getStatus() != UserStatus.DELETED)
 			.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
 		if (user.getStatus() != UserStatus.ACTIVE) {
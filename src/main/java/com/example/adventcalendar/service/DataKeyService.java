@@ -0,0 +1,92 @@
+package com.example.adventcalendar.service;
+
+import com.example.adventcalendar.entity.UserDataKey;
+import com.example.adventcalendar.repository.UserDataKeyRepository;
+import com.example.adventcalendar.util.DataKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 편지 데이터 키를 찾거나 만든다.
+ *
+ * 풀린 키는 크기 제한이 있는 캐시에 두어, 같은 사용자의 편지 목록을 다시 열 때 DB 조회와 언랩을 건너뛴다.
+ * 캐시는 노드마다 따로 두며, 키는 바뀌지 않으므로 무효화는 탈퇴 시 키를 지울 때만 필요하다.
+ *
+ * 키를 만들 수 있는 호출(편지 작성)은 다른 트랜잭션 밖에서 해야 한다. 안에서 부르면 생성 INSERT 가 바깥 트랜잭션에
+ * 합류해 PK 충돌 시 바깥까지 rollback-only 가 되고, 경합에서 이긴 쪽이 커밋한 키도 바깥 스냅샷에서는 보이지 않는다.
+ */
+@Slf4j
+@Service
+public class DataKeyService {
+
+	private final UserDataKeyRepository userDataKeyRepository;
+	private final Cache<Long, DataKey> cache;
+
+	public DataKeyService(
+		UserDataKeyRepository userDataKeyRepository,
+		@Value("${app.letter-encryption.data-key-cache-size:10000}") long cacheSize,
+		@Value("${app.letter-encryption.data-key-cache-ttl-seconds:600}") long cacheTtlSeconds
+	) {
+		this.userDataKeyRepository = userDataKeyRepository;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterAccess(Duration.ofSeconds(cacheTtlSeconds))
+			.build();
+	}
+
+	/**
+	 * cache.get(key, loader) 는 로더가 도는 동안 맵 버킷 락(synchronized)을 잡고 있어 가상 스레드가 DB I/O 내내
+	 * 캐리어에 고정되므로, 락 밖에서 읽어 온 뒤 먼저 들어간 값을 쓴다. 같은 사용자 키는 DB 에서 하나로 정해지므로 결과는 같다.
+	 */
+	public DataKey dataKeyFor(Long userId) {
+		DataKey cached = cache.getIfPresent(userId);
+		if (cached != null) {
+			return cached;
+		}
+
+		DataKey loaded = loadOrCreate(userId);
+		DataKey raced = cache.asMap().putIfAbsent(userId, loaded);
+		return raced != null ? raced : loaded;
+	}
+
+	/**
+	 * 키를 지우면 남은 암호문은 더 이상 복호화할 수 없다 (crypto-shredding). 다른 노드 캐시는 TTL 뒤에 비워진다.
+	 */
+	public void destroy(Long userId) {
+		userDataKeyRepository.bulkDeleteByUserId(userId);
+		cache.invalidate(userId);
+	}
+
+	/**
+	 * 첫 조회는 복제본으로 갈 수 있다. 복제 지연으로 못 찾으면 생성이 PK 충돌로 실패하고, 커밋된 키는 primary 에서 다시 읽는다.
+	 * 편지 조회(readOnly 트랜잭션) 중에는 키가 편지보다 먼저 커밋되므로, 복제본에 보이는 편지의 키는 복제본에도 있다.
+	 */
+	private DataKey loadOrCreate(Long userId) {
+		return userDataKeyRepository.findById(userId)
+			.map(UserDataKey::getWrappedKey)
+			.map(DataKey::unwrap)
+			.orElseGet(() -> create(userId));
+	}
+
+	private DataKey create(Long userId) {
+		DataKey dataKey = DataKey.generate();
+
+		try {
+			userDataKeyRepository.create(userId, dataKey.wrap(), LocalDateTime.now());
+			log.debug("데이터 키 생성 - userId: {}", userId);
+			return dataKey;
+		} catch (DataIntegrityViolationException e) {
+			log.debug("다른 요청이 먼저 데이터 키를 생성함 - userId: {}", userId);
+			return userDataKeyRepository.findCommittedWrappedKey(userId)
+				.map(DataKey::unwrap)
+				.orElseThrow(() -> new IllegalStateException("데이터 키를 찾을 수 없습니다 - userId: " + userId));
+		}
+	}
+}
@@ -0,0 +1,370 @@
+package com.example.adventcalendar.service;
+
+import com.example.adventcalendar.entity.KeyRotationProgress;
+import com.example.adventcalendar.repository.KeyRotationProgressRepository;
+import com.example.adventcalendar.util.EncryptionUtils;
+import com.example.adventcalendar.util.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 암호화 키 교체 후 마스터 키로 암호화된 값을 현재 키로 다시 쓰는 온라인 배치.
+ * users.email 을 다시 암호화한 뒤 user_data_keys.wrapped_key 를 다시 감싼다. 편지 본문은 데이터 키로
+ * 암호화되어 있으므로 데이터 키만 다시 감싸면 되고, 두 단계가 모두 끝나야 이전 키를 내릴 수 있다.
+ *
+ * id 범위를 chunkSize 단위로 나눠 parallelism 개 스레드가 동시에 처리한다. 각 청크는 SELECT 한 번과
+ * 조건부 UPDATE 배치 한 번으로 끝나는 짧은 트랜잭션이라 서비스 중에도 돌릴 수 있다.
+ * UPDATE 는 읽었던 값과 같을 때만 바꾸므로 그 사이 사용자가 이메일을 바꿨거나 키가 지워졌다면 건드리지 않는다.
+ *
+ * 단계마다 끝난 청크 중 앞에서부터 연속된 지점까지를 key_rotation_progress 에 체크포인트로 남겨,
+ * 중단되면 다음 실행에서 그 위치부터 이어서 한다. 처리량은 초당 행 수로 제한한다.
+ *
+ * 체크포인트 뒤의 행을 누가 이전 키 값으로 다시 쓰면 체크포인트만으로는 알 수 없으므로, 완료 전에 전체를 한 번 더 훑어
+ * 현재 키가 아닌 행이 없을 때만 완료로 남긴다. 남아 있으면 체크포인트를 처음으로 돌려 다음 실행에서 다시 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.key-rotation.enabled", havingValue = "true", matchIfMissing = true)
+public class EncryptionKeyRotator {
+
+	static final String LEASE_NAME = "encryption-key-rotation";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final KeyRotationProgressRepository keyRotationProgressRepository;
+	private final SchedulerLeaseService schedulerLeaseService;
+	private final int chunkSize;
+	private final int parallelism;
+	private final double maxRowsPerSecond;
+	private final Duration leaseDuration;
+
+	public EncryptionKeyRotator(
+		JdbcTemplate jdbcTemplate,
+		KeyRotationProgressRepository keyRotationProgressRepository,
+		SchedulerLeaseService schedulerLeaseService,
+		@Value("${app.key-rotation.chunk-size:500}") int chunkSize,
+		@Value("${app.key-rotation.parallelism:4}") int parallelism,
+		@Value("${app.key-rotation.max-rows-per-second:2000}") double maxRowsPerSecond,
+		@Value("${app.key-rotation.lease-seconds:300}") long leaseSeconds
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.keyRotationProgressRepository = keyRotationProgressRepository;
+		this.schedulerLeaseService = schedulerLeaseService;
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism;
+		this.maxRowsPerSecond = maxRowsPerSecond;
+		this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+	}
+
+	@Scheduled(cron = "${app.key-rotation.cron:0 */10 * * * *}")
+	public void rotateIfNeeded() {
+		KeyRotationProgress progress = keyRotationProgressRepository.findById(EncryptionUtils.getCurrentKeyId())
+			.orElse(null);
+		if (progress != null && progress.isCompleted()) {
+			return;
+		}
+
+		if (!schedulerLeaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+			return;
+		}
+
+		try {
+			rotate();
+		} finally {
+			schedulerLeaseService.release(LEASE_NAME);
+		}
+	}
+
+	/**
+	 * @return 이번 실행에서 다시 암호화하거나 다시 감싼 행 수
+	 */
+	long rotate() {
+		String keyId = EncryptionUtils.getCurrentKeyId();
+		KeyRotationProgress progress = keyRotationProgressRepository.findById(keyId)
+			.orElseGet(() -> KeyRotationProgress.start(keyId));
+		if (progress.isCompleted()) {
+			return 0;
+		}
+
+		long rewritten = 0;
+		for (Pass pass : Pass.values()) {
+			PassResult result = runPass(pass, keyId, progress);
+			rewritten += result.rewritten();
+			if (!result.finished()) {
+				return rewritten;
+			}
+		}
+
+		long stale = 0;
+		for (Pass pass : Pass.values()) {
+			stale += countStale(pass);
+		}
+		if (stale > 0) {
+			log.warn("키 교체 검증에서 이전 키로 남은 행 발견, 다음 실행에서 처음부터 다시 처리 - keyId: {}, stale: {}",
+				keyId, stale);
+			for (Pass pass : Pass.values()) {
+				pass.checkpoint(progress, 0, 0);
+			}
+			keyRotationProgressRepository.save(progress);
+			return rewritten;
+		}
+
+		progress.complete();
+		keyRotationProgressRepository.save(progress);
+		log.info("키 교체 재암호화 완료 - keyId: {}, rewritten: {}", keyId, rewritten);
+		return rewritten;
+	}
+
+	/**
+	 * 현재 키가 아닌 값이 남은 행 수. id 순서로 chunkSize 씩 읽기만 한다.
+	 */
+	private long countStale(Pass pass) {
+		long stale = 0;
+		long lastId = Long.MIN_VALUE;
+
+		while (true) {
+			List<ScannedRow> rows = jdbcTemplate.query(
+				"SELECT " + pass.idColumn + ", " + pass.valueColumn + " FROM " + pass.table
+					+ " WHERE " + pass.idColumn + " > ? ORDER BY " + pass.idColumn + " LIMIT ?",
+				(resultSet, rowNum) -> new ScannedRow(
+					resultSet.getLong(pass.idColumn),
+					EncryptionUtils.needsReEncryption(resultSet.getBytes(pass.valueColumn))),
+				lastId,
+				chunkSize
+			);
+			if (rows.isEmpty()) {
+				return stale;
+			}
+
+			for (ScannedRow row : rows) {
+				if (row.stale()) {
+					stale++;
+				}
+			}
+			lastId = rows.get(rows.size() - 1).id();
+		}
+	}
+
+	private PassResult runPass(Pass pass, String keyId, KeyRotationProgress progress) {
+		Long maxId = jdbcTemplate.queryForObject(
+			"SELECT MAX(" + pass.idColumn + ") FROM " + pass.table, Long.class);
+		long startId = pass.nextId(progress);
+		long endId = maxId == null ? startId : Math.max(startId, maxId + 1);
+
+		log.info("{} 시작 - keyId: {}, fromId: {}, toId: {}", pass.label, keyId, startId, endId);
+		long startedAt = System.nanoTime();
+
+		Checkpoint checkpoint = new Checkpoint(pass, progress, startId);
+		RateLimiter rateLimiter = new RateLimiter(maxRowsPerSecond);
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		boolean failed = false;
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (long chunkStart = startId; chunkStart < endId; chunkStart += chunkSize) {
+				long from = chunkStart;
+				long to = Math.min(chunkStart + chunkSize, endId);
+				futures.add(executor.submit(() -> {
+					int rewritten = rewriteRange(pass, from, to, rateLimiter);
+					checkpoint.done(from, rewritten);
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					failed = true;
+					log.error("{} 청크 실패 - keyId: {}", pass.label, keyId, e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failed = true;
+		} finally {
+			executor.shutdownNow();
+		}
+
+		long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+		if (failed) {
+			log.warn("{} 중단, 다음 실행에서 이어서 처리 - keyId: {}, nextId: {}, rewritten: {}, elapsedMs: {}",
+				pass.label, keyId, pass.nextId(progress), checkpoint.rewritten(), elapsedMillis);
+			return new PassResult(checkpoint.rewritten(), false);
+		}
+
+		pass.checkpoint(progress, endId, 0);
+		keyRotationProgressRepository.save(progress);
+
+		log.info("{} 완료 - keyId: {}, rewritten: {}, elapsedMs: {}",
+			pass.label, keyId, checkpoint.rewritten(), elapsedMillis);
+		return new PassResult(checkpoint.rewritten(), true);
+	}
+
+	private int rewriteRange(Pass pass, long fromId, long toId, RateLimiter rateLimiter) throws InterruptedException {
+		List<Object[]> updates = new ArrayList<>();
+
+		jdbcTemplate.query(
+			"SELECT " + pass.idColumn + ", " + pass.valueColumn + " FROM " + pass.table
+				+ " WHERE " + pass.idColumn + " >= ? AND " + pass.idColumn + " < ?",
+			(RowCallbackHandler) resultSet -> {
+				byte[] value = resultSet.getBytes(pass.valueColumn);
+				if (EncryptionUtils.needsReEncryption(value)) {
+					updates.add(new Object[] {pass.rewrite(value), resultSet.getLong(pass.idColumn), value});
+				}
+			},
+			fromId,
+			toId
+		);
+
+		if (updates.isEmpty()) {
+			return 0;
+		}
+
+		rateLimiter.acquire(updates.size());
+
+		int rewritten = 0;
+		String sql = "UPDATE " + pass.table + " SET " + pass.valueColumn + " = ?"
+			+ " WHERE " + pass.idColumn + " = ? AND " + pass.valueColumn + " = ?";
+		for (int result : jdbcTemplate.batchUpdate(sql, updates)) {
+			if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+				rewritten++;
+			}
+		}
+		return rewritten;
+	}
+
+	/**
+	 * 재암호화 단계. 값은 모두 EncryptionUtils 바이너리 형식이라 키 ID 헤더로 다시 쓸 대상을 고른다.
+	 */
+	private enum Pass {
+
+		USERS("이메일 재암호화", "users", "id", "email") {
+			@Override
+			long nextId(KeyRotationProgress progress) {
+				return progress.getNextId();
+			}
+
+			@Override
+			void checkpoint(KeyRotationProgress progress, long nextId, long rowsRewritten) {
+				progress.checkpoint(nextId, rowsRewritten);
+			}
+
+			@Override
+			byte[] rewrite(byte[] value) {
+				return EncryptionUtils.encryptToBytes(EncryptionUtils.decryptBytes(value));
+			}
+		},
+
+		DATA_KEYS("데이터 키 재래핑", "user_data_keys", "user_id", "wrapped_key") {
+			@Override
+			long nextId(KeyRotationProgress progress) {
+				return progress.getDataKeyNextId();
+			}
+
+			@Override
+			void checkpoint(KeyRotationProgress progress, long nextId, long rowsRewritten) {
+				progress.checkpointDataKeys(nextId, rowsRewritten);
+			}
+
+			@Override
+			byte[] rewrite(byte[] value) {
+				return EncryptionUtils.wrapDataKey(EncryptionUtils.unwrapDataKey(value));
+			}
+		};
+
+		private final String label;
+		private final String table;
+		private final String idColumn;
+		private final String valueColumn;
+
+		Pass(String label, String table, String idColumn, String valueColumn) {
+			this.label = label;
+			this.table = table;
+			this.idColumn = idColumn;
+			this.valueColumn = valueColumn;
+		}
+
+		abstract long nextId(KeyRotationProgress progress);
+
+		abstract void checkpoint(KeyRotationProgress progress, long nextId, long rowsRewritten);
+
+		abstract byte[] rewrite(byte[] value);
+	}
+
+	private record PassResult(long rewritten, boolean finished) {
+	}
+
+	private record ScannedRow(long id, boolean stale) {
+	}
+
+	/**
+	 * 순서 없이 끝나는 청크들 중 앞에서부터 연속으로 끝난 지점까지만 진행 위치로 저장한다.
+	 * 저장(DB I/O)까지 락 안에서 하므로 synchronized 대신 ReentrantLock 을 써, 가상 스레드에서 돌아도 캐리어에 고정되지 않게 한다.
+	 */
+	private final class Checkpoint {
+
+		private final Pass pass;
+		private final KeyRotationProgress progress;
+		private final NavigableSet<Long> finishedStarts = new ConcurrentSkipListSet<>();
+		private final ReentrantLock lock = new ReentrantLock();
+		private long watermark;
+		private long rewritten;
+		private long pendingRewritten;
+
+		private Checkpoint(Pass pass, KeyRotationProgress progress, long startId) {
+			this.pass = pass;
+			this.progress = progress;
+			this.watermark = startId;
+		}
+
+		private void done(long fromId, int rewrittenRows) {
+			lock.lock();
+			try {
+				finishedStarts.add(fromId);
+				rewritten += rewrittenRows;
+				pendingRewritten += rewrittenRows;
+
+				long advanced = watermark;
+				while (finishedStarts.remove(advanced)) {
+					advanced += chunkSize;
+				}
+
+				if (advanced != watermark) {
+					watermark = advanced;
+					pass.checkpoint(progress, watermark, pendingRewritten);
+					pendingRewritten = 0;
+					keyRotationProgressRepository.save(progress);
+					schedulerLeaseService.tryAcquire(LEASE_NAME, leaseDuration);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private long rewritten() {
+			lock.lock();
+			try {
+				return rewritten;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.adventcalendar.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.adventcalendar.dto.response.LetterResponse;
+import com.example.adventcalendar.entity.Letter;
+import com.example.adventcalendar.util.DataKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 편지 응답(복호화 + HTML 이스케이프 결과)을 (사용자 id, 편지 id) 로 캐시한다.
+ *
+ * 편지는 작성 후 바뀌지 않으므로 한 번 만든 응답을 계속 쓸 수 있고, 편지마다 복호화와 이스케이프는 최대 한 번이다.
+ * 페이지의 편지가 모두 캐시에 있으면 데이터 키도 찾지 않는다.
+ *
+ * 캐시에는 복호화된 본문이 있으므로 풀린 데이터 키 캐시(DataKeyService)와 같이 마지막 사용 후 TTL 이 지나면 비우고,
+ * 탈퇴 처리로 데이터 키를 지울 때 그 사용자 항목도 지운다. 다른 노드 캐시는 TTL 뒤에 비워진다.
+ */
+@Component
+public class LetterRenderer {
+
+	private final Cache<CacheKey, LetterResponse> cache;
+
+	public LetterRenderer(
+		@Value("${app.letter-render.cache-size:50000}") long cacheSize,
+		@Value("${app.letter-render.cache-ttl-seconds:600}") long cacheTtlSeconds
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterAccess(Duration.ofSeconds(cacheTtlSeconds))
+			.build();
+	}
+
+	/**
+	 * @param dataKey 캐시에 없는 편지가 있을 때만 한 번 호출된다
+	 */
+	public List<LetterResponse> render(Long userId, List<Letter> letters, Supplier<DataKey> dataKey) {
+		if (letters.isEmpty()) {
+			return List.of();
+		}
+
+		Map<CacheKey, Letter> lettersByKey = new LinkedHashMap<>();
+		letters.forEach(letter -> lettersByKey.put(new CacheKey(userId, letter.getId()), letter));
+
+		Map<CacheKey, LetterResponse> rendered = cache.getAll(lettersByKey.keySet(), missingKeys -> {
+			DataKey key = dataKey.get();
+			Map<CacheKey, LetterResponse> responses = new HashMap<>();
+			for (CacheKey cacheKey : missingKeys) {
+				Letter letter = lettersByKey.get(cacheKey);
+				letter.open(key);
+				responses.put(cacheKey, LetterResponse.fromEntity(letter));
+			}
+			return responses;
+		});
+
+		return letters.stream()
+			.map(letter -> rendered.get(new CacheKey(userId, letter.getId())))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 사용자의 편지 응답을 모두 지운다. 탈퇴 처리처럼 드물게 불리므로 전체 키를 훑는다.
+	 */
+	public void invalidateUser(Long userId) {
+		cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+	}
+
+	private record CacheKey(Long userId, Long letterId) {
+	}
+}
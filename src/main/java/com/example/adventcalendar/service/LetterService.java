@@ -5,7 +5,6 @@ import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -19,6 +18,7 @@ import com.example.adventcalendar.exception.ForbiddenException;
 import com.example.adventcalendar.exception.ResourceNotFoundException;
 import com.example.adventcalendar.repository.LetterRepository;
 import com.example.adventcalendar.repository.UserRepository;
+import com.example.adventcalendar.util.DataKey;
 import com.example.adventcalendar.util.XssUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -31,6 +31,8 @@ public class LetterService {
 
 	private final LetterRepository letterRepository;
 	private final UserRepository userRepository;
+	private final DataKeyService dataKeyService;
+	private final LetterRenderer letterRenderer;
 
 	@Value("${app.advent.validate-date:true}")
 	private boolean validateDate;
@@ -38,27 +40,33 @@ public class LetterService {
 	@Value("${app.advent.validate-month:true}")
 	private boolean validateMonth;
 
-	@Transactional
+	/**
+	 * 트랜잭션으로 감싸지 않는다. 처음 쓰는 데이터 키를 만드는 INSERT 가 편지 트랜잭션 안에서 두 번째 커넥션을
+	 * 잡지 않도록 키를 먼저 찾거나 만들어 커밋하고, 편지 저장은 save 한 번의 트랜잭션으로 끝낸다.
+	 */
 	public void createLetter(String uuid, LetterCreateRequest request) {
 		User user = userRepository.findByShareUuid(uuid)
 			.orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 사용자입니다"));
 
-		String sanitizedContent = XssUtils.sanitizeHtml(request.getContent());
-		String sanitizedFromName = XssUtils.sanitizeHtml(request.getFromName());
+		DataKey dataKey = dataKeyService.dataKeyFor(user.getId());
 
+		// 원문 그대로 저장하고 이스케이프는 응답을 만들 때 한다 (LetterResponse.fromEntity)
 		Letter letter = Letter.builder()
 			.user(user)
 			.day(request.getDay())
-			.content(sanitizedContent)
-			.fromName(sanitizedFromName)
+			.content(request.getContent())
+			.fromName(request.getFromName())
 			.build();
+		letter.seal(dataKey);
 
 		letterRepository.save(letter);
 
-		log.info("편지 작성 완료 - userId: {}, day: {}, from: {}", user.getId(), request.getDay(), sanitizedFromName);
+		log.info("편지 작성 완료 - userId: {}, day: {}, from: {}", user.getId(), request.getDay(),
+			XssUtils.sanitizeHtml(request.getFromName()));
 	}
 
-	@Transactional(readOnly = true)
+	// 가입 직후 다른 노드로 온 본인 조회도 방금 만든 사용자를 찾아야 하므로 readOnly 를 빼서 primary 에서 읽는다
+	@Transactional
 	public List<LetterResponse> getLettersByUuid(String uuid, Long requestUserId) {
 		User user = userRepository.findByShareUuid(uuid)
 			.orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 사용자입니다"));
@@ -88,12 +96,11 @@ public class LetterService {
 
 		log.info("편지 조회 완료 - userId: {}, currentDay: {}, count: {}", user.getId(), currentDay, letters.size());
 
-		return letters.stream()
-			.map(LetterResponse::fromEntity)
-			.collect(Collectors.toList());
+		return toResponses(user.getId(), letters);
 	}
 
-	@Transactional(readOnly = true)
+	// getLettersByUuid 와 같은 이유로 primary 에서 읽는다
+	@Transactional
 	public List<LetterResponse> getLettersByDay(String uuid, Integer day, Long requestUserId) {
 		User user = userRepository.findByShareUuid(uuid)
 			.orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 사용자입니다"));
@@ -127,9 +134,12 @@ public class LetterService {
 
 		log.info("특정 날짜 편지 조회 완료 - userId: {}, day: {}, count: {}", user.getId(), day, letters.size());
 
-		return letters.stream()
-			.map(LetterResponse::fromEntity)
-			.collect(Collectors.toList());
+		return toResponses(user.getId(), letters);
+	}
+
+	// 한 사용자의 편지는 모두 같은 데이터 키를 쓰므로 캐시에 없는 편지가 있을 때만 키를 한 번 찾는다
+	private List<LetterResponse> toResponses(Long userId, List<Letter> letters) {
+		return letterRenderer.render(userId, letters, () -> dataKeyService.dataKeyFor(userId));
 	}
 
 	@Transactional(readOnly = true)
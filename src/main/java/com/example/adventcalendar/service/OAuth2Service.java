@@ -1,6 +1,15 @@
 package com.example.adventcalendar.service;
 
 import com.example.adventcalendar.dto.OAuthDto;
+import com.example.adventcalendar.exception.ServiceUnavailableException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,13 +24,39 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Map;
-
+import java.util.function.Supplier;
+
+/**
+ * 네이버/카카오 OAuth 호출.
+ *
+ * 공급자별 서킷 브레이커와 동시 호출 제한(bulkhead)으로 감싼다. 한 공급자가 느려지거나 장애가 나면
+ * 그 공급자 호출만 즉시 실패시키고, 다른 공급자 로그인과 Tomcat 스레드는 영향을 받지 않는다.
+ * 상태는 /actuator/health, /actuator/circuitbreakers, /actuator/bulkheads 로 확인한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OAuth2Service {
 
-	private final RestTemplate restTemplate = new RestTemplate();
+	public static final String NAVER = "naver";
+	public static final String KAKAO = "kakao";
+
+	// 커넥션 풀과 타임아웃이 설정된 클라이언트 (OAuthHttpClientConfig)
+	private final RestTemplate restTemplate;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final BulkheadRegistry bulkheadRegistry;
+
+	@Value("${oauth2.naver.token-uri:https://nid.naver.com/oauth2.0/token}")
+	private String naverTokenUri;
+
+	@Value("${oauth2.naver.user-info-uri:https://openapi.naver.com/v1/nid/me}")
+	private String naverUserInfoUri;
+
+	@Value("${oauth2.kakao.token-uri:https://kauth.kakao.com/oauth/token}")
+	private String kakaoTokenUri;
+
+	@Value("${oauth2.kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}")
+	private String kakaoUserInfoUri;
 
 	@Value("${oauth2.naver.client-id}")
 	private String naverClientId;
@@ -54,8 +89,6 @@ public class OAuth2Service {
 	}
 
 	private String getNaverAccessToken(String code, String state) {
-		String tokenUrl = "https://nid.naver.com/oauth2.0/token";
-
 		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
 		params.add("grant_type", "authorization_code");
 		params.add("client_id", naverClientId);
@@ -66,7 +99,8 @@ public class OAuth2Service {
 		HttpHeaders headers = new HttpHeaders();
 		HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
-		ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
+		ResponseEntity<Map> response = call(NAVER,
+			() -> restTemplate.postForEntity(naverTokenUri, request, Map.class));
 		Map<String, Object> body = response.getBody();
 
 		if (body == null || !body.containsKey("access_token")) {
@@ -77,18 +111,16 @@ public class OAuth2Service {
 	}
 
 	private OAuthUserInfo getNaverUserInfo(String accessToken) {
-		String userInfoUrl = "https://openapi.naver.com/v1/nid/me";
-
 		HttpHeaders headers = new HttpHeaders();
 		headers.setBearerAuth(accessToken);
 		HttpEntity<String> request = new HttpEntity<>(headers);
 
-		ResponseEntity<OAuthDto.NaverOAuthResponse> response = restTemplate.exchange(
-			userInfoUrl,
+		ResponseEntity<OAuthDto.NaverOAuthResponse> response = call(NAVER, () -> restTemplate.exchange(
+			naverUserInfoUri,
 			HttpMethod.GET,
 			request,
 			OAuthDto.NaverOAuthResponse.class
-		);
+		));
 
 		OAuthDto.NaverOAuthResponse naverResponse = response.getBody();
 		if (naverResponse == null || naverResponse.response() == null) {
@@ -107,8 +139,6 @@ public class OAuth2Service {
 	}
 
 	private String getKakaoAccessToken(String code) {
-		String tokenUrl = "https://kauth.kakao.com/oauth/token";
-
 		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
 		params.add("grant_type", "authorization_code");
 		params.add("client_id", kakaoClientId);
@@ -119,7 +149,8 @@ public class OAuth2Service {
 		HttpHeaders headers = new HttpHeaders();
 		HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
-		ResponseEntity<Map> response = restTemplate.postForEntity(tokenUrl, request, Map.class);
+		ResponseEntity<Map> response = call(KAKAO,
+			() -> restTemplate.postForEntity(kakaoTokenUri, request, Map.class));
 		Map<String, Object> body = response.getBody();
 
 		if (body == null || !body.containsKey("access_token")) {
@@ -130,18 +161,16 @@ public class OAuth2Service {
 	}
 
 	private OAuthUserInfo getKakaoUserInfo(String accessToken) {
-		String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
-
 		HttpHeaders headers = new HttpHeaders();
 		headers.setBearerAuth(accessToken);
 		HttpEntity<String> request = new HttpEntity<>(headers);
 
-		ResponseEntity<OAuthDto.KakaoOAuthResponse> response = restTemplate.exchange(
-			userInfoUrl,
+		ResponseEntity<OAuthDto.KakaoOAuthResponse> response = call(KAKAO, () -> restTemplate.exchange(
+			kakaoUserInfoUri,
 			HttpMethod.GET,
 			request,
 			OAuthDto.KakaoOAuthResponse.class
-		);
+		));
 
 		OAuthDto.KakaoOAuthResponse kakaoResponse = response.getBody();
 		if (kakaoResponse == null) {
@@ -160,6 +189,31 @@ public class OAuth2Service {
 			.build();
 	}
 
+	/**
+	 * 공급자 HTTP 호출만 감싼다. 응답 내용 검증 실패(잘못된 인가 코드 등)는 공급자 장애가 아니므로
+	 * 서킷 브레이커 실패율에 넣지 않는다.
+	 */
+	private <T> T call(String provider, Supplier<T> request) {
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(provider);
+		Bulkhead bulkhead = bulkheadRegistry.bulkhead(provider);
+
+		try {
+			// 동시 호출 한도 초과는 공급자 장애가 아니므로 서킷 브레이커 바깥에서 거른다
+			return bulkhead.executeSupplier(CircuitBreaker.decorateSupplier(circuitBreaker, request));
+		} catch (CallNotPermittedException e) {
+			log.warn("OAuth 서킷 브레이커 열림, 호출 차단 - provider: {}", provider);
+			throw new ServiceUnavailableException(unavailableMessage(provider));
+		} catch (BulkheadFullException e) {
+			log.warn("OAuth 동시 호출 한도 초과 - provider: {}", provider);
+			throw new ServiceUnavailableException(unavailableMessage(provider));
+		}
+	}
+
+	private String unavailableMessage(String provider) {
+		String name = NAVER.equals(provider) ? "네이버" : "카카오";
+		return name + " 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요";
+	}
+
 	@lombok.Getter
 	@lombok.Builder
 	public static class OAuthUserInfo {
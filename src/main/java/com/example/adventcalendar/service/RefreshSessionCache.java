@@ -0,0 +1,115 @@
+package com.example.adventcalendar.service;
+
+import com.example.adventcalendar.entity.RefreshToken;
+import com.example.adventcalendar.util.HashUtils;
+import com.example.adventcalendar.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * refresh_tokens 조회 앞에 두는 세션 캐시. 키는 Refresh Token 의 SHA-256 해시다.
+ *
+ * 로그아웃/세션 종료/탈퇴/재로그인으로 세션이 바뀌면 바로 무효화하고, 트랜잭션 안이면 커밋 후 한 번 더 무효화한다.
+ * 인스턴스 메모리에만 보관하므로 다른 노드에서 끊긴 세션은 이 노드 캐시에 남아 있다. 그래서 항목을 짧게(ttl-seconds)
+ * 두고, 만료되면 refresh_tokens 를 다시 조회해 검증한다. 다른 노드의 세션 종료는 최대 ttl-seconds 뒤에 반영되며,
+ * 캐시는 여러 탭이 동시에 갱신하는 것 같은 짧은 구간의 반복 조회만 흡수한다.
+ *
+ * 로그인마다 같은 기기의 이전 세션을 무효화하므로 세션 id → 캐시 키 색인을 따로 두어 캐시 전체를 훑지 않는다.
+ * 색인은 항목이 만료/밀려날 때(evictionListener, 같은 키 잠금 안에서 실행)와 직접 무효화할 때 함께 지운다.
+ * 사용자 단위 무효화(가입 완료, 탈퇴)는 드물어 캐시를 훑는다.
+ */
+@Component
+public class RefreshSessionCache {
+
+	private final Cache<String, Session> cache;
+	private final ConcurrentMap<Long, String> keysBySession = new ConcurrentHashMap<>();
+
+	public RefreshSessionCache(
+		@Value("${app.session-cache.size:100000}") long cacheSize,
+		@Value("${app.session-cache.ttl-seconds:30}") long cacheTtlSeconds
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+			.evictionListener((String key, Session session, cause) -> {
+				if (key != null && session != null) {
+					keysBySession.remove(session.sessionId(), key);
+				}
+			})
+			.build();
+	}
+
+	public Optional<Session> find(String refreshToken) {
+		return Optional.ofNullable(cache.getIfPresent(keyOf(refreshToken)));
+	}
+
+	public Session put(String refreshToken, RefreshToken storedToken) {
+		Session session = new Session(
+			storedToken.getId(),
+			storedToken.getUserId(),
+			storedToken.getExpiresAt(),
+			storedToken.getLastUsedAt()
+		);
+		put(refreshToken, session);
+		return session;
+	}
+
+	public void put(String refreshToken, Session session) {
+		String key = keyOf(refreshToken);
+		cache.put(key, session);
+		keysBySession.put(session.sessionId(), key);
+	}
+
+	public void invalidate(String refreshToken) {
+		String key = keyOf(refreshToken);
+		TransactionUtils.runNowAndAfterCommit(() -> {
+			Session removed = cache.asMap().remove(key);
+			if (removed != null) {
+				keysBySession.remove(removed.sessionId(), key);
+			}
+		});
+	}
+
+	public void invalidateSession(Long sessionId) {
+		TransactionUtils.runNowAndAfterCommit(() -> {
+			String key = keysBySession.remove(sessionId);
+			if (key != null) {
+				cache.invalidate(key);
+			}
+		});
+	}
+
+	public void invalidateUser(Long userId) {
+		TransactionUtils.runNowAndAfterCommit(() -> cache.asMap().entrySet().removeIf(entry -> {
+			if (!entry.getValue().userId().equals(userId)) {
+				return false;
+			}
+			keysBySession.remove(entry.getValue().sessionId(), entry.getKey());
+			return true;
+		}));
+	}
+
+	private static String keyOf(String refreshToken) {
+		return HexFormat.of().formatHex(HashUtils.sha256(refreshToken));
+	}
+
+	public record Session(
+		Long sessionId,
+		Long userId,
+		LocalDateTime expiresAt,
+		LocalDateTime lastUsedAt
+	) {
+		public Session touchedAt(LocalDateTime now) {
+			return new Session(sessionId, userId, expiresAt, now);
+		}
+	}
+}
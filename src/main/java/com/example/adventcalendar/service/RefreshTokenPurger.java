@@ -0,0 +1,110 @@
+package com.example.adventcalendar.service;
+
+import com.example.adventcalendar.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 RefreshToken 정리 배치.
+ *
+ * DELETE ... LIMIT 으로 chunkSize 만큼씩 잘라 지우고 청크 사이에 쉬어서 락을 오래 잡지 않는다.
+ * scheduler_leases 임대를 얻은 노드 하나만 실행하며, 임대 시간의 절반을 넘기면 남은 행은 다음 실행으로 미룬다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.token-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurger {
+
+	static final String LEASE_NAME = "refresh-token-purge";
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final SchedulerLeaseService schedulerLeaseService;
+	private final int chunkSize;
+	private final long pauseMillis;
+	private final Duration leaseDuration;
+
+	public RefreshTokenPurger(
+		RefreshTokenRepository refreshTokenRepository,
+		SchedulerLeaseService schedulerLeaseService,
+		@Value("${app.token-purge.chunk-size:1000}") int chunkSize,
+		@Value("${app.token-purge.pause-millis:200}") long pauseMillis,
+		@Value("${app.token-purge.lease-seconds:600}") long leaseSeconds
+	) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.schedulerLeaseService = schedulerLeaseService;
+		this.chunkSize = chunkSize;
+		this.pauseMillis = pauseMillis;
+		this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+	}
+
+	@Scheduled(cron = "${app.token-purge.cron:0 17 * * * *}")
+	public void purgeExpiredTokens() {
+		if (!schedulerLeaseService.tryAcquire(LEASE_NAME, leaseDuration)) {
+			log.debug("만료 토큰 정리 건너뜀 - 다른 노드가 실행 중");
+			return;
+		}
+
+		try {
+			purge(LocalDateTime.now());
+		} finally {
+			schedulerLeaseService.release(LEASE_NAME);
+		}
+	}
+
+	/**
+	 * @return 삭제한 행 수
+	 */
+	int purge(LocalDateTime cutoff) {
+		long startedAt = System.nanoTime();
+		long deadline = startedAt + leaseDuration.toNanos() / 2;
+
+		int purged = 0;
+		int chunks = 0;
+		boolean finished = false;
+
+		while (System.nanoTime() < deadline) {
+			int deleted = refreshTokenRepository.deleteExpiredChunk(cutoff, chunkSize);
+			purged += deleted;
+			chunks++;
+
+			if (deleted < chunkSize) {
+				finished = true;
+				break;
+			}
+
+			if (!pause()) {
+				break;
+			}
+		}
+
+		long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+		if (finished) {
+			log.info("만료 토큰 정리 완료 - purged: {}, chunks: {}, elapsedMs: {}", purged, chunks, elapsedMillis);
+		} else {
+			log.warn("만료 토큰 정리 중단, 남은 행은 다음 실행에서 처리 - purged: {}, chunks: {}, elapsedMs: {}",
+				purged, chunks, elapsedMillis);
+		}
+
+		return purged;
+	}
+
+	private boolean pause() {
+		if (pauseMillis <= 0) {
+			return true;
+		}
+
+		try {
+			Thread.sleep(pauseMillis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.adventcalendar.service;
+
+import com.example.adventcalendar.repository.SchedulerLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DB 행 하나로 구현한 배치 작업 임대. 여러 노드가 같은 스케줄로 깨어나도 임대를 얻은 한 노드만 작업한다.
+ * 작업 중 노드가 죽으면 lockedUntil 이 지난 뒤 다른 노드가 이어받는다.
+ */
+@Slf4j
+@Service
+public class SchedulerLeaseService {
+
+	private final SchedulerLeaseRepository schedulerLeaseRepository;
+	private final String owner;
+
+	public SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository) {
+		this(schedulerLeaseRepository, defaultOwner());
+	}
+
+	SchedulerLeaseService(SchedulerLeaseRepository schedulerLeaseRepository, String owner) {
+		this.schedulerLeaseRepository = schedulerLeaseRepository;
+		this.owner = owner;
+	}
+
+	public boolean tryAcquire(String name, Duration duration) {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime lockedUntil = now.plus(duration);
+
+		if (schedulerLeaseRepository.takeOver(name, owner, now, lockedUntil) == 1) {
+			return true;
+		}
+
+		if (schedulerLeaseRepository.existsById(name)) {
+			return false;
+		}
+
+		try {
+			return schedulerLeaseRepository.create(name, owner, lockedUntil) == 1;
+		} catch (DataIntegrityViolationException e) {
+			log.debug("다른 노드가 먼저 임대를 생성함 - name: {}", name);
+			return false;
+		}
+	}
+
+	/**
+	 * 긴 작업 도중 임대를 연장한다. false 면 임대가 만료되어 다른 노드가 가져간 것이므로 작업을 멈춰야 한다.
+	 */
+	public boolean renew(String name, Duration duration) {
+		return schedulerLeaseRepository.extend(name, owner, LocalDateTime.now().plus(duration)) == 1;
+	}
+
+	public void release(String name) {
+		schedulerLeaseRepository.release(name, owner, LocalDateTime.now());
+	}
+
+	public String getOwner() {
+		return owner;
+	}
+
+	private static String defaultOwner() {
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (Exception e) {
+			host = "unknown";
+		}
+		if (host.length() > 80) {
+			host = host.substring(0, 80);
+		}
+		return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+}
@@ -0,0 +1,51 @@
+package com.example.adventcalendar.service;
+
+import com.example.adventcalendar.dto.UserIdentity;
+import com.example.adventcalendar.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * (OAuth 공급자, 공급자 사용자 id) 로 가입을 마친(ACTIVE) 사용자의 식별 정보를 찾는 캐시.
+ *
+ * 재로그인 사용자는 User 엔티티 조회와 이메일 복호화 없이 토큰을 발급받는다.
+ * 가입 중(PENDING) 사용자는 상태가 곧 바뀌므로 담지 않는다.
+ * 가입 완료/탈퇴 시 무효화하며, 캐시는 노드마다 따로 두므로 다른 노드는 TTL 뒤에 반영된다.
+ * 그 사이 다른 노드에서 탈퇴한 사용자가 로그인하지 않도록 AuthService 가 세션을 쓰기 전에 상태를 다시 확인한다.
+ */
+@Component
+public class UserIdentityCache {
+
+	private final Cache<Key, UserIdentity> cache;
+
+	public UserIdentityCache(
+		@Value("${app.identity-cache.size:100000}") long cacheSize,
+		@Value("${app.identity-cache.ttl-seconds:300}") long cacheTtlSeconds
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+			.build();
+	}
+
+	public Optional<UserIdentity> find(String oauthProvider, String oauthId) {
+		return Optional.ofNullable(cache.getIfPresent(new Key(oauthProvider, oauthId)));
+	}
+
+	public void put(UserIdentity identity) {
+		cache.put(new Key(identity.oauthProvider(), identity.oauthId()), identity);
+	}
+
+	public void invalidate(String oauthProvider, String oauthId) {
+		Key key = new Key(oauthProvider, oauthId);
+		TransactionUtils.runNowAndAfterCommit(() -> cache.invalidate(key));
+	}
+
+	private record Key(String oauthProvider, String oauthId) {
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.adventcalendar.service;
+
+import com.example.adventcalendar.constant.UserStatus;
+import com.example.adventcalendar.dto.response.UserInfoResponse;
+import com.example.adventcalendar.entity.User;
+import com.example.adventcalendar.exception.ResourceNotFoundException;
+import com.example.adventcalendar.repository.UserRepository;
+import com.example.adventcalendar.util.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * /api/auth/me 응답. 가입을 마친 사용자의 UserInfoResponse 를 사용자 id 별로 캐시해, 페이지마다 호출되는 /me 를
+ * 사용자 행 조회와 이메일 복호화 없이 메모리에서 응답한다.
+ *
+ * 가입 완료/탈퇴 시 무효화한다. 캐시는 노드마다 따로 두므로 다른 노드는 TTL 뒤에 반영된다.
+ */
+@Service
+public class UserInfoService {
+
+	private final UserRepository userRepository;
+	private final Cache<Long, UserInfoResponse> cache;
+
+	public UserInfoService(
+		UserRepository userRepository,
+		@Value("${app.user-info-cache.size:100000}") long cacheSize,
+		@Value("${app.user-info-cache.ttl-seconds:600}") long cacheTtlSeconds
+	) {
+		this.userRepository = userRepository;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+			.build();
+	}
+
+	/**
+	 * @param tokenStatus Access/Temp Token 의 status claim. 예전 토큰이면 null
+	 */
+	public UserInfoResponse getCurrentUser(Long userId, String tokenStatus) {
+		UserInfoResponse cached = cache.getIfPresent(userId);
+		if (cached != null) {
+			return cached;
+		}
+
+		// 가입 전 임시 토큰이면 DB 를 볼 필요 없이 결과가 정해져 있다
+		if (UserStatus.PENDING.name().equals(tokenStatus)) {
+			throw new IllegalStateException("회원가입을 완료해주세요");
+		}
+
+		User user = userRepository.findCommittedById(userId)
+			.filter(found -> found.getStatus() != UserStatus.DELETED)
+			.orElseThrow(() -> new ResourceNotFoundException("존재하지 않는 사용자입니다"));
+
+		if (user.getStatus() != UserStatus.ACTIVE) {
+			throw new IllegalStateException("회원가입을 완료해주세요");
+		}
+
+		UserInfoResponse response = UserInfoResponse.fromEntity(user);
+		cache.put(userId, response);
+
+		return response;
+	}
+
+	public void evict(Long userId) {
+		TransactionUtils.runNowAndAfterCommit(() -> cache.invalidate(userId));
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.adventcalendar.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 스레드 안전 Bloom filter.
+ *
+ * false positive 는 있을 수 있지만 false negative 는 없으므로,
+ * mightContain 이 true 일 때만 정확한 저장소를 확인하는 용도로 쓴다.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final int bitCount;
+	private final int hashCount;
+
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions 는 0보다 커야 합니다");
+		}
+		if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+			throw new IllegalArgumentException("falsePositiveRate 는 0과 1 사이여야 합니다");
+		}
+
+		long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+		this.bits = new AtomicLongArray((bitCount + 63) / 64);
+	}
+
+	public void put(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			setBit(index(h1 + i * h2));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			int index = index(h1 + i * h2);
+			if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public int getBitCount() {
+		return bitCount;
+	}
+
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	private int index(int combinedHash) {
+		return (combinedHash & Integer.MAX_VALUE) % bitCount;
+	}
+
+	private void setBit(int index) {
+		int word = index >>> 6;
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+
+	// FNV-1a 64bit 후 splitmix 로 섞는다 (Kirsch-Mitzenmacher double hashing 용)
+	private static long hash64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,43 @@
+package com.example.adventcalendar.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 스레드 안전하지 않은 객체(Cipher, Mac)를 빌려 쓰고 돌려놓는 풀.
+ *
+ * 비어 있으면 새로 만들고, 돌려받을 때 유휴 개수가 maxIdle 을 넘으면 버린다.
+ * ThreadLocal 과 달리 스레드 수와 무관하게 재사용되어, 요청마다 새 가상 스레드가 뜨는 모드에서도 생성 비용이 반복되지 않는다.
+ */
+final class BoundedPool<T> {
+
+	private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+	// ConcurrentLinkedQueue.size() 는 O(n) 이라 개수를 따로 센다. 경합 중에는 잠깐 maxIdle 을 넘을 수 있다
+	private final AtomicInteger idleCount = new AtomicInteger();
+	private final Supplier<T> factory;
+	private final int maxIdle;
+
+	BoundedPool(Supplier<T> factory, int maxIdle) {
+		this.factory = factory;
+		this.maxIdle = maxIdle;
+	}
+
+	T borrow() {
+		T instance = idle.poll();
+		if (instance == null) {
+			return factory.get();
+		}
+		idleCount.decrementAndGet();
+		return instance;
+	}
+
+	void release(T instance) {
+		if (idleCount.incrementAndGet() > maxIdle) {
+			idleCount.decrementAndGet();
+			return;
+		}
+		idle.offer(instance);
+	}
+}
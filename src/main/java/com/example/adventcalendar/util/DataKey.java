@@ -0,0 +1,109 @@
+package com.example.adventcalendar.util;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 사용자별 데이터 키 (envelope encryption). 편지 내용은 이 키로 암호화하고, 키 자체는 마스터 키로 감싸 DB 에 둔다.
+ *
+ * 풀린 키는 DataKeyService 캐시에 보관하므로 편지 목록 한 페이지는 키 조회/언랩 한 번으로 모두 복호화된다.
+ * 행마다 달라지는 것은 IV 뿐이고, SecretKeySpec 과 스레드별 Cipher 는 그대로 재사용한다.
+ *
+ * 암호문 형식: [버전 1B][iv 12B][암호문 + 태그 16B]
+ */
+public final class DataKey {
+
+	private static final int KEY_LENGTH = 32;
+	private static final int GCM_IV_LENGTH = 12;
+	private static final int GCM_TAG_LENGTH = 128;
+	private static final byte VERSION = 1;
+
+	private final SecretKeySpec key;
+
+	private DataKey(byte[] keyBytes) {
+		if (keyBytes.length != KEY_LENGTH) {
+			throw new IllegalArgumentException("데이터 키는 32바이트여야 합니다");
+		}
+		this.key = new SecretKeySpec(keyBytes, "AES");
+	}
+
+	public static DataKey generate() {
+		return new DataKey(EncryptionUtils.randomBytes(KEY_LENGTH));
+	}
+
+	public static DataKey unwrap(byte[] wrappedKey) {
+		return new DataKey(EncryptionUtils.unwrapDataKey(wrappedKey));
+	}
+
+	public static DataKey unwrap(KeyRing keyRing, byte[] wrappedKey) {
+		return new DataKey(EncryptionUtils.unwrapDataKey(keyRing, wrappedKey));
+	}
+
+	public byte[] wrap() {
+		return EncryptionUtils.wrapDataKey(key.getEncoded());
+	}
+
+	public byte[] wrap(KeyRing keyRing) {
+		return EncryptionUtils.wrapDataKey(keyRing, key.getEncoded());
+	}
+
+	public byte[] encrypt(String plainText) {
+		if (plainText == null) {
+			return null;
+		}
+
+		try {
+			byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
+			byte[] iv = EncryptionUtils.newIv();
+
+			byte[] output = new byte[1 + GCM_IV_LENGTH + plainBytes.length + GCM_TAG_LENGTH / 8];
+			output[0] = VERSION;
+			System.arraycopy(iv, 0, output, 1, GCM_IV_LENGTH);
+
+			Cipher cipher = EncryptionUtils.borrowCipher();
+			try {
+				cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+				cipher.doFinal(plainBytes, 0, plainBytes.length, output, 1 + GCM_IV_LENGTH);
+			} finally {
+				EncryptionUtils.releaseCipher(cipher);
+			}
+
+			return output;
+		} catch (Exception e) {
+			throw new RuntimeException("암호화 실패", e);
+		}
+	}
+
+	public String decrypt(byte[] encrypted) {
+		if (encrypted == null) {
+			return null;
+		}
+
+		try {
+			if (encrypted[0] != VERSION) {
+				throw new IllegalArgumentException("지원하지 않는 암호문 버전입니다: " + encrypted[0]);
+			}
+
+			int bodyOffset = 1 + GCM_IV_LENGTH;
+			byte[] plainBytes;
+			Cipher cipher = EncryptionUtils.borrowCipher();
+			try {
+				cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, encrypted, 1, GCM_IV_LENGTH));
+				plainBytes = cipher.doFinal(encrypted, bodyOffset, encrypted.length - bodyOffset);
+			} finally {
+				EncryptionUtils.releaseCipher(cipher);
+			}
+			return new String(plainBytes, StandardCharsets.UTF_8);
+		} catch (Exception e) {
+			throw new RuntimeException("복호화 실패", e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "DataKey[****]";
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.adventcalendar.util;
+
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 암호화 컬럼 값. DB 에서 읽은 암호문은 plain() 이 처음 호출될 때 복호화하고,
+ * 새로 만든 평문은 저장될 때 한 번만 암호화한다.
+ *
+ * 값이 바뀌면 인스턴스를 새로 만든다. Hibernate 는 @Immutable 타입의 스냅샷을 복사하지 않고
+ * 참조 비교로 변경을 감지하므로, 로딩이나 dirty checking 만으로는 복호화가 일어나지 않는다.
+ */
+@Immutable
+public final class EncryptedValue {
+
+	private volatile byte[] cipherText;
+	private volatile String plainText;
+
+	private EncryptedValue(byte[] cipherText, String plainText) {
+		this.cipherText = cipherText;
+		this.plainText = plainText;
+	}
+
+	public static EncryptedValue ofPlainText(String plainText) {
+		return plainText == null ? null : new EncryptedValue(null, plainText);
+	}
+
+	public static EncryptedValue ofCipherText(byte[] cipherText) {
+		return cipherText == null ? null : new EncryptedValue(cipherText, null);
+	}
+
+	public String plain() {
+		String value = plainText;
+		if (value == null) {
+			value = EncryptionUtils.decryptBytes(cipherText);
+			plainText = value;
+		}
+		return value;
+	}
+
+	/**
+	 * 저장용 바이너리 암호문. 반환한 배열은 공유되므로 수정하면 안 된다.
+	 */
+	public byte[] cipherText() {
+		byte[] value = cipherText;
+		if (value == null) {
+			value = EncryptionUtils.encryptToBytes(plainText);
+			cipherText = value;
+		}
+		return value;
+	}
+
+	boolean isDecrypted() {
+		return plainText != null;
+	}
+
+	@Override
+	public String toString() {
+		return "EncryptedValue[****]";
+	}
+}
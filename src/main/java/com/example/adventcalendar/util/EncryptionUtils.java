@@ -1,11 +1,15 @@
 package com.example.adventcalendar.util;
 
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.util.Base64;
+import java.util.Locale;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -18,73 +22,269 @@ public class EncryptionUtils {
 	private static final String ALGORITHM = "AES/GCM/NoPadding";
 	private static final int GCM_IV_LENGTH = 12;
 	private static final int GCM_TAG_LENGTH = 128;
+	private static final String BLIND_INDEX_ALGORITHM = "HmacSHA256";
+	private static final String BLIND_INDEX_CONTEXT = "advent-calendar:blind-index:v1";
 
-	private static SecretKeySpec secretKeyStatic;
+	// IV 는 매번 새로 뽑되 SecureRandom 은 하나만 두고 공유한다 (스레드 안전, /dev/urandom 기반이라 블로킹 없음)
+	private static final SecureRandom IV_RANDOM = createIvRandom();
+
+	// Cipher/Mac 은 스레드 안전하지 않으므로 풀에서 빌려 쓰고 호출마다 새 IV(키)로 init 한다.
+	// ThreadLocal 은 가상 스레드 모드에서 요청마다 새로 만들어지므로 쓰지 않는다. 암복호화는 CPU 작업이라 코어 수 정도면 충분하다
+	private static final int POOL_MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+	private static final BoundedPool<Cipher> CIPHERS = new BoundedPool<>(EncryptionUtils::newCipher, POOL_MAX_IDLE);
+	private static final BoundedPool<Mac> MACS = new BoundedPool<>(EncryptionUtils::newMac, POOL_MAX_IDLE);
+
+	// 바이너리 형식: [버전 1B][키 ID 길이 1B][키 ID][iv 12B][암호문 + 태그 16B]
+	private static final byte BINARY_VERSION = 1;
+	private static final int GCM_TAG_BYTES = GCM_TAG_LENGTH / 8;
+
+	private static KeyRing keyRingStatic;
+	private static SecretKeySpec blindIndexKeyStatic;
 
 	@Value("${encryption.secret-key}")
 	private String secretKey;
 
+	@Value("${encryption.key-id:k1}")
+	private String keyId;
+
+	@Value("${encryption.old-keys:}")
+	private String oldKeys;
+
+	@Value("${encryption.legacy-key-id:}")
+	private String legacyKeyId;
+
+	@Value("${encryption.blind-index-key:}")
+	private String blindIndexKey;
+
+	private KeyRing keyRing;
+	private SecretKeySpec blindIndexSecretKey;
+
 	@PostConstruct
 	public void init() {
-		byte[] keyBytes = secretKey.getBytes();
-		if (keyBytes.length != 32) {
-			throw new IllegalArgumentException("암호화 키는 32바이트여야 합니다");
-		}
-		secretKeyStatic = new SecretKeySpec(keyBytes, "AES");
+		keyRing = KeyRing.of(keyId, secretKey, oldKeys, legacyKeyId);
+		// 키를 교체해도 blind index 값이 바뀌지 않도록 최초 키(legacy)에서 파생한다.
+		// 이전 키가 있으면 legacy-key-id 를 반드시 지정하게 하므로(KeyRing.of), 교체 중에 파생 키가 바뀌지 않는다
+		blindIndexSecretKey = blindIndexKeyFor(blindIndexKey, keyRing.legacyKey().getEncoded());
+		keyRingStatic = keyRing;
+		blindIndexKeyStatic = blindIndexSecretKey;
+	}
+
+	/**
+	 * 설정에서 만든 키 링. 정적 상태에 기대지 않아야 하는 곳(Flyway Java 마이그레이션)에 명시적으로 넘긴다.
+	 */
+	public KeyRing getKeyRing() {
+		return keyRing;
 	}
 
-	public static String encrypt(String plainText) {
+	public SecretKey getBlindIndexKey() {
+		return blindIndexSecretKey;
+	}
+
+	public static String getCurrentKeyId() {
+		return keyRingStatic.getCurrentKeyId();
+	}
+
+	/**
+	 * 바이너리 형식이 현재 키가 아닌 키로 암호화된 값인지 확인한다.
+	 */
+	public static boolean needsReEncryption(byte[] encrypted) {
+		return encrypted != null && !keyRingStatic.isCurrentKeyId(encrypted, 2, encrypted[1]);
+	}
+
+	/**
+	 * VARBINARY 컬럼에 그대로 저장하는 바이너리 형식으로 암호화한다. Base64 인코딩과 문자열 생성이 없다.
+	 */
+	public static byte[] encryptToBytes(String plainText) {
 		if (plainText == null) {
 			return null;
 		}
 
 		try {
-			byte[] iv = new byte[GCM_IV_LENGTH];
-			new SecureRandom().nextBytes(iv);
+			return seal(keyRingStatic, plainText.getBytes(StandardCharsets.UTF_8));
+		} catch (Exception e) {
+			throw new RuntimeException("암호화 실패", e);
+		}
+	}
+
+	public static String decryptBytes(byte[] encrypted) {
+		return decryptBytes(keyRingStatic, encrypted);
+	}
+
+	public static String decryptBytes(KeyRing keyRing, byte[] encrypted) {
+		if (encrypted == null) {
+			return null;
+		}
+
+		try {
+			return new String(open(keyRing, encrypted), StandardCharsets.UTF_8);
+		} catch (Exception e) {
+			throw new RuntimeException("복호화 실패", e);
+		}
+	}
 
-			Cipher cipher = Cipher.getInstance(ALGORITHM);
-			GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-			cipher.init(Cipher.ENCRYPT_MODE, secretKeyStatic, parameterSpec);
+	/**
+	 * 사용자별 데이터 키를 마스터 키(현재 키)로 감싼다. 형식은 encryptToBytes 와 같아 키 교체 후에도 풀 수 있다.
+	 */
+	public static byte[] wrapDataKey(byte[] dataKey) {
+		return wrapDataKey(keyRingStatic, dataKey);
+	}
 
-			byte[] encryptedBytes = cipher.doFinal(plainText.getBytes());
+	public static byte[] wrapDataKey(KeyRing keyRing, byte[] dataKey) {
+		try {
+			return seal(keyRing, dataKey);
+		} catch (Exception e) {
+			throw new RuntimeException("데이터 키 암호화 실패", e);
+		}
+	}
 
-			ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + encryptedBytes.length);
-			byteBuffer.put(iv);
-			byteBuffer.put(encryptedBytes);
+	public static byte[] unwrapDataKey(byte[] wrappedKey) {
+		return unwrapDataKey(keyRingStatic, wrappedKey);
+	}
 
-			return Base64.getEncoder().encodeToString(byteBuffer.array());
+	public static byte[] unwrapDataKey(KeyRing keyRing, byte[] wrappedKey) {
+		try {
+			return open(keyRing, wrappedKey);
 		} catch (Exception e) {
-			throw new RuntimeException("암호화 실패", e);
+			throw new RuntimeException("데이터 키 복호화 실패", e);
+		}
+	}
+
+	private static byte[] seal(KeyRing keyRing, byte[] plainBytes) throws GeneralSecurityException {
+		byte[] keyId = keyRing.currentKeyIdBytes();
+
+		int ivOffset = 2 + keyId.length;
+		int bodyOffset = ivOffset + GCM_IV_LENGTH;
+		byte[] output = new byte[bodyOffset + plainBytes.length + GCM_TAG_BYTES];
+		output[0] = BINARY_VERSION;
+		output[1] = (byte)keyId.length;
+		System.arraycopy(keyId, 0, output, 2, keyId.length);
+
+		byte[] iv = newIv();
+		System.arraycopy(iv, 0, output, ivOffset, GCM_IV_LENGTH);
+
+		Cipher cipher = CIPHERS.borrow();
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, keyRing.currentKey(), new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+			cipher.doFinal(plainBytes, 0, plainBytes.length, output, bodyOffset);
+		} finally {
+			CIPHERS.release(cipher);
 		}
+
+		return output;
 	}
 
-	public static String decrypt(String encryptedText) {
-		if (encryptedText == null) {
+	private static byte[] open(KeyRing keyRing, byte[] encrypted) throws GeneralSecurityException {
+		if (encrypted[0] != BINARY_VERSION) {
+			throw new IllegalArgumentException("지원하지 않는 암호문 버전입니다: " + encrypted[0]);
+		}
+
+		int keyIdLength = encrypted[1];
+		int ivOffset = 2 + keyIdLength;
+		int bodyOffset = ivOffset + GCM_IV_LENGTH;
+		SecretKeySpec key = keyRing.key(encrypted, 2, keyIdLength);
+
+		Cipher cipher = CIPHERS.borrow();
+		try {
+			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, encrypted, ivOffset, GCM_IV_LENGTH));
+			return cipher.doFinal(encrypted, bodyOffset, encrypted.length - bodyOffset);
+		} finally {
+			CIPHERS.release(cipher);
+		}
+	}
+
+	/**
+	 * 암호화된 이메일을 동등 비교로 찾기 위한 blind index. 대소문자/앞뒤 공백을 정규화한 뒤 HMAC-SHA256 을 계산한다.
+	 */
+	public static byte[] emailBlindIndex(String email) {
+		return emailBlindIndex(blindIndexKeyStatic, email);
+	}
+
+	public static byte[] emailBlindIndex(SecretKey blindIndexKey, String email) {
+		if (email == null) {
 			return null;
 		}
 
+		Mac mac = MACS.borrow();
+		try {
+			mac.init(blindIndexKey);
+			return mac.doFinal(email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("blind index 계산 실패", e);
+		} finally {
+			MACS.release(mac);
+		}
+	}
+
+	/**
+	 * 별도 키가 없으면 암호화 키에서 blind index 전용 키를 파생한다. 같은 키를 두 용도로 그대로 쓰지 않기 위함이다.
+	 */
+	private static SecretKeySpec blindIndexKeyFor(String configuredKey, byte[] encryptionKey) {
+		if (configuredKey != null && !configuredKey.isEmpty()) {
+			return new SecretKeySpec(configuredKey.getBytes(StandardCharsets.UTF_8), BLIND_INDEX_ALGORITHM);
+		}
+
 		try {
-			byte[] decoded = Base64.getDecoder().decode(encryptedText);
+			Mac mac = Mac.getInstance(BLIND_INDEX_ALGORITHM);
+			mac.init(new SecretKeySpec(encryptionKey, BLIND_INDEX_ALGORITHM));
+			byte[] derived = mac.doFinal(BLIND_INDEX_CONTEXT.getBytes(StandardCharsets.UTF_8));
+			return new SecretKeySpec(derived, BLIND_INDEX_ALGORITHM);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("blind index 키 생성 실패", e);
+		}
+	}
 
-			ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
-			byte[] iv = new byte[GCM_IV_LENGTH];
-			byteBuffer.get(iv);
-			byte[] encryptedBytes = new byte[byteBuffer.remaining()];
-			byteBuffer.get(encryptedBytes);
+	// DataKey 가 같은 Cipher 풀과 IV 난수원을 쓰도록 패키지 내부에만 연다. 빌린 Cipher 는 finally 에서 돌려놓는다
+	static Cipher borrowCipher() {
+		return CIPHERS.borrow();
+	}
 
-			Cipher cipher = Cipher.getInstance(ALGORITHM);
-			GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-			cipher.init(Cipher.DECRYPT_MODE, secretKeyStatic, parameterSpec);
+	static void releaseCipher(Cipher cipher) {
+		CIPHERS.release(cipher);
+	}
 
-			return new String(cipher.doFinal(encryptedBytes));
-		} catch (Exception e) {
-			throw new RuntimeException("복호화 실패", e);
+	static byte[] newIv() {
+		byte[] iv = new byte[GCM_IV_LENGTH];
+		IV_RANDOM.nextBytes(iv);
+		return iv;
+	}
+
+	static byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		IV_RANDOM.nextBytes(bytes);
+		return bytes;
+	}
+
+	private static Mac newMac() {
+		try {
+			return Mac.getInstance(BLIND_INDEX_ALGORITHM);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Mac 생성 실패: " + BLIND_INDEX_ALGORITHM, e);
+		}
+	}
+
+	private static Cipher newCipher() {
+		try {
+			return Cipher.getInstance(ALGORITHM);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Cipher 생성 실패: " + ALGORITHM, e);
+		}
+	}
+
+	private static SecureRandom createIvRandom() {
+		try {
+			return SecureRandom.getInstance("NativePRNGNonBlocking");
+		} catch (NoSuchAlgorithmException e) {
+			return new SecureRandom();
 		}
 	}
 
 	// 테스트용 초기화 메서드
 	public static void initForTest(String key) {
-		byte[] keyBytes = key.getBytes();
-		secretKeyStatic = new SecretKeySpec(keyBytes, "AES");
+		initForTest(KeyRing.single("k1", key));
+	}
+
+	public static void initForTest(KeyRing keyRing) {
+		keyRingStatic = keyRing;
+		blindIndexKeyStatic = blindIndexKeyFor(null, keyRing.legacyKey().getEncoded());
 	}
 }
@@ -0,0 +1,25 @@
+package com.example.adventcalendar.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class HashUtils {
+
+	public static final int SHA256_LENGTH = 32;
+
+	private HashUtils() {
+	}
+
+	public static byte[] sha256(String value) {
+		if (value == null) {
+			return null;
+		}
+
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.example.adventcalendar.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 데이터 암호화 키 묶음. 새로 암호화할 때는 현재 키만 쓰고, 복호화는 암호문 헤더의 키 ID 로 고른 키로 한다.
+ * 헤더가 없는 예전 암호문은 legacyKeyId 키로 복호화하고, 별도 blind index 키가 없으면 blind index 키도 이 키에서 파생한다.
+ * 그래서 이전 키가 있는데 legacyKeyId 가 비어 있으면(현재 키로 간주되어 교체 때마다 바뀌므로) 거부한다.
+ */
+public final class KeyRing {
+
+	private static final Pattern KEY_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,16}");
+	private static final int KEY_LENGTH = 32;
+
+	private final String currentKeyId;
+	private final String legacyKeyId;
+	private final Map<String, SecretKeySpec> keys;
+
+	// 바이너리 암호문 헤더와 비교할 키 ID 바이트. 복호화마다 String 을 만들지 않기 위함이다
+	private final byte[] currentKeyIdBytes;
+	private final byte[][] keyIdBytes;
+	private final SecretKeySpec[] keysByIndex;
+
+	private KeyRing(String currentKeyId, String legacyKeyId, Map<String, SecretKeySpec> keys) {
+		this.currentKeyId = currentKeyId;
+		this.legacyKeyId = legacyKeyId;
+		this.keys = Collections.unmodifiableMap(keys);
+		this.currentKeyIdBytes = currentKeyId.getBytes(StandardCharsets.US_ASCII);
+
+		this.keyIdBytes = new byte[keys.size()][];
+		this.keysByIndex = new SecretKeySpec[keys.size()];
+		int index = 0;
+		for (Map.Entry<String, SecretKeySpec> entry : keys.entrySet()) {
+			keyIdBytes[index] = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+			keysByIndex[index] = entry.getValue();
+			index++;
+		}
+	}
+
+	/**
+	 * @param oldKeys "keyId:key,keyId:key" 형식의 이전 키 목록 (복호화 전용)
+	 */
+	public static KeyRing of(String currentKeyId, String currentKey, String oldKeys, String legacyKeyId) {
+		Map<String, SecretKeySpec> keys = new LinkedHashMap<>();
+		keys.put(validateKeyId(currentKeyId), aesKey(currentKeyId, currentKey));
+
+		if (oldKeys != null && !oldKeys.isBlank()) {
+			for (String entry : oldKeys.split(",")) {
+				int separator = entry.indexOf(':');
+				if (separator <= 0) {
+					throw new IllegalArgumentException("이전 암호화 키 형식이 잘못되었습니다 (keyId:key)");
+				}
+				String keyId = validateKeyId(entry.substring(0, separator).trim());
+				if (keys.containsKey(keyId)) {
+					throw new IllegalArgumentException("중복된 암호화 키 ID 입니다: " + keyId);
+				}
+				keys.put(keyId, aesKey(keyId, entry.substring(separator + 1).trim()));
+			}
+		}
+
+		boolean legacyKeyIdMissing = legacyKeyId == null || legacyKeyId.isBlank();
+		if (legacyKeyIdMissing && keys.size() > 1) {
+			throw new IllegalArgumentException(
+				"이전 키가 있으면 encryption.legacy-key-id 를 지정해야 합니다 (최초 키 ID, 키를 교체해도 바꾸지 않음)");
+		}
+
+		String legacy = legacyKeyIdMissing ? currentKeyId : legacyKeyId;
+		if (!keys.containsKey(legacy)) {
+			throw new IllegalArgumentException("헤더 없는 암호문용 키가 키 목록에 없습니다: " + legacy);
+		}
+
+		return new KeyRing(currentKeyId, legacy, keys);
+	}
+
+	public static KeyRing single(String keyId, String key) {
+		return of(keyId, key, null, keyId);
+	}
+
+	public String getCurrentKeyId() {
+		return currentKeyId;
+	}
+
+	public String getLegacyKeyId() {
+		return legacyKeyId;
+	}
+
+	SecretKeySpec currentKey() {
+		return keys.get(currentKeyId);
+	}
+
+	SecretKeySpec legacyKey() {
+		return keys.get(legacyKeyId);
+	}
+
+	byte[] currentKeyIdBytes() {
+		return currentKeyIdBytes;
+	}
+
+	boolean isCurrentKeyId(byte[] buffer, int offset, int length) {
+		return Arrays.equals(buffer, offset, offset + length, currentKeyIdBytes, 0, currentKeyIdBytes.length);
+	}
+
+	SecretKeySpec key(byte[] buffer, int offset, int length) {
+		for (int i = 0; i < keyIdBytes.length; i++) {
+			if (Arrays.equals(buffer, offset, offset + length, keyIdBytes[i], 0, keyIdBytes[i].length)) {
+				return keysByIndex[i];
+			}
+		}
+		throw new IllegalStateException("알 수 없는 암호화 키 ID 입니다: "
+			+ new String(buffer, offset, length, StandardCharsets.US_ASCII));
+	}
+
+	private static String validateKeyId(String keyId) {
+		if (keyId == null || !KEY_ID_PATTERN.matcher(keyId).matches()) {
+			throw new IllegalArgumentException("암호화 키 ID 는 영문/숫자/_/- 1~16자여야 합니다: " + keyId);
+		}
+		return keyId;
+	}
+
+	private static SecretKeySpec aesKey(String keyId, String key) {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		if (keyBytes.length != KEY_LENGTH) {
+			throw new IllegalArgumentException("암호화 키는 32바이트여야 합니다 - keyId: " + keyId);
+		}
+		return new SecretKeySpec(keyBytes, "AES");
+	}
+}
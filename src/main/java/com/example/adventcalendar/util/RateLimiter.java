@@ -0,0 +1,38 @@
+package com.example.adventcalendar.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용량을 넘지 않도록 호출 스레드를 재우는 단순 rate limiter. 여러 스레드가 공유해도 전체 합계 기준으로 제한한다.
+ */
+public final class RateLimiter {
+
+	private final long nanosPerPermit;
+	private long nextFreeNanos;
+
+	/**
+	 * @param permitsPerSecond 0 이하이면 제한하지 않는다
+	 */
+	public RateLimiter(double permitsPerSecond) {
+		this.nanosPerPermit = permitsPerSecond > 0 ? (long)(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+		this.nextFreeNanos = System.nanoTime();
+	}
+
+	public void acquire(int permits) throws InterruptedException {
+		if (nanosPerPermit == 0 || permits <= 0) {
+			return;
+		}
+
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			long slot = Math.max(now, nextFreeNanos);
+			nextFreeNanos = slot + permits * nanosPerPermit;
+			waitNanos = slot - now;
+		}
+
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+}
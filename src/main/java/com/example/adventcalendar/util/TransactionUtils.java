@@ -0,0 +1,33 @@
+package com.example.adventcalendar.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils {
+
+	private TransactionUtils() {
+	}
+
+	/**
+	 * 캐시 무효화용. 바로 실행하고, 트랜잭션 안이면 커밋 후에 한 번 더 실행한다.
+	 * 커밋 전에 다른 요청이 이전 행을 읽어 캐시에 다시 넣는 경우를 막기 위함이다.
+	 */
+	public static void runNowAndAfterCommit(Runnable action) {
+		action.run();
+		runAfterCommit(action);
+	}
+
+	/**
+	 * 트랜잭션 안이면 커밋 후에 실행한다. 트랜잭션 밖이면 아무것도 하지 않는다.
+	 */
+	public static void runAfterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		}
+	}
+}
@@ -6,11 +6,61 @@ import org.springframework.stereotype.Component;
 @Component
 public class XssUtils {
 
+	// Encode.forHtml 이 그대로 통과시키는 ASCII 문자: 출력 가능한 문자 중 & < > " ' 를 뺀 것과 \t \n \r
+	private static final boolean[] ASCII_PASS_THROUGH = new boolean[128];
+
+	private static final char[] ENTITY_CHARS = {'&', '<', '>', '"', '\''};
+
+	static {
+		for (char ch = ' '; ch < 0x7f; ch++) {
+			ASCII_PASS_THROUGH[ch] = true;
+		}
+		ASCII_PASS_THROUGH['&'] = false;
+		ASCII_PASS_THROUGH['<'] = false;
+		ASCII_PASS_THROUGH['>'] = false;
+		ASCII_PASS_THROUGH['"'] = false;
+		ASCII_PASS_THROUGH['\''] = false;
+		ASCII_PASS_THROUGH['\t'] = true;
+		ASCII_PASS_THROUGH['\n'] = true;
+		ASCII_PASS_THROUGH['\r'] = true;
+	}
+
+	/**
+	 * Encode.forHtml 과 같은 결과를 낸다.
+	 *
+	 * 대부분의 편지/이름에는 이스케이프할 문자가 없으므로 먼저 훑어보고, 없으면 입력 인스턴스를 그대로 돌려준다.
+	 * & < > " ' 만 있으면 늘어날 길이를 미리 계산한 버퍼에 한 번에 쓴다.
+	 * 제어 문자, 짝 없는 서로게이트, 비문자 등 드문 경우는 Encode.forHtml 에 그대로 맡긴다.
+	 */
 	public static String sanitizeHtml(String input) {
 		if (input == null) {
 			return null;
 		}
-		return Encode.forHtml(input);
+
+		int length = input.length();
+		int extra = 0;
+		for (int i = 0; i < length; i++) {
+			char ch = input.charAt(i);
+			if (ch < 0x80) {
+				if (ASCII_PASS_THROUGH[ch]) {
+					continue;
+				}
+				int growth = entityGrowth(ch);
+				if (growth < 0) {
+					return Encode.forHtml(input);
+				}
+				extra += growth;
+			} else if (Character.isHighSurrogate(ch)) {
+				if (!isPassThroughPair(input, i)) {
+					return Encode.forHtml(input);
+				}
+				i++;
+			} else if (!isPassThroughBmp(ch)) {
+				return Encode.forHtml(input);
+			}
+		}
+
+		return extra == 0 ? input : escape(input, length + extra);
 	}
 
 	public static String[] sanitizeHtml(String... inputs) {
@@ -25,10 +75,100 @@ public class XssUtils {
 		return sanitized;
 	}
 
+	/**
+	 * sanitizeHtml 이 만든 엔티티(&amp; &lt; &gt; &#34; &#39;)만 한 번에 되돌린다.
+	 * 한 번만 훑으므로 원문에 있던 "&lt;" (저장 시 "&amp;lt;") 가 "<" 로 이중 디코딩되지 않는다.
+	 */
+	public static String unescapeHtml(String input) {
+		if (input == null || input.indexOf('&') < 0) {
+			return input;
+		}
+
+		StringBuilder output = new StringBuilder(input.length());
+		int start = 0;
+		int index = input.indexOf('&');
+		while (index >= 0) {
+			char decoded = 0;
+			int entityLength = 0;
+			for (char ch : ENTITY_CHARS) {
+				String entity = entity(ch);
+				if (input.startsWith(entity, index)) {
+					decoded = ch;
+					entityLength = entity.length();
+					break;
+				}
+			}
+
+			if (entityLength > 0) {
+				output.append(input, start, index).append(decoded);
+				start = index + entityLength;
+				index = input.indexOf('&', start);
+			} else {
+				index = input.indexOf('&', index + 1);
+			}
+		}
+		return output.append(input, start, input.length()).toString();
+	}
+
 	public static String sanitizeJavaScript(String input) {
 		if (input == null) {
 			return null;
 		}
 		return Encode.forJavaScript(input);
 	}
+
+	private static String escape(String input, int encodedLength) {
+		StringBuilder output = new StringBuilder(encodedLength);
+		int start = 0;
+		for (int i = 0; i < input.length(); i++) {
+			String entity = entity(input.charAt(i));
+			if (entity != null) {
+				output.append(input, start, i).append(entity);
+				start = i + 1;
+			}
+		}
+		return output.append(input, start, input.length()).toString();
+	}
+
+	private static String entity(char ch) {
+		switch (ch) {
+			case '&':
+				return "&amp;";
+			case '<':
+				return "&lt;";
+			case '>':
+				return "&gt;";
+			case '"':
+				return "&#34;";
+			case '\'':
+				return "&#39;";
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * 엔티티로 바뀔 때 늘어나는 길이. 엔티티 대상이 아니면 -1.
+	 */
+	private static int entityGrowth(char ch) {
+		String entity = entity(ch);
+		return entity == null ? -1 : entity.length() - 1;
+	}
+
+	// C1 제어 문자, 줄/문단 구분자(U+2028, U+2029), 비문자(U+FDD0~U+FDEF, U+FFFE, U+FFFF), 짝 없는 서로게이트는 제외
+	private static boolean isPassThroughBmp(char ch) {
+		if (ch < 0xa0 || ch == 0x2028 || ch == 0x2029 || Character.isSurrogate(ch)) {
+			return false;
+		}
+		return !(ch >= 0xfdd0 && ch <= 0xfdef) && ch < 0xfffe;
+	}
+
+	// 짝이 맞는 서로게이트 쌍(이모지 등) 중 평면별 비문자(U+xFFFE, U+xFFFF)가 아닌 것
+	private static boolean isPassThroughPair(String input, int index) {
+		if (index + 1 >= input.length() || !Character.isLowSurrogate(input.charAt(index + 1))) {
+			return false;
+		}
+		int codePoint = Character.toCodePoint(input.charAt(index), input.charAt(index + 1));
+		return (codePoint & 0xfffe) != 0xfffe;
+	}
 }
@@ -0,0 +1,6 @@
+-- 키 교체 시 user_data_keys.wrapped_key 재래핑 진행 위치
+ALTER TABLE key_rotation_progress
+    ADD COLUMN data_key_next_id BIGINT NOT NULL DEFAULT 0 AFTER rows_rewritten;
+
+-- 이전에 완료 처리된 교체는 데이터 키를 다시 감싸지 않았으므로 재래핑 단계를 다시 돌게 한다
+UPDATE key_rotation_progress SET completed_at = NULL;
@@ -0,0 +1,46 @@
+-- 기존 운영 스키마 (ddl-auto 로 생성되던 형태). 이미 테이블이 있는 DB 는 baseline 으로 건너뛴다.
+
+CREATE TABLE users (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    email          VARCHAR(255) NOT NULL,
+    name           VARCHAR(50)  NOT NULL,
+    oauth_provider VARCHAR(20)  NOT NULL,
+    oauth_id       VARCHAR(100) NOT NULL,
+    selected_color VARCHAR(50),
+    share_uuid     VARCHAR(36),
+    status         ENUM ('PENDING', 'ACTIVE') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_share_uuid UNIQUE (share_uuid),
+    INDEX idx_email (email),
+    INDEX idx_oauth_id (oauth_provider, oauth_id),
+    INDEX idx_share_uuid (share_uuid)
+) ENGINE = InnoDB;
+
+CREATE TABLE letters (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    letter_day INT          NOT NULL,
+    from_name  VARCHAR(100) NOT NULL,
+    content    LONGTEXT     NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_user_id (user_id),
+    INDEX idx_user_day (user_id, letter_day),
+    CONSTRAINT fk_letters_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    token      VARCHAR(500) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token),
+    INDEX idx_user_id (user_id),
+    INDEX idx_token (token)
+) ENGINE = InnoDB;
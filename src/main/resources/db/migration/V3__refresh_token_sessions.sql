@@ -0,0 +1,28 @@
+-- refresh_tokens 를 사용자 + 기기 단위 세션 테이블로 전환
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN device_id    VARCHAR(36)  NULL AFTER user_id,
+    ADD COLUMN device_name  VARCHAR(100) NULL AFTER device_id,
+    ADD COLUMN last_used_at DATETIME(6)  NULL AFTER expires_at;
+
+-- 기존 행은 기기 정보가 없으므로 각각 별도 기기로 본다
+UPDATE refresh_tokens
+SET device_id    = UUID(),
+    last_used_at = updated_at;
+
+-- 만료된 세션과 사용자당 최근 5개를 넘는 세션 정리
+DELETE FROM refresh_tokens WHERE expires_at < NOW(6);
+
+DELETE rt
+FROM refresh_tokens rt
+         JOIN (SELECT id,
+                      ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY last_used_at DESC, id DESC) AS session_rank
+               FROM refresh_tokens) ranked ON ranked.id = rt.id
+WHERE ranked.session_rank > 5;
+
+-- (user_id, device_id) 유니크 인덱스가 user_id 조회를 대신한다
+ALTER TABLE refresh_tokens
+    MODIFY device_id VARCHAR(36) NOT NULL,
+    MODIFY last_used_at DATETIME(6) NOT NULL,
+    ADD CONSTRAINT uk_refresh_tokens_user_device UNIQUE (user_id, device_id),
+    DROP INDEX idx_user_id;
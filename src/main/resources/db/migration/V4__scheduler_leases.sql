@@ -0,0 +1,11 @@
+-- 여러 노드 중 한 곳에서만 배치 작업을 돌리기 위한 임대(lease) 테이블
+CREATE TABLE scheduler_leases (
+    name         VARCHAR(64)  NOT NULL,
+    owner        VARCHAR(100) NOT NULL,
+    locked_until DATETIME(6)  NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- 만료 토큰을 expires_at 범위로 잘라 지울 수 있도록 인덱스 추가
+ALTER TABLE refresh_tokens
+    ADD INDEX idx_refresh_tokens_expires_at (expires_at);
@@ -0,0 +1,18 @@
+-- 회원 탈퇴를 tombstone(DELETED) 표시 후 백그라운드 삭제로 전환
+
+ALTER TABLE users
+    MODIFY status ENUM ('PENDING', 'ACTIVE', 'DELETED') NOT NULL;
+
+-- 사용자 행이 지워진 뒤에도 기록으로 남기므로 users 로의 FK 는 두지 않는다
+CREATE TABLE account_deletions (
+    user_id         BIGINT       NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    letters_purged  BIGINT       NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500),
+    PRIMARY KEY (user_id),
+    INDEX idx_account_deletions_status_next (status, next_attempt_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- 암호화 키 교체 시 users.email 재암호화 진행 위치 (키별 체크포인트)
+CREATE TABLE key_rotation_progress (
+    key_id         VARCHAR(16) NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    next_id        BIGINT      NOT NULL,
+    rows_rewritten BIGINT      NOT NULL,
+    completed_at   DATETIME(6),
+    PRIMARY KEY (key_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,129 @@
+package com.example.adventcalendar.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AccessTokenDenylist 단위 테스트")
+class AccessTokenDenylistTest {
+
+	private static final long PARTITION_SECONDS = 600L;
+	private static final Instant NOW = Instant.parse("2025-12-01T00:00:00Z");
+
+	private Clock clock;
+	private AccessTokenDenylist denylist;
+
+	@BeforeEach
+	void setUp() {
+		clock = mock(Clock.class);
+		given(clock.millis()).willReturn(NOW.toEpochMilli());
+		denylist = new AccessTokenDenylist(PARTITION_SECONDS, 1000, 0.001, clock);
+	}
+
+	@Nested
+	@DisplayName("폐기 및 조회")
+	class RevokeAndLookup {
+
+		@Test
+		@DisplayName("폐기한 jti 는 폐기된 것으로 조회")
+		void revoke_ThenIsRevoked_ReturnsTrue() {
+			// given
+			Instant expiresAt = NOW.plusSeconds(3600);
+
+			// when
+			denylist.revoke("jti-1", expiresAt);
+
+			// then
+			assertThat(denylist.isRevoked("jti-1", expiresAt)).isTrue();
+		}
+
+		@Test
+		@DisplayName("폐기하지 않은 jti 는 폐기되지 않은 것으로 조회")
+		void isRevoked_UnknownToken_ReturnsFalse() {
+			// given
+			Instant expiresAt = NOW.plusSeconds(3600);
+			denylist.revoke("jti-1", expiresAt);
+
+			// when & then
+			assertThat(denylist.isRevoked("jti-2", expiresAt)).isFalse();
+			assertThat(denylist.isRevoked("jti-1", NOW.plusSeconds(60))).isFalse();
+		}
+
+		@Test
+		@DisplayName("Bloom filter 오탐이 있어도 정확한 집합으로 걸러냄")
+		void isRevoked_ManyTokens_NoFalsePositive() {
+			// given
+			Instant expiresAt = NOW.plusSeconds(3600);
+			for (int i = 0; i < 1000; i++) {
+				denylist.revoke("revoked-" + i, expiresAt);
+			}
+
+			// when & then
+			for (int i = 0; i < 10_000; i++) {
+				assertThat(denylist.isRevoked("active-" + i, expiresAt)).isFalse();
+			}
+			assertThat(denylist.isRevoked("revoked-999", expiresAt)).isTrue();
+		}
+
+		@Test
+		@DisplayName("null 입력은 무시")
+		void nullInput_Ignored() {
+			// when
+			denylist.revoke(null, NOW.plusSeconds(60));
+			denylist.revoke("jti-1", null);
+
+			// then
+			assertThat(denylist.partitionCount()).isZero();
+			assertThat(denylist.isRevoked(null, NOW)).isFalse();
+		}
+
+		@Test
+		@DisplayName("이미 만료된 토큰은 저장하지 않음")
+		void revoke_ExpiredToken_NotStored() {
+			// when
+			denylist.revoke("jti-1", NOW.minusSeconds(1));
+
+			// then
+			assertThat(denylist.partitionCount()).isZero();
+		}
+	}
+
+	@Nested
+	@DisplayName("파티션 교체")
+	class PartitionRotation {
+
+		@Test
+		@DisplayName("만료 시각이 같은 구간의 토큰은 하나의 파티션에 저장")
+		void revoke_SameWindow_SharesPartition() {
+			// when
+			denylist.revoke("jti-1", NOW.plusSeconds(3601));
+			denylist.revoke("jti-2", NOW.plusSeconds(3602));
+
+			// then
+			assertThat(denylist.partitionCount()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("모든 토큰이 만료된 파티션은 제거됨")
+		void revoke_AfterWindowPassed_EvictsOldPartition() {
+			// given
+			denylist.revoke("old-jti", NOW.plusSeconds(60));
+			assertThat(denylist.partitionCount()).isEqualTo(1);
+
+			// when
+			given(clock.millis()).willReturn(NOW.plusSeconds(PARTITION_SECONDS * 2).toEpochMilli());
+			denylist.revoke("new-jti", NOW.plusSeconds(PARTITION_SECONDS * 2 + 3600));
+
+			// then
+			assertThat(denylist.partitionCount()).isEqualTo(1);
+			assertThat(denylist.isRevoked("old-jti", NOW.plusSeconds(60))).isFalse();
+		}
+	}
+}
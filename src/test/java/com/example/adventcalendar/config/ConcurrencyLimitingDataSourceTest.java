@@ -0,0 +1,184 @@
+package com.example.adventcalendar.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitingDataSource 테스트")
+class ConcurrencyLimitingDataSourceTest {
+
+	@Mock
+	private DataSource targetDataSource;
+
+	@Mock
+	private Connection targetConnection;
+
+	private ConcurrencyLimitingDataSource dataSource;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 2, Duration.ofMillis(200));
+	}
+
+	@Test
+	@DisplayName("한도까지는 바로 커넥션을 주고, 넘으면 대기 시간 뒤 실패")
+	void getConnection_OverLimit_FailsAfterTimeout() throws Exception {
+		// given
+		given(targetDataSource.getConnection()).willReturn(targetConnection);
+		dataSource.getConnection();
+		dataSource.getConnection();
+
+		// when
+		long start = System.nanoTime();
+		assertThatThrownBy(() -> dataSource.getConnection())
+			.isInstanceOf(SQLTransientConnectionException.class);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		assertThat(elapsedMillis).isGreaterThanOrEqualTo(150);
+		assertThat(dataSource.availablePermits()).isZero();
+		verify(targetDataSource, times(2)).getConnection();
+	}
+
+	@Test
+	@DisplayName("커넥션을 닫으면 기다리던 요청이 이어서 받음")
+	void close_HandsPermitToWaiter() throws Exception {
+		// given
+		dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 2, Duration.ofSeconds(5));
+		given(targetDataSource.getConnection()).willReturn(targetConnection);
+		Connection first = dataSource.getConnection();
+		dataSource.getConnection();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Connection> waiter = executor.submit(() -> dataSource.getConnection());
+			awaitWaiting(1);
+
+			// when
+			first.close();
+
+			// then
+			assertThat(waiter.get(1, TimeUnit.SECONDS)).isNotNull();
+			verify(targetConnection).close();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("같은 커넥션을 여러 번 닫아도 허가는 한 번만 반납")
+	void close_Twice_ReleasesOnce() throws Exception {
+		// given
+		given(targetDataSource.getConnection()).willReturn(targetConnection);
+		Connection connection = dataSource.getConnection();
+
+		// when
+		connection.close();
+		connection.close();
+
+		// then
+		assertThat(dataSource.availablePermits()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("커넥션 획득이 실패하면 허가를 돌려놓음")
+	void getConnection_TargetFails_ReleasesPermit() throws Exception {
+		// given
+		given(targetDataSource.getConnection()).willThrow(new SQLException("pool exhausted"));
+
+		// when
+		assertThatThrownBy(() -> dataSource.getConnection())
+			.isInstanceOf(SQLException.class)
+			.hasMessage("pool exhausted");
+
+		// then
+		assertThat(dataSource.availablePermits()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("커넥션을 잡은 스레드가 하나 더 잡으면 한도를 다 써도 기다리지 않음")
+	void getConnection_Nested_DoesNotWaitForOwnPermit() throws Exception {
+		// given
+		dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 1, Duration.ofSeconds(5));
+		given(targetDataSource.getConnection()).willReturn(targetConnection);
+		Connection outer = dataSource.getConnection();
+
+		// when
+		long start = System.nanoTime();
+		Connection nested = dataSource.getConnection();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		assertThat(elapsedMillis).isLessThan(1000);
+		nested.close();
+		assertThat(dataSource.availablePermits()).isZero();
+		outer.close();
+		assertThat(dataSource.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("중첩 획득은 다른 스레드의 차례를 당기지 않음")
+	void getConnection_Nested_OtherThreadStillWaits() throws Exception {
+		// given
+		given(targetDataSource.getConnection()).willReturn(targetConnection);
+		dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 1, Duration.ofMillis(200));
+		Connection outer = dataSource.getConnection();
+		dataSource.getConnection().close();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			// when
+			Future<Connection> other = executor.submit(() -> dataSource.getConnection());
+
+			// then
+			assertThatThrownBy(() -> other.get(5, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(SQLTransientConnectionException.class);
+			outer.close();
+			assertThat(executor.submit(() -> dataSource.getConnection()).get(1, TimeUnit.SECONDS)).isNotNull();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("닫기 외의 호출은 원래 커넥션으로 전달")
+	void connection_DelegatesCalls() throws Exception {
+		// given
+		given(targetDataSource.getConnection()).willReturn(targetConnection);
+		given(targetConnection.getAutoCommit()).willReturn(false);
+		Connection connection = dataSource.getConnection();
+
+		// when & then
+		assertThat(connection.getAutoCommit()).isFalse();
+		assertThat(connection).isEqualTo(connection);
+		assertThat(dataSource.availablePermits()).isEqualTo(1);
+	}
+
+	private void awaitWaiting(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (dataSource.waitingThreads() < expected) {
+			if (System.nanoTime() > deadline) {
+				fail("커넥션 대기 요청이 " + expected + "건이 되지 않았습니다");
+			}
+			Thread.sleep(10);
+		}
+	}
+}
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import java.io.IOException;
+import java.util.Date;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +36,9 @@ class JwtAuthenticationFilterTest {
 	@Mock
 	private JwtTokenProvider jwtTokenProvider;
 
+	@Mock
+	private AccessTokenDenylist accessTokenDenylist;
+
 	@InjectMocks
 	private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -509,4 +513,64 @@ class JwtAuthenticationFilterTest {
 			assertThat(authentication.getPrincipal()).isEqualTo(userId);
 		}
 	}
+
+	@Nested
+	@DisplayName("폐기된 토큰")
+	class RevokedToken {
+
+		@Test
+		@DisplayName("폐기 목록에 있는 jti 는 인증하지 않음")
+		void doFilterInternal_RevokedToken_NoAuthentication() throws ServletException, IOException {
+			// given
+			String token = "revoked-token";
+			Date expiration = new Date(System.currentTimeMillis() + 60_000);
+			request.addHeader("Authorization", "Bearer " + token);
+
+			Claims claims = Jwts.claims()
+				.setSubject("1")
+				.add("type", "access")
+				.id("revoked-jti")
+				.expiration(expiration)
+				.build();
+
+			given(jwtTokenProvider.validateToken(token)).willReturn(true);
+			given(jwtTokenProvider.parseClaims(token)).willReturn(claims);
+			given(accessTokenDenylist.isRevoked(eq("revoked-jti"), any())).willReturn(true);
+
+			// when
+			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+			// then
+			assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+			assertThat(filterChain.getRequest()).isNotNull();
+		}
+
+		@Test
+		@DisplayName("폐기되지 않은 jti 는 정상 인증")
+		void doFilterInternal_NotRevokedToken_Success() throws ServletException, IOException {
+			// given
+			String token = "active-token";
+			Date expiration = new Date(System.currentTimeMillis() + 60_000);
+			request.addHeader("Authorization", "Bearer " + token);
+
+			Claims claims = Jwts.claims()
+				.setSubject("1")
+				.add("type", "access")
+				.id("active-jti")
+				.expiration(expiration)
+				.build();
+
+			given(jwtTokenProvider.validateToken(token)).willReturn(true);
+			given(jwtTokenProvider.parseClaims(token)).willReturn(claims);
+			given(accessTokenDenylist.isRevoked(eq("active-jti"), any())).willReturn(false);
+
+			// when
+			jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+			// then
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			assertThat(authentication).isNotNull();
+			assertThat(authentication.getPrincipal()).isEqualTo(1L);
+		}
+	}
 }
@@ -1,6 +1,12 @@
 package com.example.adventcalendar.config;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,7 +15,11 @@ import org.junit.jupiter.api.Test;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
 import io.jsonwebtoken.security.SignatureException;
 
 @DisplayName("JwtTokenProvider 단위 테스트")
@@ -74,6 +84,7 @@ class JwtTokenProviderTest {
 			assertThat(claims.get("email")).isEqualTo(email);
 			assertThat(claims.get("oauthProvider")).isEqualTo(oauthProvider);
 			assertThat(claims.get("type")).isEqualTo("access");
+			assertThat(claims.get("status")).isEqualTo("ACTIVE");
 			assertThat(claims.getIssuedAt()).isNotNull();
 			assertThat(claims.getExpiration()).isNotNull();
 		}
@@ -138,6 +149,31 @@ class JwtTokenProviderTest {
 			assertThat(claims.get("oauthProvider")).isNull();
 		}
 
+		@Test
+		@DisplayName("Refresh Token에 Access Token 재발급용 클레임 포함")
+		void createRefreshToken_WithIdentityClaims() {
+			// when
+			String token = jwtTokenProvider.createRefreshToken(99L, "test@example.com", "NAVER");
+
+			// then
+			Claims claims = jwtTokenProvider.parseClaims(token);
+			assertThat(claims.getSubject()).isEqualTo("99");
+			assertThat(claims.get("type")).isEqualTo("refresh");
+			assertThat(claims.get("email")).isEqualTo("test@example.com");
+			assertThat(claims.get("oauthProvider")).isEqualTo("NAVER");
+		}
+
+		@Test
+		@DisplayName("같은 사용자에게 연달아 발급해도 서로 다른 Refresh Token")
+		void createRefreshToken_UniquePerIssue() {
+			// when
+			String first = jwtTokenProvider.createRefreshToken(99L);
+			String second = jwtTokenProvider.createRefreshToken(99L);
+
+			// then
+			assertThat(first).isNotEqualTo(second);
+		}
+
 		@Test
 		@DisplayName("만료 시간이 올바르게 설정됨")
 		void createRefreshToken_ExpirationTimeSetCorrectly() {
@@ -181,6 +217,7 @@ class JwtTokenProviderTest {
 			assertThat(claims.get("email", String.class)).isEqualTo(email);
 			assertThat(claims.get("oauthProvider", String.class)).isEqualTo(oauthProvider);
 			assertThat(claims.get("type", String.class)).isEqualTo("temp");
+			assertThat(claims.get("status", String.class)).isEqualTo("PENDING");
 		}
 
 		@Test
@@ -506,4 +543,145 @@ class JwtTokenProviderTest {
 			assertThat(claims.get("type", String.class)).isEqualTo("temp");
 		}
 	}
+
+	@Nested
+	@DisplayName("비대칭 서명 모드")
+	class AsymmetricSigning {
+
+		@Test
+		@DisplayName("EdDSA 모드에서 kid 헤더와 함께 서명하고 검증 성공")
+		void eddsa_SignAndVerify_Success() {
+			// given
+			JwtTokenProvider eddsaProvider = new JwtTokenProvider(
+				JwtSigningKeys.create(JwtSigningKeys.EDDSA, SECRET, "key-1", null, null),
+				ACCESS_TOKEN_VALIDITY,
+				REFRESH_TOKEN_VALIDITY
+			);
+
+			// when
+			String token = eddsaProvider.createAccessToken(1L, "test@example.com", "NAVER");
+
+			// then
+			Jws<Claims> jws = Jwts.parser()
+				.verifyWith(publicKeyOf(eddsaProvider))
+				.build()
+				.parseSignedClaims(token);
+			assertThat(jws.getHeader().getKeyId()).isEqualTo("key-1");
+			assertThat(jws.getHeader().getAlgorithm()).isEqualTo("EdDSA");
+			assertThat(eddsaProvider.validateToken(token)).isTrue();
+			assertThat(eddsaProvider.getUserId(token)).isEqualTo(1L);
+		}
+
+		@Test
+		@DisplayName("ES256 모드에서 JWKS 공개키로 외부 검증 성공")
+		void es256_VerifyWithPublishedJwk_Success() {
+			// given
+			JwtTokenProvider es256Provider = new JwtTokenProvider(
+				JwtSigningKeys.create(JwtSigningKeys.ES256, SECRET, "key-2", null, null),
+				ACCESS_TOKEN_VALIDITY,
+				REFRESH_TOKEN_VALIDITY
+			);
+			String token = es256Provider.createRefreshToken(7L);
+
+			// when
+			Claims claims = Jwts.parser()
+				.verifyWith(publicKeyOf(es256Provider))
+				.build()
+				.parseSignedClaims(token)
+				.getPayload();
+
+			// then
+			assertThat(claims.getSubject()).isEqualTo("7");
+			assertThat(es256Provider.getPublicJwks()).hasSize(1);
+			assertThat(es256Provider.getPublicJwks().get(0))
+				.containsEntry("kid", "key-2")
+				.containsEntry("alg", "ES256")
+				.containsEntry("use", "sig")
+				.doesNotContainKey("d");
+		}
+
+		@Test
+		@DisplayName("비대칭 모드로 전환해도 허용 기한 전에는 기존 HS512 토큰 검증 성공")
+		void asymmetric_AcceptsLegacyHs512TokenUntilCutoff() {
+			// given
+			String legacyToken = jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER");
+			Instant acceptUntil = Instant.now().plus(Duration.ofDays(7));
+			JwtTokenProvider eddsaProvider = new JwtTokenProvider(
+				JwtSigningKeys.create(JwtSigningKeys.EDDSA, SECRET, "key-1", null, null, acceptUntil, Clock.systemUTC()),
+				ACCESS_TOKEN_VALIDITY,
+				REFRESH_TOKEN_VALIDITY
+			);
+
+			// when & then
+			assertThat(eddsaProvider.validateToken(legacyToken)).isTrue();
+		}
+
+		@Test
+		@DisplayName("허용 기한이 지나면 HS512 토큰 검증 실패")
+		void asymmetric_RejectsLegacyHs512TokenAfterCutoff() {
+			// given
+			String legacyToken = jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER");
+			Instant acceptUntil = Instant.now().plus(Duration.ofDays(7));
+			Clock clock = mock(Clock.class);
+			given(clock.instant()).willReturn(Instant.now());
+			JwtTokenProvider eddsaProvider = new JwtTokenProvider(
+				JwtSigningKeys.create(JwtSigningKeys.EDDSA, SECRET, "key-1", null, null, acceptUntil, clock),
+				ACCESS_TOKEN_VALIDITY,
+				REFRESH_TOKEN_VALIDITY
+			);
+			assertThat(eddsaProvider.validateToken(legacyToken)).isTrue();
+
+			// when
+			given(clock.instant()).willReturn(acceptUntil);
+
+			// then
+			assertThat(eddsaProvider.validateToken(legacyToken)).isFalse();
+		}
+
+		@Test
+		@DisplayName("허용 기한이 없으면 비대칭 모드에서 HS512 토큰 검증 실패")
+		void asymmetric_WithoutCutoff_RejectsHs512Token() {
+			// given
+			String legacyToken = jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER");
+			JwtTokenProvider eddsaProvider = new JwtTokenProvider(
+				JwtSigningKeys.create(JwtSigningKeys.EDDSA, SECRET, "key-1", null, null),
+				ACCESS_TOKEN_VALIDITY,
+				REFRESH_TOKEN_VALIDITY
+			);
+
+			// when & then
+			assertThat(eddsaProvider.validateToken(legacyToken)).isFalse();
+		}
+
+		@Test
+		@DisplayName("다른 kid 로 서명된 토큰 검증 실패")
+		void asymmetric_UnknownKeyId_ReturnsFalse() {
+			// given
+			JwtTokenProvider issuer = new JwtTokenProvider(
+				JwtSigningKeys.create(JwtSigningKeys.EDDSA, SECRET, "other-key", null, null),
+				ACCESS_TOKEN_VALIDITY,
+				REFRESH_TOKEN_VALIDITY
+			);
+			JwtTokenProvider verifier = new JwtTokenProvider(
+				JwtSigningKeys.create(JwtSigningKeys.EDDSA, SECRET, "key-1", null, null),
+				ACCESS_TOKEN_VALIDITY,
+				REFRESH_TOKEN_VALIDITY
+			);
+			String token = issuer.createAccessToken(1L, "test@example.com", "NAVER");
+
+			// when & then
+			assertThat(verifier.validateToken(token)).isFalse();
+		}
+
+		@Test
+		@DisplayName("HS512 모드에서는 공개키가 노출되지 않음")
+		void hs512_NoPublicJwks() {
+			assertThat(jwtTokenProvider.getPublicJwks()).isEmpty();
+		}
+
+		private PublicKey publicKeyOf(JwtTokenProvider provider) {
+			Jwk<?> jwk = Jwks.builder().add(provider.getPublicJwks().get(0)).build();
+			return (PublicKey) jwk.toKey();
+		}
+	}
 }
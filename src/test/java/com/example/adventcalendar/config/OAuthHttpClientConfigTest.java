@@ -0,0 +1,49 @@
+package com.example.adventcalendar.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("OAuthHttpClientConfig 테스트")
+class OAuthHttpClientConfigTest {
+
+	private final OAuthHttpClientConfig config = new OAuthHttpClientConfig();
+	private SimpleMeterRegistry meterRegistry;
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		connectionManager = config.oauthConnectionManager(40, 10, 2000, 3000, 300, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionManager.close();
+	}
+
+	@Test
+	@DisplayName("전체/호스트별 연결 수 제한 적용")
+	void connectionManager_AppliesPoolLimits() {
+		// when & then
+		assertThat(connectionManager.getMaxTotal()).isEqualTo(40);
+		assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("풀 메트릭 등록")
+	void connectionManager_RegistersPoolMetrics() {
+		// when & then
+		assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max")
+			.tag("httpclient", OAuthHttpClientConfig.POOL_NAME)
+			.gauge())
+			.isNotNull()
+			.satisfies(gauge -> assertThat(gauge.value()).isEqualTo(40.0));
+	}
+}
@@ -0,0 +1,225 @@
+package com.example.adventcalendar.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+	private final AtomicLong nanos = new AtomicLong();
+
+	private EmbeddedDatabase primary;
+	private EmbeddedDatabase replica;
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readWriteTransaction;
+	private TransactionTemplate readOnlyTransaction;
+
+	@BeforeEach
+	void setUp() {
+		// 두 번째 내장 DB 가 복제본 역할을 한다
+		primary = embeddedDatabase("routing-primary");
+		replica = embeddedDatabase("routing-replica");
+
+		ReadYourWritesGuard guard = new ReadYourWritesGuard(Duration.ofSeconds(5), 100, nanos::get);
+		DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, guard));
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readWriteTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction = new TransactionTemplate(transactionManager);
+		readOnlyTransaction.setReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		RequestContextHolder.resetRequestAttributes();
+		primary.shutdown();
+		replica.shutdown();
+	}
+
+	@Nested
+	@DisplayName("트랜잭션 종류별 라우팅")
+	class Routing {
+
+		@Test
+		@DisplayName("readOnly 트랜잭션은 복제본으로")
+		void readOnlyTransaction_GoesToReplica() {
+			// when
+			String node = readOnlyTransaction.execute(status -> currentNode());
+
+			// then
+			assertThat(node).isEqualTo("replica");
+		}
+
+		@Test
+		@DisplayName("쓰기 트랜잭션은 primary 로")
+		void readWriteTransaction_GoesToPrimary() {
+			// when
+			String node = readWriteTransaction.execute(status -> currentNode());
+
+			// then
+			assertThat(node).isEqualTo("primary");
+		}
+
+		@Test
+		@DisplayName("트랜잭션 밖 호출은 primary 로")
+		void noTransaction_GoesToPrimary() {
+			// when
+			String node = currentNode();
+
+			// then
+			assertThat(node).isEqualTo("primary");
+		}
+	}
+
+	@Nested
+	@DisplayName("쓰기 직후 읽기 (복제 지연 대비)")
+	class ReadYourWrites {
+
+		@Test
+		@DisplayName("쓰기를 커밋한 사용자의 readOnly 트랜잭션은 잠시 primary 로, 다른 사용자는 복제본으로")
+		void afterCommit_SameCallerReadsFromPrimary() {
+			// given
+			authenticate(1L);
+			write();
+
+			// when
+			String sameCaller = readOnlyTransaction.execute(status -> currentNode());
+			authenticate(2L);
+			String otherCaller = readOnlyTransaction.execute(status -> currentNode());
+
+			// then
+			assertThat(sameCaller).isEqualTo("primary");
+			assertThat(otherCaller).isEqualTo("replica");
+		}
+
+		@Test
+		@DisplayName("보호 시간이 지나면 다시 복제본으로")
+		void afterWindow_ReadsFromReplica() {
+			// given
+			authenticate(1L);
+			write();
+
+			// when
+			nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+			String node = readOnlyTransaction.execute(status -> currentNode());
+
+			// then
+			assertThat(node).isEqualTo("replica");
+		}
+
+		@Test
+		@DisplayName("다른 노드에서 커밋한 쓰기는 보호하지 않음 (노드마다 따로 기록)")
+		void writeOnOtherNode_ReadsFromReplica() {
+			// given
+			authenticate(1L);
+			ReadYourWritesGuard otherNodeGuard = new ReadYourWritesGuard(Duration.ofSeconds(5), 100, nanos::get);
+			DataSource otherNode = new LazyConnectionDataSourceProxy(
+				new ReplicaRoutingDataSource(primary, replica, otherNodeGuard));
+			new TransactionTemplate(new DataSourceTransactionManager(otherNode))
+				.executeWithoutResult(status -> new JdbcTemplate(otherNode).update("UPDATE node SET name = name"));
+
+			// when
+			String node = readOnlyTransaction.execute(status -> currentNode());
+
+			// then
+			assertThat(node).isEqualTo("replica");
+		}
+
+		@Test
+		@DisplayName("롤백된 쓰기는 기록하지 않음")
+		void rollback_NotRecorded() {
+			// given
+			authenticate(1L);
+			readWriteTransaction.executeWithoutResult(status -> {
+				jdbcTemplate.update("UPDATE node SET name = name");
+				status.setRollbackOnly();
+			});
+
+			// when
+			String node = readOnlyTransaction.execute(status -> currentNode());
+
+			// then
+			assertThat(node).isEqualTo("replica");
+		}
+
+		@Test
+		@DisplayName("호출자를 알 수 없으면 쓰기 후에도 복제본으로")
+		void unknownCaller_ReadsFromReplica() {
+			// given
+			write();
+
+			// when
+			String node = readOnlyTransaction.execute(status -> currentNode());
+
+			// then
+			assertThat(node).isEqualTo("replica");
+		}
+
+		@Test
+		@DisplayName("비로그인 요청은 쓰기 후에도 복제본으로")
+		void anonymousRequest_ReadsFromReplica() {
+			// given
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.setRemoteAddr("10.0.0.1");
+			RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+			write();
+
+			// when
+			String node = readOnlyTransaction.execute(status -> currentNode());
+
+			// then
+			assertThat(node).isEqualTo("replica");
+		}
+	}
+
+	private void authenticate(Long userId) {
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+	}
+
+	private void write() {
+		readWriteTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+	}
+
+	private String currentNode() {
+		return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+	}
+
+	private static EmbeddedDatabase embeddedDatabase(String name) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+			.setType(EmbeddedDatabaseType.H2)
+			.setName(name)
+			.build();
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+		jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name.substring("routing-".length()));
+		return database;
+	}
+}
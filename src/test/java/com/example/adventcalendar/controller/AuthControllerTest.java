@@ -18,14 +18,17 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.adventcalendar.config.JwtTokenProvider;
+import com.example.adventcalendar.constant.AccountDeletionStatus;
 import com.example.adventcalendar.constant.UserStatus;
 import com.example.adventcalendar.dto.request.UserCreateRequest;
 import com.example.adventcalendar.entity.Letter;
 import com.example.adventcalendar.entity.RefreshToken;
 import com.example.adventcalendar.entity.User;
+import com.example.adventcalendar.repository.AccountDeletionRepository;
 import com.example.adventcalendar.repository.LetterRepository;
 import com.example.adventcalendar.repository.RefreshTokenRepository;
 import com.example.adventcalendar.repository.UserRepository;
+import com.example.adventcalendar.service.AccountDeletionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.http.Cookie;
@@ -57,6 +60,12 @@ class AuthControllerTest {
 	@Autowired
 	private JwtTokenProvider jwtTokenProvider;
 
+	@Autowired
+	private AccountDeletionRepository accountDeletionRepository;
+
+	@Autowired
+	private AccountDeletionService accountDeletionService;
+
 	private User activeUser;
 	private User pendingUser;
 
@@ -124,7 +133,7 @@ class AuthControllerTest {
 			assertThat(updatedUser.getShareUuid()).isNotNull();
 
 			// RefreshToken 저장 확인
-			assertThat(refreshTokenRepository.findByUserId(pendingUser.getId())).isPresent();
+			assertThat(refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(pendingUser.getId())).hasSize(1);
 		}
 
 		@Test
@@ -487,10 +496,25 @@ class AuthControllerTest {
 				.andExpect(cookie().maxAge("refreshToken", 0))
 				.andExpect(cookie().maxAge("accessToken", 0));
 
-			// DB 검증 - 모든 데이터 삭제 확인
+			// DB 검증 - 세션은 즉시 삭제, 사용자는 tombstone, 편지는 백그라운드 삭제 대기
+			assertThat(userRepository.findById(activeUser.getId()))
+				.hasValueSatisfying(user -> {
+					assertThat(user.getStatus()).isEqualTo(UserStatus.DELETED);
+					assertThat(user.getShareUuid()).isNull();
+				});
+			assertThat(refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(activeUser.getId())).isEmpty();
+			assertThat(accountDeletionRepository.findById(activeUser.getId())).isPresent();
+
+			// 백그라운드 삭제 실행 후 모든 데이터 삭제 확인
+			accountDeletionService.processDue(10);
+
 			assertThat(userRepository.findById(activeUser.getId())).isEmpty();
 			assertThat(letterRepository.findByUserId(activeUser.getId())).isEmpty();
-			assertThat(refreshTokenRepository.findByUserId(activeUser.getId())).isEmpty();
+			assertThat(accountDeletionRepository.findById(activeUser.getId()))
+				.hasValueSatisfying(deletion -> {
+					assertThat(deletion.getStatus()).isEqualTo(AccountDeletionStatus.COMPLETED);
+					assertThat(deletion.getLettersPurged()).isEqualTo(1);
+				});
 		}
 
 		@Test
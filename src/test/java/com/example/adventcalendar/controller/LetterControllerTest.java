@@ -229,13 +229,17 @@ class LetterControllerTest {
 					.content(objectMapper.writeValueAsString(request)))
 				.andExpect(status().isOk());
 
-			// then
+			// then - 원문 그대로 저장하고 응답에서만 이스케이프
 			List<Letter> letters = letterRepository.findByUserId(user.getId());
 			assertThat(letters).hasSize(1);
-			assertThat(letters.get(0).getContent()).doesNotContain("<script>");
-			assertThat(letters.get(0).getContent()).contains("&lt;script&gt;");
-			assertThat(letters.get(0).getFromName()).doesNotContain("<img");
-			assertThat(letters.get(0).getFromName()).contains("&lt;img");
+			assertThat(letters.get(0).getContent()).isEqualTo("<script>alert('xss')</script>안녕하세요");
+			assertThat(letters.get(0).getFromName()).isEqualTo("<img src=x onerror=alert(1)>");
+
+			mockMvc.perform(get("/api/{uuid}/letters", user.getShareUuid())
+					.cookie(new Cookie("accessToken", accessToken)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data[0].content").value("&lt;script&gt;alert(&#39;xss&#39;)&lt;/script&gt;안녕하세요"))
+				.andExpect(jsonPath("$.data[0].fromName").value("&lt;img src=x onerror=alert(1)&gt;"));
 		}
 
 		@Test
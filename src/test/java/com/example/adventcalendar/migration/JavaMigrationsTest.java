@@ -0,0 +1,244 @@
+package com.example.adventcalendar.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.adventcalendar.util.DataKey;
+import com.example.adventcalendar.util.EncryptionUtils;
+import com.example.adventcalendar.util.HashUtils;
+import com.example.adventcalendar.util.KeyRing;
+
+/**
+ * V1 스키마에 마이그레이션 전 형태의 행을 넣고 Java 마이그레이션(V2/V6/V8/V9/V10)을 실제 MySQL 에서 돌려 결과를 확인한다.
+ * 테스트 프로필은 H2 + ddl-auto 라 Flyway 를 돌리지 않으므로 여기서만 검증된다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Java 마이그레이션 테스트 (MySQL)")
+class JavaMigrationsTest {
+
+	private static final KeyRing KEY_RING = KeyRing.single("k1", "migration-test-key-32-bytes!!!!!");
+	private static final SecretKey BLIND_INDEX_KEY =
+		new SecretKeySpec("migration-test-blind-index-key".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+	// 편지 배치(500)가 사용자 중간에서 끊기도록 사용자별 편지 수를 나눈다
+	private static final Map<Long, Integer> LETTERS_PER_USER = Map.of(1L, 300, 2L, 400, 3L, 10);
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+	private DataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		flyway(null).clean();
+	}
+
+	@Test
+	@DisplayName("마이그레이션 전 행을 해시/암호화/원문 복원된 형태로 옮김")
+	void migrate_FromInitialSchema() {
+		// given
+		flyway("1").migrate();
+		seed();
+
+		// when
+		flyway(null).migrate();
+
+		// then
+		assertMigrated();
+	}
+
+	@Test
+	@DisplayName("중간에 실패해 스키마가 반쯤 바뀐 상태에서 다시 돌면 남은 단계부터 이어서 완료")
+	void migrate_ResumesHalfMigratedSchema() {
+		// given
+		flyway("1").migrate();
+		seed();
+
+		// V2: token_hash 컬럼만 추가된 상태
+		jdbcTemplate.execute("ALTER TABLE refresh_tokens ADD COLUMN token_hash BINARY(32) NULL AFTER user_id");
+		flyway("7").migrate();
+
+		// V8: email 을 지우고 email_bin 이름을 바꾸기 전
+		jdbcTemplate.execute("ALTER TABLE users ADD COLUMN email_bin VARBINARY(300) NULL AFTER email");
+		for (Map<String, Object> user : jdbcTemplate.queryForList("SELECT id, email FROM users")) {
+			jdbcTemplate.update("UPDATE users SET email_bin = ? WHERE id = ?",
+				LegacyTextCiphertext.toBinary(KEY_RING, (String)user.get("email")), user.get("id"));
+		}
+		jdbcTemplate.execute("ALTER TABLE users DROP COLUMN email");
+		flyway("8").migrate();
+
+		// V9: 첫 사용자 편지 일부만 암호화하고 키를 커밋한 상태
+		jdbcTemplate.execute("CREATE TABLE user_data_keys ("
+			+ " user_id BIGINT NOT NULL,"
+			+ " wrapped_key VARBINARY(80) NOT NULL,"
+			+ " created_at DATETIME(6) NOT NULL,"
+			+ " PRIMARY KEY (user_id)"
+			+ ") ENGINE = InnoDB");
+		jdbcTemplate.execute("ALTER TABLE letters ADD COLUMN content_sealed MEDIUMBLOB NULL AFTER content");
+		DataKey dataKey = DataKey.generate();
+		jdbcTemplate.update("INSERT INTO user_data_keys (user_id, wrapped_key, created_at) VALUES (?, ?, ?)",
+			1L, dataKey.wrap(KEY_RING), Timestamp.valueOf(LocalDateTime.now()));
+		for (Map<String, Object> letter : jdbcTemplate.queryForList(
+			"SELECT id, content FROM letters WHERE user_id = 1 ORDER BY id LIMIT 100")) {
+			jdbcTemplate.update("UPDATE letters SET content_sealed = ? WHERE id = ?",
+				dataKey.encrypt((String)letter.get("content")), letter.get("id"));
+		}
+
+		// when
+		flyway(null).migrate();
+
+		// then
+		assertMigrated();
+		byte[] wrappedKey = jdbcTemplate.queryForObject("SELECT wrapped_key FROM user_data_keys WHERE user_id = 1", byte[].class);
+		assertThat(DataKey.unwrap(KEY_RING, wrappedKey).decrypt(dataKey.encrypt("이어서 사용")))
+			.as("이전 실행에서 만든 키를 이어서 사용")
+			.isEqualTo("이어서 사용");
+	}
+
+	private Flyway flyway(String target) {
+		FluentConfiguration configuration = Flyway.configure()
+			.dataSource(dataSource)
+			.locations("classpath:db/migration")
+			.cleanDisabled(false)
+			.javaMigrations(
+				new V2__Hash_refresh_tokens(),
+				new V6__Email_blind_index(KEY_RING, BLIND_INDEX_KEY),
+				new V8__Binary_email_ciphertext(KEY_RING),
+				new V9__Letter_envelope_encryption(KEY_RING),
+				new V10__Canonical_letter_text(KEY_RING)
+			);
+		if (target != null) {
+			configuration.target(target);
+		}
+		return configuration.load();
+	}
+
+	/**
+	 * V1 형태의 행. 이메일은 문자열 암호문(첫 사용자는 헤더 없는 예전 형식), 편지와 보낸 사람은 HTML 이스케이프된 평문이다.
+	 */
+	private void seed() {
+		LocalDateTime now = LocalDateTime.now();
+		Timestamp createdAt = Timestamp.valueOf(now);
+
+		for (long userId = 1; userId <= 3; userId++) {
+			String legacyBody = legacyBody(email(userId));
+			jdbcTemplate.update("INSERT INTO users (id, created_at, updated_at, email, name, oauth_provider, oauth_id,"
+					+ " share_uuid, status) VALUES (?, ?, ?, ?, ?, 'NAVER', ?, ?, 'ACTIVE')",
+				userId, createdAt, createdAt, userId == 1 ? legacyBody : "$k1$" + legacyBody,
+				"user-" + userId, "oauth-" + userId, "share-" + userId);
+
+			for (int n = 0; n < 2; n++) {
+				jdbcTemplate.update("INSERT INTO refresh_tokens (created_at, updated_at, user_id, token, expires_at)"
+						+ " VALUES (?, ?, ?, ?, ?)",
+					createdAt, createdAt, userId, token(userId, n), Timestamp.valueOf(now.plusDays(7)));
+			}
+		}
+
+		// 사용자별 편지가 id 순서로는 섞이도록 돌아가며 넣는다
+		List<Object[]> letters = new ArrayList<>();
+		int sequence = 0;
+		for (int i = 0; i < 400; i++) {
+			for (long userId = 1; userId <= 3; userId++) {
+				if (i < LETTERS_PER_USER.get(userId)) {
+					letters.add(new Object[] {createdAt, createdAt, userId, i % 25 + 1,
+						"보낸이 &amp; " + sequence, "&lt;p&gt;편지 " + sequence + "&lt;/p&gt;"});
+					sequence++;
+				}
+			}
+		}
+		// 원문에 있던 "&lt;" 는 저장 시 "&amp;lt;" 가 되었으므로 한 번만 디코딩되어야 한다
+		letters.add(new Object[] {createdAt, createdAt, 3L, 1, "특수", "&amp;lt;3"});
+		jdbcTemplate.batchUpdate("INSERT INTO letters (created_at, updated_at, user_id, letter_day, from_name, content)"
+			+ " VALUES (?, ?, ?, ?, ?, ?)", letters);
+	}
+
+	private void assertMigrated() {
+		assertThat(columnExists("refresh_tokens", "token")).isFalse();
+		assertThat(columnExists("users", "email_bin")).isFalse();
+		assertThat(columnExists("letters", "content_sealed")).isFalse();
+
+		for (long userId = 1; userId <= 3; userId++) {
+			Map<String, Object> user = jdbcTemplate.queryForMap("SELECT email, email_hash FROM users WHERE id = ?", userId);
+			assertThat(EncryptionUtils.decryptBytes(KEY_RING, (byte[])user.get("email"))).isEqualTo(email(userId));
+			assertThat((byte[])user.get("email_hash"))
+				.isEqualTo(EncryptionUtils.emailBlindIndex(BLIND_INDEX_KEY, email(userId)));
+
+			for (int n = 0; n < 2; n++) {
+				assertThat(jdbcTemplate.queryForObject("SELECT user_id FROM refresh_tokens WHERE token_hash = ?",
+					Long.class, (Object)HashUtils.sha256(token(userId, n)))).isEqualTo(userId);
+			}
+		}
+
+		List<Map<String, Object>> letters = jdbcTemplate.queryForList(
+			"SELECT l.from_name, l.content, k.wrapped_key FROM letters l"
+				+ " JOIN user_data_keys k ON k.user_id = l.user_id");
+		int expectedLetters = LETTERS_PER_USER.values().stream().mapToInt(Integer::intValue).sum() + 1;
+		assertThat(letters).hasSize(expectedLetters);
+
+		for (Map<String, Object> letter : letters) {
+			String fromName = (String)letter.get("from_name");
+			String content = DataKey.unwrap(KEY_RING, (byte[])letter.get("wrapped_key"))
+				.decrypt((byte[])letter.get("content"));
+
+			if (fromName.equals("특수")) {
+				assertThat(content).isEqualTo("&lt;3");
+			} else {
+				String sequence = fromName.substring("보낸이 & ".length());
+				assertThat(fromName).startsWith("보낸이 & ");
+				assertThat(content).isEqualTo("<p>편지 " + sequence + "</p>");
+			}
+		}
+
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_data_keys", Integer.class)).isEqualTo(3);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT completed_at FROM letter_canonical_progress WHERE id = 1", Timestamp.class)).isNotNull();
+	}
+
+	private boolean columnExists(String table, String column) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.columns"
+			+ " WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?", Integer.class, table, column) > 0;
+	}
+
+	private static String email(long userId) {
+		return "user" + userId + "@example.com";
+	}
+
+	private static String token(long userId, int n) {
+		return "refresh-token-" + userId + "-" + n;
+	}
+
+	/**
+	 * 바이너리 암호문에서 [버전][키 ID 길이][키 ID] 를 떼고 Base64 로 만든 V8 이전 본문.
+	 */
+	private static String legacyBody(String plainText) {
+		EncryptionUtils.initForTest(KEY_RING);
+		byte[] binary = EncryptionUtils.encryptToBytes(plainText);
+		return Base64.getEncoder().encodeToString(Arrays.copyOfRange(binary, 2 + binary[1], binary.length));
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.adventcalendar.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.adventcalendar.util.EncryptionUtils;
+import com.example.adventcalendar.util.KeyRing;
+
+@DisplayName("LegacyTextCiphertext 단위 테스트")
+class LegacyTextCiphertextTest {
+
+	private static final String OLD_KEY = "old-encryption-key-32-bytes!!!!!";
+	private static final String NEW_KEY = "new-encryption-key-32-bytes!!!!!";
+
+	private static final KeyRing OLD_RING = KeyRing.single("k1", OLD_KEY);
+	private static final KeyRing ROTATED_RING = KeyRing.of("k2", NEW_KEY, "k1:" + OLD_KEY, "k1");
+
+	@Test
+	@DisplayName("문자열 형식 암호문을 복호화 없이 바이너리로 변환")
+	void toBinary_PreservesCipherText() {
+		// given
+		String text = "$k1$" + legacyBody(OLD_RING, "test@example.com");
+
+		// when
+		byte[] binary = LegacyTextCiphertext.toBinary(ROTATED_RING, text);
+
+		// then
+		assertThat(EncryptionUtils.decryptBytes(ROTATED_RING, binary)).isEqualTo("test@example.com");
+	}
+
+	@Test
+	@DisplayName("헤더 없는 예전 암호문은 legacy 키 ID 로 변환")
+	void toBinary_LegacyCipherText() {
+		// given
+		String legacy = legacyBody(OLD_RING, "test@example.com");
+
+		// when
+		byte[] binary = LegacyTextCiphertext.toBinary(ROTATED_RING, legacy);
+
+		// then
+		assertThat(new String(binary, 2, binary[1])).isEqualTo("k1");
+		assertThat(EncryptionUtils.decryptBytes(ROTATED_RING, binary)).isEqualTo("test@example.com");
+	}
+
+	@Test
+	@DisplayName("문자열 형식 암호문을 바로 복호화")
+	void decrypt_TextCipherText() {
+		// given
+		String text = "$k1$" + legacyBody(OLD_RING, "test@example.com");
+
+		// when & then
+		assertThat(LegacyTextCiphertext.decrypt(ROTATED_RING, text)).isEqualTo("test@example.com");
+		assertThat(LegacyTextCiphertext.decrypt(ROTATED_RING, null)).isNull();
+	}
+
+	@Test
+	@DisplayName("닫히지 않은 헤더는 예외")
+	void toBinary_BrokenHeader_ThrowsException() {
+		assertThatThrownBy(() -> LegacyTextCiphertext.toBinary(ROTATED_RING, "$k1AAAA"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * 바이너리 암호문에서 [버전][키 ID 길이][키 ID] 를 떼고 Base64 로 만든 V8 이전 본문.
+	 */
+	private static String legacyBody(KeyRing keyRing, String plainText) {
+		EncryptionUtils.initForTest(keyRing);
+		byte[] binary = EncryptionUtils.encryptToBytes(plainText);
+		return Base64.getEncoder().encodeToString(Arrays.copyOfRange(binary, 2 + binary[1], binary.length));
+	}
+}
@@ -10,11 +10,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.example.adventcalendar.constant.UserStatus;
 import com.example.adventcalendar.entity.Letter;
 import com.example.adventcalendar.entity.User;
+import com.example.adventcalendar.util.DataKey;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -27,11 +29,16 @@ class LetterRepositoryTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private TestEntityManager entityManager;
+
 	private User user;
 	private Letter letter1;
 	private Letter letter2;
 	private Letter letter3;
 
+	private final DataKey dataKey = DataKey.generate();
+
 	@BeforeEach
 	void setUp() {
 		letterRepository.deleteAll();
@@ -50,26 +57,31 @@ class LetterRepositoryTest {
 		user = userRepository.save(user);
 
 		// 테스트용 편지 생성
-		letter1 = Letter.builder()
+		letter1 = sealed(Letter.builder()
 			.user(user)
 			.day(1)
 			.content("첫 번째 편지")
 			.fromName("친구1")
-			.build();
+			.build());
 
-		letter2 = Letter.builder()
+		letter2 = sealed(Letter.builder()
 			.user(user)
 			.day(10)
 			.content("열 번째 편지")
 			.fromName("친구2")
-			.build();
+			.build());
 
-		letter3 = Letter.builder()
+		letter3 = sealed(Letter.builder()
 			.user(user)
 			.day(25)
 			.content("크리스마스 편지")
 			.fromName("산타")
-			.build();
+			.build());
+	}
+
+	private Letter sealed(Letter letter) {
+		letter.seal(dataKey);
+		return letter;
 	}
 
 	@Nested
@@ -133,12 +145,12 @@ class LetterRepositoryTest {
 
 			letterRepository.save(letter1); // user의 편지
 
-			Letter anotherLetter = Letter.builder()
+			Letter anotherLetter = sealed(Letter.builder()
 				.user(anotherUser)
 				.day(5)
 				.content("다른 사용자 편지")
 				.fromName("다른친구")
-				.build();
+				.build());
 			letterRepository.save(anotherLetter);
 
 			// when
@@ -260,19 +272,19 @@ class LetterRepositoryTest {
 		@DisplayName("같은 날짜에 여러 편지가 있는 경우 모두 조회")
 		void findByUserIdAndDay_MultipleLettersSameDay_ReturnsAll() {
 			// given
-			Letter sameDayLetter1 = Letter.builder()
+			Letter sameDayLetter1 = sealed(Letter.builder()
 				.user(user)
 				.day(10)
 				.content("첫 번째")
 				.fromName("친구1")
-				.build();
+				.build());
 
-			Letter sameDayLetter2 = Letter.builder()
+			Letter sameDayLetter2 = sealed(Letter.builder()
 				.user(user)
 				.day(10)
 				.content("두 번째")
 				.fromName("친구2")
-				.build();
+				.build());
 
 			letterRepository.save(sameDayLetter1);
 			letterRepository.save(sameDayLetter2);
@@ -316,12 +328,12 @@ class LetterRepositoryTest {
 
 			letterRepository.save(letter1); // user의 day 1 편지
 
-			Letter anotherUserLetter = Letter.builder()
+			Letter anotherUserLetter = sealed(Letter.builder()
 				.user(anotherUser)
 				.day(1) // 같은 날짜
 				.content("다른 사용자 편지")
 				.fromName("다른친구")
-				.build();
+				.build());
 			letterRepository.save(anotherUserLetter);
 
 			// when
@@ -365,26 +377,26 @@ class LetterRepositoryTest {
 		@DisplayName("같은 날짜에 여러 편지가 있는 경우 카운트 정확히 집계")
 		void countByUserIdGroupByDay_MultipleSameDay_CountsCorrectly() {
 			// given
-			Letter day10Letter1 = Letter.builder()
+			Letter day10Letter1 = sealed(Letter.builder()
 				.user(user)
 				.day(10)
 				.content("첫 번째")
 				.fromName("친구1")
-				.build();
+				.build());
 
-			Letter day10Letter2 = Letter.builder()
+			Letter day10Letter2 = sealed(Letter.builder()
 				.user(user)
 				.day(10)
 				.content("두 번째")
 				.fromName("친구2")
-				.build();
+				.build());
 
-			Letter day10Letter3 = Letter.builder()
+			Letter day10Letter3 = sealed(Letter.builder()
 				.user(user)
 				.day(10)
 				.content("세 번째")
 				.fromName("친구3")
-				.build();
+				.build());
 
 			letterRepository.save(day10Letter1);
 			letterRepository.save(day10Letter2);
@@ -433,19 +445,19 @@ class LetterRepositoryTest {
 
 			letterRepository.save(letter1); // user의 day 1 편지
 
-			Letter anotherUserLetter1 = Letter.builder()
+			Letter anotherUserLetter1 = sealed(Letter.builder()
 				.user(anotherUser)
 				.day(1)
 				.content("다른 사용자 편지1")
 				.fromName("다른친구")
-				.build();
+				.build());
 
-			Letter anotherUserLetter2 = Letter.builder()
+			Letter anotherUserLetter2 = sealed(Letter.builder()
 				.user(anotherUser)
 				.day(1)
 				.content("다른 사용자 편지2")
 				.fromName("다른친구")
-				.build();
+				.build());
 
 			letterRepository.save(anotherUserLetter1);
 			letterRepository.save(anotherUserLetter2);
@@ -463,12 +475,12 @@ class LetterRepositoryTest {
 		void countByUserIdGroupByDay_AllDays_CountsAll() {
 			// given
 			for (int day = 1; day <= 25; day++) {
-				Letter letter = Letter.builder()
+				Letter letter = sealed(Letter.builder()
 					.user(user)
 					.day(day)
 					.content("Day " + day)
 					.fromName("친구")
-					.build();
+					.build());
 				letterRepository.save(letter);
 			}
 
@@ -572,12 +584,12 @@ class LetterRepositoryTest {
 
 			letterRepository.save(letter1); // user의 편지
 
-			Letter anotherLetter = Letter.builder()
+			Letter anotherLetter = sealed(Letter.builder()
 				.user(anotherUser)
 				.day(5)
 				.content("다른 사용자 편지")
 				.fromName("다른친구")
-				.build();
+				.build());
 			letterRepository.save(anotherLetter);
 
 			// when
@@ -653,4 +665,28 @@ class LetterRepositoryTest {
 			assertThat(found.getUser().getEmail()).isEqualTo("test@example.com");
 		}
 	}
+
+	@Nested
+	@DisplayName("편지 내용 암호화")
+	class SealedContent {
+
+		@Test
+		@DisplayName("내용은 암호문으로 저장되고 데이터 키로만 복호화됨")
+		void save_StoresCipherText() {
+			// given
+			Long letterId = letterRepository.save(letter1).getId();
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			Letter loaded = letterRepository.findById(letterId).orElseThrow();
+
+			// then
+			assertThat(loaded.getContent()).isNull();
+			assertThatThrownBy(() -> loaded.open(DataKey.generate()))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("복호화 실패");
+			assertThat(loaded.open(dataKey)).isEqualTo("첫 번째 편지");
+		}
+	}
 }
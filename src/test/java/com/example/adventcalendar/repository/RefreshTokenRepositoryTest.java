@@ -3,6 +3,7 @@ package com.example.adventcalendar.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.example.adventcalendar.entity.RefreshToken;
+import com.example.adventcalendar.util.HashUtils;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -59,7 +61,7 @@ class RefreshTokenRepositoryTest {
 			// then
 			assertThat(found).isPresent();
 			assertThat(found.get().getUserId()).isEqualTo(1L);
-			assertThat(found.get().getToken()).isEqualTo("valid-refresh-token-123");
+			assertThat(found.get().matches("valid-refresh-token-123")).isTrue();
 			assertThat(found.get().getExpiresAt()).isAfter(LocalDateTime.now());
 		}
 
@@ -114,6 +116,22 @@ class RefreshTokenRepositoryTest {
 			assertThat(found.get().getUserId()).isEqualTo(2L);
 		}
 
+		@Test
+		@DisplayName("원문 대신 32바이트 SHA-256 해시만 저장")
+		void save_StoresFixedLengthHash() {
+			// given
+			refreshTokenRepository.save(validToken);
+
+			// when
+			Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash(
+				HashUtils.sha256("valid-refresh-token-123"));
+
+			// then
+			assertThat(found).isPresent();
+			assertThat(found.get().getTokenHash()).hasSize(32);
+			assertThat(found.get().matches("other-token")).isFalse();
+		}
+
 		@Test
 		@DisplayName("토큰은 unique해야 함")
 		void findByToken_Unique() {
@@ -135,77 +153,106 @@ class RefreshTokenRepositoryTest {
 	}
 
 	@Nested
-	@DisplayName("findByUserId 테스트")
-	class FindByUserId {
+	@DisplayName("사용자별 세션 조회 테스트")
+	class FindSessionsByUserId {
 
 		@Test
-		@DisplayName("사용자 ID로 RefreshToken 조회 성공")
-		void findByUserId_Success() {
+		@DisplayName("사용자 ID로 세션 목록 조회 성공")
+		void findByUserIdOrderByLastUsedAtDesc_Success() {
 			// given
 			refreshTokenRepository.save(validToken);
 
 			// when
-			Optional<RefreshToken> found = refreshTokenRepository.findByUserId(1L);
+			List<RefreshToken> found = refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(1L);
 
 			// then
-			assertThat(found).isPresent();
-			assertThat(found.get().getUserId()).isEqualTo(1L);
-			assertThat(found.get().getToken()).isEqualTo("valid-refresh-token-123");
+			assertThat(found).hasSize(1);
+			assertThat(found.get(0).getUserId()).isEqualTo(1L);
+			assertThat(found.get(0).matches("valid-refresh-token-123")).isTrue();
 		}
 
 		@Test
-		@DisplayName("존재하지 않는 사용자 ID 조회 시 빈 Optional 반환")
-		void findByUserId_NotFound_ReturnsEmpty() {
+		@DisplayName("존재하지 않는 사용자 ID 조회 시 빈 목록 반환")
+		void findByUserIdOrderByLastUsedAtDesc_NotFound_ReturnsEmpty() {
 			// when
-			Optional<RefreshToken> found = refreshTokenRepository.findByUserId(999L);
+			List<RefreshToken> found = refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(999L);
 
 			// then
 			assertThat(found).isEmpty();
 		}
 
 		@Test
-		@DisplayName("한 사용자는 하나의 RefreshToken만 가짐")
-		void findByUserId_OneTokenPerUser() {
+		@DisplayName("한 사용자가 여러 기기 세션을 가지면 최근 사용 순으로 조회")
+		void findByUserIdOrderByLastUsedAtDesc_MultipleDevices_OrderedByLastUsed() {
 			// given
-			refreshTokenRepository.save(validToken);
+			RefreshToken older = RefreshToken.builder()
+				.userId(1L)
+				.deviceId("device-old")
+				.token("old-device-token")
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.lastUsedAt(LocalDateTime.now().minusHours(1))
+				.build();
+			RefreshToken newer = RefreshToken.builder()
+				.userId(1L)
+				.deviceId("device-new")
+				.token("new-device-token")
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.lastUsedAt(LocalDateTime.now())
+				.build();
+			refreshTokenRepository.save(older);
+			refreshTokenRepository.save(newer);
 
 			// when
-			Optional<RefreshToken> found = refreshTokenRepository.findByUserId(1L);
+			List<RefreshToken> found = refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(1L);
+			List<Long> sessionIds = refreshTokenRepository.findSessionIdsByUserId(1L);
 
 			// then
-			assertThat(found).isPresent();
+			assertThat(found).extracting(RefreshToken::getDeviceId)
+				.containsExactly("device-new", "device-old");
+			assertThat(sessionIds).containsExactly(newer.getId(), older.getId());
+		}
 
-			// 같은 userId로 여러 토큰 저장 시도
-			RefreshToken newToken = RefreshToken.builder()
+		@Test
+		@DisplayName("사용자 + 기기로 세션 조회")
+		void findByUserIdAndDeviceId_Success() {
+			// given
+			RefreshToken session = RefreshToken.builder()
 				.userId(1L)
-				.token("new-token-for-user-1")
+				.deviceId("device-1")
+				.token("device-token")
 				.expiresAt(LocalDateTime.now().plusDays(7))
 				.build();
+			refreshTokenRepository.save(session);
 
-			refreshTokenRepository.save(newToken);
-
-			// 새 토큰이 저장되면 2개가 조회됨 (비즈니스 로직에서 관리 필요)
-			long count = refreshTokenRepository.count();
-			assertThat(count).isEqualTo(2); // userId는 unique 제약이 없음
+			// when & then
+			assertThat(refreshTokenRepository.findByUserIdAndDeviceId(1L, "device-1")).isPresent();
+			assertThat(refreshTokenRepository.findByUserIdAndDeviceId(1L, "device-2")).isEmpty();
+			assertThat(refreshTokenRepository.findByUserIdAndDeviceId(2L, "device-1")).isEmpty();
 		}
 
 		@Test
-		@DisplayName("여러 사용자의 토큰 중 특정 사용자만 조회")
-		void findByUserId_MultipleUsers_FindsCorrectOne() {
+		@DisplayName("같은 사용자 + 기기 세션은 하나만 존재")
+		void saveSameUserAndDevice_ThrowsException() {
 			// given
-			refreshTokenRepository.save(validToken); // userId 1
-			refreshTokenRepository.save(expiredToken); // userId 2
-
-			// when
-			Optional<RefreshToken> found1 = refreshTokenRepository.findByUserId(1L);
-			Optional<RefreshToken> found2 = refreshTokenRepository.findByUserId(2L);
+			refreshTokenRepository.save(RefreshToken.builder()
+				.userId(1L)
+				.deviceId("device-1")
+				.token("token-1")
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build());
 
-			// then
-			assertThat(found1).isPresent();
-			assertThat(found1.get().getToken()).isEqualTo("valid-refresh-token-123");
+			RefreshToken duplicate = RefreshToken.builder()
+				.userId(1L)
+				.deviceId("device-1")
+				.token("token-2")
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build();
 
-			assertThat(found2).isPresent();
-			assertThat(found2.get().getToken()).isEqualTo("expired-refresh-token-456");
+			// when & then
+			assertThatThrownBy(() -> {
+				refreshTokenRepository.save(duplicate);
+				refreshTokenRepository.flush();
+			}).isInstanceOf(Exception.class);
 		}
 	}
 
@@ -218,15 +265,14 @@ class RefreshTokenRepositoryTest {
 		void deleteByUserId_Success() {
 			// given
 			refreshTokenRepository.save(validToken);
-			assertThat(refreshTokenRepository.findByUserId(1L)).isPresent();
+			assertThat(refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(1L)).isNotEmpty();
 
 			// when
 			refreshTokenRepository.deleteByUserId(1L);
 			refreshTokenRepository.flush();
 
 			// then
-			Optional<RefreshToken> found = refreshTokenRepository.findByUserId(1L);
-			assertThat(found).isEmpty();
+			assertThat(refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(1L)).isEmpty();
 		}
 
 		@Test
@@ -251,8 +297,8 @@ class RefreshTokenRepositoryTest {
 			refreshTokenRepository.flush();
 
 			// then
-			assertThat(refreshTokenRepository.findByUserId(1L)).isEmpty();
-			assertThat(refreshTokenRepository.findByUserId(2L)).isPresent();
+			assertThat(refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(1L)).isEmpty();
+			assertThat(refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(2L)).isNotEmpty();
 		}
 
 		@Test
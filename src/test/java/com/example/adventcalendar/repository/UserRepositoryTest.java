@@ -16,6 +16,7 @@ import com.example.adventcalendar.constant.UserStatus;
 import com.example.adventcalendar.entity.User;
 import com.example.adventcalendar.util.EncryptionUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 @DataJpaTest
@@ -316,4 +317,76 @@ class UserRepositoryTest {
 			assertThat(notExists).isFalse();
 		}
 	}
+
+	@Nested
+	@DisplayName("이메일 blind index 조회 테스트")
+	class FindAllByEmail {
+
+		@Test
+		@DisplayName("이메일로 사용자 조회 성공")
+		void findAllByEmail_Success() {
+			// given
+			userRepository.save(activeUser);
+
+			// when
+			List<User> found = userRepository.findAllByEmail("test@example.com");
+
+			// then
+			assertThat(found).hasSize(1);
+			assertThat(found.get(0).getEmail()).isEqualTo("test@example.com");
+		}
+
+		@Test
+		@DisplayName("대소문자와 앞뒤 공백은 무시")
+		void findAllByEmail_Normalized() {
+			// given
+			userRepository.save(activeUser);
+
+			// when
+			List<User> found = userRepository.findAllByEmail("  Test@Example.COM ");
+
+			// then
+			assertThat(found).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("같은 이메일의 다른 OAuth 계정도 모두 조회")
+		void findAllByEmail_MultipleProviders() {
+			// given
+			userRepository.save(activeUser);
+			userRepository.save(User.builder()
+				.email("test@example.com")
+				.name("카카오")
+				.oauthProvider("KAKAO")
+				.oauthId("kakao999")
+				.status(UserStatus.PENDING)
+				.build());
+
+			// when
+			List<User> found = userRepository.findAllByEmail("test@example.com");
+
+			// then
+			assertThat(found).hasSize(2);
+		}
+
+		@Test
+		@DisplayName("이메일 변경 시 blind index 도 갱신")
+		void findAllByEmail_AfterEmailChange() {
+			// given
+			User saved = userRepository.save(activeUser);
+			saved.setEmail("changed@example.com");
+			userRepository.saveAndFlush(saved);
+
+			// when & then
+			assertThat(userRepository.findAllByEmail("changed@example.com")).hasSize(1);
+			assertThat(userRepository.findAllByEmail("test@example.com")).isEmpty();
+		}
+
+		@Test
+		@DisplayName("없는 이메일은 빈 목록")
+		void findAllByEmail_NotFound_ReturnsEmpty() {
+			// when & then
+			assertThat(userRepository.findAllByEmail("nobody@example.com")).isEmpty();
+		}
+	}
 }
@@ -0,0 +1,206 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.example.adventcalendar.constant.AccountDeletionStatus;
+import com.example.adventcalendar.entity.AccountDeletion;
+import com.example.adventcalendar.repository.AccountDeletionRepository;
+import com.example.adventcalendar.repository.LetterRepository;
+import com.example.adventcalendar.repository.RefreshTokenRepository;
+import com.example.adventcalendar.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountDeletionService 테스트")
+class AccountDeletionServiceTest {
+
+	@Mock
+	private AccountDeletionRepository accountDeletionRepository;
+
+	@Mock
+	private LetterRepository letterRepository;
+
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private DataKeyService dataKeyService;
+
+	@Mock
+	private LetterRenderer letterRenderer;
+
+	private AccountDeletionService accountDeletionService;
+
+	@BeforeEach
+	void setUp() {
+		accountDeletionService = new AccountDeletionService(
+			accountDeletionRepository,
+			letterRepository,
+			refreshTokenRepository,
+			userRepository,
+			dataKeyService,
+			letterRenderer,
+			2,
+			3,
+			60
+		);
+	}
+
+	@Nested
+	@DisplayName("삭제 작업 처리")
+	class Process {
+
+		@Test
+		@DisplayName("편지를 청크 단위로 지운 뒤 세션과 사용자 삭제")
+		void process_PurgesLettersInChunks() {
+			// given
+			AccountDeletion deletion = AccountDeletion.request(1L);
+			given(letterRepository.findIdsByUserId(1L, Limit.of(2)))
+				.willReturn(List.of(10L, 11L), List.of(12L), List.of());
+
+			// when
+			accountDeletionService.process(deletion);
+
+			// then
+			verify(letterRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+			verify(letterRepository).deleteAllByIdInBatch(List.of(12L));
+			verify(dataKeyService).destroy(1L);
+			verify(letterRenderer).invalidateUser(1L);
+			verify(refreshTokenRepository).bulkDeleteByUserId(1L);
+			verify(userRepository).deleteById(1L);
+
+			assertThat(deletion.getStatus()).isEqualTo(AccountDeletionStatus.COMPLETED);
+			assertThat(deletion.getLettersPurged()).isEqualTo(3);
+			verify(accountDeletionRepository, atLeast(3)).save(deletion);
+		}
+
+		@Test
+		@DisplayName("실패 시 진행 상황을 남기고 재시도 예약")
+		void process_Failure_SchedulesRetry() {
+			// given
+			AccountDeletion deletion = AccountDeletion.request(1L);
+			given(letterRepository.findIdsByUserId(1L, Limit.of(2)))
+				.willReturn(List.of(10L, 11L))
+				.willThrow(new IllegalStateException("lock wait timeout"));
+
+			// when
+			accountDeletionService.process(deletion);
+
+			// then
+			assertThat(deletion.getStatus()).isEqualTo(AccountDeletionStatus.PENDING);
+			assertThat(deletion.getLettersPurged()).isEqualTo(2);
+			assertThat(deletion.getAttempts()).isEqualTo(1);
+			assertThat(deletion.getLastError()).isEqualTo("lock wait timeout");
+			assertThat(deletion.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+
+			verify(userRepository, never()).deleteById(anyLong());
+		}
+
+		@Test
+		@DisplayName("최대 재시도 횟수에 도달하면 FAILED")
+		void process_MaxAttempts_MarksFailed() {
+			// given
+			AccountDeletion deletion = AccountDeletion.request(1L);
+			given(letterRepository.findIdsByUserId(1L, Limit.of(2)))
+				.willThrow(new IllegalStateException("db down"));
+
+			// when
+			accountDeletionService.process(deletion);
+			accountDeletionService.process(deletion);
+			accountDeletionService.process(deletion);
+
+			// then
+			assertThat(deletion.getStatus()).isEqualTo(AccountDeletionStatus.FAILED);
+			assertThat(deletion.getAttempts()).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("청크 사이에 임대를 잃으면 실패로 세지 않고 멈춤")
+		void process_LeaseLost_StopsWithoutAttempt() {
+			// given
+			AccountDeletion deletion = AccountDeletion.request(1L);
+			given(letterRepository.findIdsByUserId(1L, Limit.of(2))).willReturn(List.of(10L, 11L));
+
+			// when
+			accountDeletionService.process(deletion, () -> false);
+
+			// then
+			assertThat(deletion.getStatus()).isEqualTo(AccountDeletionStatus.PENDING);
+			assertThat(deletion.getLettersPurged()).isEqualTo(2);
+			assertThat(deletion.getAttempts()).isZero();
+
+			verify(letterRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+			verify(letterRepository).findIdsByUserId(1L, Limit.of(2));
+			verify(dataKeyService, never()).destroy(anyLong());
+			verify(userRepository, never()).deleteById(anyLong());
+		}
+	}
+
+	@Nested
+	@DisplayName("대기열 처리")
+	class ProcessDue {
+
+		@Test
+		@DisplayName("처리 시각이 된 PENDING 작업만 처리")
+		void processDue_ProcessesPendingJobs() {
+			// given
+			AccountDeletion first = AccountDeletion.request(1L);
+			AccountDeletion second = AccountDeletion.request(2L);
+			given(accountDeletionRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+				eq(AccountDeletionStatus.PENDING), any(LocalDateTime.class), eq(Limit.of(10))))
+				.willReturn(List.of(first, second));
+			given(letterRepository.findIdsByUserId(anyLong(), any(Limit.class))).willReturn(List.of());
+
+			// when
+			int processed = accountDeletionService.processDue(10);
+
+			// then
+			assertThat(processed).isEqualTo(2);
+			verify(userRepository).deleteById(1L);
+			verify(userRepository).deleteById(2L);
+			assertThat(first.getStatus()).isEqualTo(AccountDeletionStatus.COMPLETED);
+			assertThat(second.getStatus()).isEqualTo(AccountDeletionStatus.COMPLETED);
+		}
+	}
+
+		@Test
+		@DisplayName("임대를 잃으면 남은 작업은 다음 실행으로 미룸")
+		void processDue_LeaseLost_StopsBeforeNextJob() {
+			// given
+			AccountDeletion first = AccountDeletion.request(1L);
+			AccountDeletion second = AccountDeletion.request(2L);
+			given(accountDeletionRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+				eq(AccountDeletionStatus.PENDING), any(LocalDateTime.class), eq(Limit.of(10))))
+				.willReturn(List.of(first, second));
+			given(letterRepository.findIdsByUserId(anyLong(), any(Limit.class))).willReturn(List.of());
+			AtomicInteger checks = new AtomicInteger();
+
+			// when
+			int processed = accountDeletionService.processDue(10, () -> checks.incrementAndGet() == 1);
+
+			// then
+			assertThat(processed).isEqualTo(1);
+			verify(userRepository).deleteById(1L);
+			verify(userRepository, never()).deleteById(2L);
+			assertThat(second.getStatus()).isEqualTo(AccountDeletionStatus.PENDING);
+			assertThat(second.getAttempts()).isZero();
+		}
+	}
+}
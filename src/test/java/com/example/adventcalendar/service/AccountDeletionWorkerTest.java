@@ -0,0 +1,72 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountDeletionWorker 테스트")
+class AccountDeletionWorkerTest {
+
+	@Mock
+	private AccountDeletionService accountDeletionService;
+
+	@Mock
+	private SchedulerLeaseService schedulerLeaseService;
+
+	@Test
+	@DisplayName("임대 시간의 1/3 이 지나기 전에는 연장하지 않음")
+	void leaseRenewer_BeforeInterval_SkipsRenew() {
+		// given
+		AccountDeletionWorker worker = new AccountDeletionWorker(accountDeletionService, schedulerLeaseService, 20, 300);
+		BooleanSupplier leaseHeld = worker.leaseRenewer();
+
+		// when
+		boolean held = leaseHeld.getAsBoolean();
+
+		// then
+		assertThat(held).isTrue();
+		verify(schedulerLeaseService, never()).renew(anyString(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("연장 시점이 되면 임대를 연장하고, 다른 노드가 가져갔으면 false")
+	void leaseRenewer_AfterInterval_Renews() {
+		// given
+		AccountDeletionWorker worker = new AccountDeletionWorker(accountDeletionService, schedulerLeaseService, 20, 0);
+		given(schedulerLeaseService.renew(AccountDeletionWorker.LEASE_NAME, Duration.ZERO)).willReturn(true, false);
+		BooleanSupplier leaseHeld = worker.leaseRenewer();
+
+		// when
+		boolean first = leaseHeld.getAsBoolean();
+		boolean second = leaseHeld.getAsBoolean();
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+	}
+
+	@Test
+	@DisplayName("처리 중 연장할 수 있도록 대기열 처리에 임대 확인을 넘기고 끝나면 반납")
+	void run_PassesLeaseRenewer() {
+		// given
+		AccountDeletionWorker worker = new AccountDeletionWorker(accountDeletionService, schedulerLeaseService, 20, 300);
+		given(schedulerLeaseService.tryAcquire(AccountDeletionWorker.LEASE_NAME, Duration.ofSeconds(300))).willReturn(true);
+
+		// when
+		worker.run();
+
+		// then
+		verify(accountDeletionService).processDue(eq(20), any(BooleanSupplier.class));
+		verify(schedulerLeaseService).release(AccountDeletionWorker.LEASE_NAME);
+	}
+}
@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,25 +15,41 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
+import com.example.adventcalendar.config.AccessTokenDenylist;
 import com.example.adventcalendar.config.JwtTokenProvider;
+import com.example.adventcalendar.constant.AccountDeletionStatus;
 import com.example.adventcalendar.constant.UserStatus;
+import com.example.adventcalendar.dto.SessionDevice;
+import com.example.adventcalendar.dto.UserIdentity;
 import com.example.adventcalendar.dto.request.UserCreateRequest;
 import com.example.adventcalendar.dto.response.LoginResponse;
+import com.example.adventcalendar.dto.response.SessionResponse;
 import com.example.adventcalendar.dto.response.UserRegistrationResult;
+import com.example.adventcalendar.entity.AccountDeletion;
 import com.example.adventcalendar.entity.RefreshToken;
 import com.example.adventcalendar.entity.User;
 import com.example.adventcalendar.exception.ConflictException;
 import com.example.adventcalendar.exception.ResourceNotFoundException;
 import com.example.adventcalendar.exception.UnauthorizedException;
-import com.example.adventcalendar.repository.LetterRepository;
+import com.example.adventcalendar.repository.AccountDeletionRepository;
 import com.example.adventcalendar.repository.RefreshTokenRepository;
 import com.example.adventcalendar.repository.UserRepository;
 import com.example.adventcalendar.service.OAuth2Service.OAuthUserInfo;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthService 단위 테스트")
 class AuthServiceTest {
@@ -48,7 +67,22 @@ class AuthServiceTest {
 	private RefreshTokenRepository refreshTokenRepository;
 
 	@Mock
-	private LetterRepository letterRepository;
+	private AccountDeletionRepository accountDeletionRepository;
+
+	@Mock
+	private AccessTokenDenylist accessTokenDenylist;
+
+	@Mock
+	private UserInfoService userInfoService;
+
+	@Spy
+	private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+	@Spy
+	private UserIdentityCache userIdentityCache = new UserIdentityCache(100, 300);
+
+	@Spy
+	private RefreshSessionCache refreshSessionCache = new RefreshSessionCache(100, 3600);
 
 	@InjectMocks
 	private AuthService authService;
@@ -59,6 +93,9 @@ class AuthServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		ReflectionTestUtils.setField(authService, "maxSessionsPerUser", 5);
+		ReflectionTestUtils.setField(authService, "sessionTouchIntervalSeconds", 21600L);
+
 		activeUser = User.builder()
 			.id(1L)
 			.email("test@example.com")
@@ -92,6 +129,38 @@ class AuthServiceTest {
 	@DisplayName("네이버 OAuth 콜백 처리")
 	class HandleNaverCallback {
 
+		@Test
+		@DisplayName("공급자 호출을 마친 뒤에 DB 트랜잭션 시작")
+		void handleNaverCallback_ProviderCallBeforeTransaction() {
+			// given
+			given(oAuth2Service.authenticateNaver("auth-code", "state-value")).willReturn(oAuthUserInfo);
+			given(userRepository.findByOauthProviderAndOauthId("NAVER", "naver123"))
+				.willReturn(Optional.of(pendingUser));
+			given(jwtTokenProvider.createTempToken(anyLong(), anyString(), anyString())).willReturn("temp-token");
+
+			// when
+			authService.handleNaverCallback("auth-code", "state-value");
+
+			// then
+			InOrder inOrder = inOrder(oAuth2Service, transactionOperations, userRepository);
+			inOrder.verify(oAuth2Service).authenticateNaver("auth-code", "state-value");
+			inOrder.verify(transactionOperations).execute(any());
+			inOrder.verify(userRepository).findByOauthProviderAndOauthId("NAVER", "naver123");
+		}
+
+		@Test
+		@DisplayName("공급자 호출이 실패하면 트랜잭션을 시작하지 않음")
+		void handleNaverCallback_ProviderFails_NoTransaction() {
+			// given
+			given(oAuth2Service.authenticateNaver("auth-code", "state-value"))
+				.willThrow(new RuntimeException("네이버 Access Token 발급 실패"));
+
+			// when & then
+			assertThatThrownBy(() -> authService.handleNaverCallback("auth-code", "state-value"))
+				.isInstanceOf(RuntimeException.class);
+			verify(transactionOperations, never()).execute(any());
+		}
+
 		@Test
 		@DisplayName("기존 ACTIVE 사용자 로그인 성공")
 		void handleNaverCallback_ExistingActiveUser_Success() {
@@ -106,7 +175,7 @@ class AuthServiceTest {
 				.willReturn(Optional.of(activeUser));
 			given(jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER"))
 				.willReturn(accessToken);
-			given(jwtTokenProvider.createRefreshToken(1L)).willReturn(refreshToken);
+			given(jwtTokenProvider.createRefreshToken(1L, "test@example.com", "NAVER")).willReturn(refreshToken);
 			given(jwtTokenProvider.getAccessTokenValidityInSeconds()).willReturn(3600L);
 
 			// when
@@ -123,6 +192,68 @@ class AuthServiceTest {
 			verify(refreshTokenRepository).save(any(RefreshToken.class));
 		}
 
+		@Test
+		@DisplayName("재로그인한 ACTIVE 사용자는 User 조회 없이 캐시로 토큰 발급")
+		void handleNaverCallback_RepeatLogin_UsesIdentityCache() {
+			// given
+			given(oAuth2Service.authenticateNaver("auth-code", "state-value")).willReturn(oAuthUserInfo);
+			given(userRepository.findByOauthProviderAndOauthId("NAVER", "naver123"))
+				.willReturn(Optional.of(activeUser));
+			given(jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER"))
+				.willReturn("access-token");
+			given(jwtTokenProvider.createRefreshToken(1L, "test@example.com", "NAVER")).willReturn("refresh-token");
+			given(userRepository.lockIfActive(1L)).willReturn(Optional.of(1L));
+
+			// when
+			authService.handleNaverCallback("auth-code", "state-value");
+			LoginResponse response = authService.handleNaverCallback("auth-code", "state-value");
+
+			// then
+			assertThat(response.isExistingUser()).isTrue();
+			assertThat(response.userUuid()).isEqualTo("test-uuid-123");
+			verify(userRepository, times(1)).findByOauthProviderAndOauthId("NAVER", "naver123");
+			verify(jwtTokenProvider, times(2)).createAccessToken(1L, "test@example.com", "NAVER");
+		}
+
+		@Test
+		@DisplayName("다른 노드에서 탈퇴한 사용자는 캐시에 남아 있어도 세션 없이 새 가입으로 처리")
+		void handleNaverCallback_CachedButDeleted_FallsThroughToSignUp() {
+			// given
+			userIdentityCache.put(new UserIdentity(1L, "test@example.com", "NAVER", "naver123", "test-uuid-123"));
+			given(oAuth2Service.authenticateNaver("auth-code", "state-value")).willReturn(oAuthUserInfo);
+			given(userRepository.lockIfActive(1L)).willReturn(Optional.empty());
+			given(userRepository.findByOauthProviderAndOauthId("NAVER", "naver123")).willReturn(Optional.empty());
+			given(userRepository.save(any(User.class))).willReturn(pendingUser);
+			given(jwtTokenProvider.createTempToken(2L, "pending@example.com", "KAKAO")).willReturn("temp-token");
+
+			// when
+			LoginResponse response = authService.handleNaverCallback("auth-code", "state-value");
+
+			// then
+			assertThat(response.isExistingUser()).isFalse();
+			assertThat(userIdentityCache.find("NAVER", "naver123")).isEmpty();
+			verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+			verify(jwtTokenProvider, never()).createRefreshToken(anyLong(), anyString(), anyString());
+		}
+
+		@Test
+		@DisplayName("PENDING 사용자는 캐시하지 않음")
+		void handleNaverCallback_PendingUser_NotCached() {
+			// given
+			given(oAuth2Service.authenticateNaver("auth-code", "state-value")).willReturn(oAuthUserInfo);
+			given(userRepository.findByOauthProviderAndOauthId("NAVER", "naver123"))
+				.willReturn(Optional.of(pendingUser));
+			given(jwtTokenProvider.createTempToken(2L, "pending@example.com", "KAKAO")).willReturn("temp-token");
+
+			// when
+			authService.handleNaverCallback("auth-code", "state-value");
+			authService.handleNaverCallback("auth-code", "state-value");
+
+			// then
+			verify(userRepository, times(2)).findByOauthProviderAndOauthId("NAVER", "naver123");
+			verify(userIdentityCache, never()).put(any());
+		}
+
 		@Test
 		@DisplayName("기존 PENDING 사용자는 임시 토큰 발급")
 		void handleNaverCallback_ExistingPendingUser_ReturnsTempToken() {
@@ -227,7 +358,7 @@ class AuthServiceTest {
 				.willReturn(Optional.of(kakaoUser));
 			given(jwtTokenProvider.createAccessToken(1L, "kakao@example.com", "KAKAO"))
 				.willReturn(accessToken);
-			given(jwtTokenProvider.createRefreshToken(1L)).willReturn(refreshToken);
+			given(jwtTokenProvider.createRefreshToken(1L, "kakao@example.com", "KAKAO")).willReturn(refreshToken);
 			given(jwtTokenProvider.getAccessTokenValidityInSeconds()).willReturn(3600L);
 
 			// when
@@ -304,7 +435,7 @@ class AuthServiceTest {
 			});
 			given(jwtTokenProvider.createAccessToken(userId, "pending@example.com", "KAKAO"))
 				.willReturn(accessToken);
-			given(jwtTokenProvider.createRefreshToken(userId)).willReturn(refreshToken);
+			given(jwtTokenProvider.createRefreshToken(userId, "pending@example.com", "KAKAO")).willReturn(refreshToken);
 
 			// when
 			UserRegistrationResult result = authService.completeUserRegistration(userId, request);
@@ -324,6 +455,8 @@ class AuthServiceTest {
 			));
 			verify(refreshTokenRepository).deleteByUserId(userId);
 			verify(refreshTokenRepository).save(any(RefreshToken.class));
+			verify(userIdentityCache).invalidate("KAKAO", "kakao456");
+			verify(userInfoService).evict(userId);
 		}
 
 		@Test
@@ -371,7 +504,7 @@ class AuthServiceTest {
 			});
 			given(jwtTokenProvider.createAccessToken(anyLong(), anyString(), anyString()))
 				.willReturn("token");
-			given(jwtTokenProvider.createRefreshToken(anyLong())).willReturn("refresh");
+			given(jwtTokenProvider.createRefreshToken(anyLong(), anyString(), anyString())).willReturn("refresh");
 
 			// when
 			authService.completeUserRegistration(userId, request);
@@ -388,6 +521,17 @@ class AuthServiceTest {
 	@DisplayName("토큰 갱신")
 	class RefreshAccessToken {
 
+		private Claims refreshClaims(Long userId, boolean withIdentity) {
+			ClaimsBuilder builder = Jwts.claims()
+				.subject(userId.toString())
+				.add("type", "refresh");
+			if (withIdentity) {
+				builder.add("email", "test@example.com")
+					.add("oauthProvider", "NAVER");
+			}
+			return builder.build();
+		}
+
 		@Test
 		@DisplayName("유효한 RefreshToken으로 AccessToken 갱신 성공")
 		void refreshAccessToken_ValidToken_Success() {
@@ -402,10 +546,9 @@ class AuthServiceTest {
 				.expiresAt(LocalDateTime.now().plusDays(7))
 				.build();
 
-			given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
+			given(jwtTokenProvider.parseClaims(refreshToken)).willReturn(refreshClaims(1L, true));
 			given(refreshTokenRepository.findByToken(refreshToken))
 				.willReturn(Optional.of(storedToken));
-			given(userRepository.findById(1L)).willReturn(Optional.of(activeUser));
 			given(jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER"))
 				.willReturn(newAccessToken);
 
@@ -414,6 +557,142 @@ class AuthServiceTest {
 
 			// then
 			assertThat(result).isEqualTo(newAccessToken);
+			verify(userRepository, never()).findById(anyLong());
+		}
+
+		@Test
+		@DisplayName("같은 세션의 두 번째 갱신부터는 DB 조회 없음")
+		void refreshAccessToken_CachedSession_NoDatabaseAccess() {
+			// given
+			String refreshToken = "valid-refresh-token";
+
+			RefreshToken storedToken = RefreshToken.builder()
+				.id(1L)
+				.userId(1L)
+				.token(refreshToken)
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build();
+
+			given(jwtTokenProvider.parseClaims(refreshToken)).willReturn(refreshClaims(1L, true));
+			given(refreshTokenRepository.findByToken(refreshToken))
+				.willReturn(Optional.of(storedToken));
+			given(jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER"))
+				.willReturn("new-access-token");
+			authService.refreshAccessToken(refreshToken);
+			clearInvocations(refreshTokenRepository, userRepository);
+
+			// when
+			String result = authService.refreshAccessToken(refreshToken);
+
+			// then
+			assertThat(result).isEqualTo("new-access-token");
+			verifyNoInteractions(refreshTokenRepository, userRepository);
+		}
+
+		@Test
+		@DisplayName("로그아웃한 RefreshToken 은 캐시에 있어도 거부")
+		void refreshAccessToken_AfterLogout_Rejected() {
+			// given
+			String refreshToken = "valid-refresh-token";
+
+			RefreshToken storedToken = RefreshToken.builder()
+				.id(1L)
+				.userId(1L)
+				.token(refreshToken)
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build();
+
+			given(jwtTokenProvider.parseClaims(refreshToken)).willReturn(refreshClaims(1L, true));
+			given(refreshTokenRepository.findByToken(refreshToken))
+				.willReturn(Optional.of(storedToken), Optional.of(storedToken), Optional.empty());
+			given(jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER"))
+				.willReturn("new-access-token");
+			authService.refreshAccessToken(refreshToken);
+
+			// when
+			authService.logout(refreshToken);
+
+			// then
+			assertThatThrownBy(() -> authService.refreshAccessToken(refreshToken))
+				.isInstanceOf(UnauthorizedException.class)
+				.hasMessage("RefreshToken을 찾을 수 없습니다");
+		}
+
+		@Test
+		@DisplayName("종료한 세션과 탈퇴한 사용자의 RefreshToken 은 캐시에서 제거")
+		void revokeSessionAndDeleteUser_InvalidateCachedSessions() {
+			// given
+			refreshSessionCache.put("token-a", new RefreshSessionCache.Session(
+				10L, 1L, LocalDateTime.now().plusDays(7), LocalDateTime.now()));
+			refreshSessionCache.put("token-b", new RefreshSessionCache.Session(
+				11L, 1L, LocalDateTime.now().plusDays(7), LocalDateTime.now()));
+			RefreshToken session = RefreshToken.builder().id(10L).userId(1L).token("token-a").build();
+
+			given(refreshTokenRepository.findById(10L)).willReturn(Optional.of(session));
+			given(userRepository.findById(1L)).willReturn(Optional.of(activeUser));
+
+			// when & then
+			authService.revokeSession(1L, 10L);
+			assertThat(refreshSessionCache.find("token-a")).isEmpty();
+			assertThat(refreshSessionCache.find("token-b")).isPresent();
+
+			authService.deleteUser(1L);
+			assertThat(refreshSessionCache.find("token-b")).isEmpty();
+		}
+
+		@Test
+		@DisplayName("claim 이 없는 예전 RefreshToken 은 사용자 정보를 DB 에서 조회")
+		void refreshAccessToken_LegacyToken_LoadsUser() {
+			// given
+			String refreshToken = "legacy-refresh-token";
+
+			RefreshToken storedToken = RefreshToken.builder()
+				.id(1L)
+				.userId(1L)
+				.token(refreshToken)
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build();
+
+			given(jwtTokenProvider.parseClaims(refreshToken)).willReturn(refreshClaims(1L, false));
+			given(refreshTokenRepository.findByToken(refreshToken))
+				.willReturn(Optional.of(storedToken));
+			given(userRepository.findById(1L)).willReturn(Optional.of(activeUser));
+			given(jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER"))
+				.willReturn("new-access-token");
+
+			// when
+			String result = authService.refreshAccessToken(refreshToken);
+
+			// then
+			assertThat(result).isEqualTo("new-access-token");
+		}
+
+		@Test
+		@DisplayName("마지막 사용 기록이 오래됐을 때만 lastUsedAt 갱신")
+		void refreshAccessToken_StaleSession_Touched() {
+			// given
+			String refreshToken = "valid-refresh-token";
+
+			RefreshToken storedToken = RefreshToken.builder()
+				.id(1L)
+				.userId(1L)
+				.token(refreshToken)
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.lastUsedAt(LocalDateTime.now().minusDays(1))
+				.build();
+
+			given(jwtTokenProvider.parseClaims(refreshToken)).willReturn(refreshClaims(1L, true));
+			given(refreshTokenRepository.findByToken(refreshToken))
+				.willReturn(Optional.of(storedToken));
+			given(jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER"))
+				.willReturn("new-access-token");
+
+			// when
+			authService.refreshAccessToken(refreshToken);
+			authService.refreshAccessToken(refreshToken);
+
+			// then
+			verify(refreshTokenRepository, times(1)).touch(eq(1L), any(LocalDateTime.class));
 		}
 
 		@Test
@@ -422,7 +701,7 @@ class AuthServiceTest {
 			// given
 			String refreshToken = "invalid-token";
 
-			given(jwtTokenProvider.validateToken(refreshToken)).willReturn(false);
+			given(jwtTokenProvider.parseClaims(refreshToken)).willThrow(new JwtException("invalid"));
 
 			// when & then
 			assertThatThrownBy(() -> authService.refreshAccessToken(refreshToken))
@@ -436,7 +715,7 @@ class AuthServiceTest {
 			// given
 			String refreshToken = "unknown-token";
 
-			given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
+			given(jwtTokenProvider.parseClaims(refreshToken)).willReturn(refreshClaims(1L, true));
 			given(refreshTokenRepository.findByToken(refreshToken))
 				.willReturn(Optional.empty());
 
@@ -459,7 +738,7 @@ class AuthServiceTest {
 				.expiresAt(LocalDateTime.now().minusDays(1)) // 만료됨
 				.build();
 
-			given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
+			given(jwtTokenProvider.parseClaims(refreshToken)).willReturn(refreshClaims(1L, true));
 			given(refreshTokenRepository.findByToken(refreshToken))
 				.willReturn(Optional.of(storedToken));
 
@@ -468,7 +747,8 @@ class AuthServiceTest {
 				.isInstanceOf(UnauthorizedException.class)
 				.hasMessage("RefreshToken이 만료되었습니다");
 
-			verify(refreshTokenRepository).delete(storedToken);
+			verify(refreshTokenRepository).deleteById(1L);
+			assertThat(refreshSessionCache.find(refreshToken)).isEmpty();
 		}
 
 		@Test
@@ -484,7 +764,7 @@ class AuthServiceTest {
 				.expiresAt(LocalDateTime.now().plusDays(7))
 				.build();
 
-			given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
+			given(jwtTokenProvider.parseClaims(refreshToken)).willReturn(refreshClaims(999L, false));
 			given(refreshTokenRepository.findByToken(refreshToken))
 				.willReturn(Optional.of(storedToken));
 			given(userRepository.findById(999L)).willReturn(Optional.empty());
@@ -541,12 +821,227 @@ class AuthServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Access Token 폐기")
+	class RevokeAccessToken {
+
+		@Test
+		@DisplayName("유효한 Access Token 의 jti 를 폐기 목록에 등록")
+		void revokeAccessToken_ValidToken_AddsToDenylist() {
+			// given
+			String accessToken = "access-token";
+			Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+			given(jwtTokenProvider.validateToken(accessToken)).willReturn(true);
+			given(jwtTokenProvider.parseClaims(accessToken)).willReturn(Jwts.claims()
+				.setSubject("1")
+				.id("jti-1")
+				.expiration(expiration)
+				.build());
+
+			// when
+			authService.revokeAccessToken(accessToken);
+
+			// then
+			verify(accessTokenDenylist).revoke(eq("jti-1"), any(Instant.class));
+		}
+
+		@Test
+		@DisplayName("유효하지 않은 토큰은 무시")
+		void revokeAccessToken_InvalidToken_Ignored() {
+			// given
+			given(jwtTokenProvider.validateToken("invalid")).willReturn(false);
+
+			// when
+			authService.revokeAccessToken("invalid");
+			authService.revokeAccessToken(null);
+
+			// then
+			verify(accessTokenDenylist, never()).revoke(any(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("기기별 세션 관리")
+	class Sessions {
+
+		private void givenLoginTokens() {
+			given(oAuth2Service.authenticateNaver("code", "state")).willReturn(oAuthUserInfo);
+			given(userRepository.findByOauthProviderAndOauthId("NAVER", "naver123"))
+				.willReturn(Optional.of(activeUser));
+			given(jwtTokenProvider.createAccessToken(1L, "test@example.com", "NAVER"))
+				.willReturn("access-token");
+			given(jwtTokenProvider.createRefreshToken(1L, "test@example.com", "NAVER")).willReturn("new-refresh-token");
+			given(jwtTokenProvider.getRefreshTokenValidityInSeconds()).willReturn(1209600L);
+		}
+
+		@Test
+		@DisplayName("같은 기기로 다시 로그인하면 기존 세션의 토큰만 교체")
+		void login_SameDevice_RotatesExistingSession() {
+			// given
+			givenLoginTokens();
+			RefreshToken existing = RefreshToken.builder()
+				.id(10L)
+				.userId(1L)
+				.deviceId("device-1")
+				.token("old-refresh-token")
+				.expiresAt(LocalDateTime.now().plusDays(1))
+				.build();
+			given(refreshTokenRepository.findByUserIdAndDeviceId(1L, "device-1"))
+				.willReturn(Optional.of(existing));
+			given(refreshTokenRepository.findSessionIdsByUserId(1L)).willReturn(List.of(10L));
+
+			// when
+			authService.handleNaverCallback("code", "state", new SessionDevice("device-1", "Chrome"));
+
+			// then
+			verify(refreshTokenRepository).save(existing);
+			assertThat(existing.matches("new-refresh-token")).isTrue();
+			assertThat(existing.matches("old-refresh-token")).isFalse();
+			assertThat(existing.getDeviceName()).isEqualTo("Chrome");
+			verify(refreshTokenRepository, never()).deleteAllByIdInBatch(any());
+		}
+
+		@Test
+		@DisplayName("같은 기기에서 동시에 로그인해 세션 INSERT 가 충돌하면 먼저 생긴 세션을 교체")
+		void login_ConcurrentSameDevice_RetriesAsUpdate() {
+			// given
+			givenLoginTokens();
+			RefreshToken committedByOtherLogin = RefreshToken.builder()
+				.id(10L)
+				.userId(1L)
+				.deviceId("device-1")
+				.token("other-refresh-token")
+				.expiresAt(LocalDateTime.now().plusDays(1))
+				.build();
+			given(refreshTokenRepository.findByUserIdAndDeviceId(1L, "device-1"))
+				.willReturn(Optional.empty(), Optional.of(committedByOtherLogin));
+			given(refreshTokenRepository.save(any(RefreshToken.class)))
+				.willThrow(new DataIntegrityViolationException("uk_refresh_tokens_user_device"))
+				.willAnswer(invocation -> invocation.getArgument(0));
+			given(refreshTokenRepository.findSessionIdsByUserId(1L)).willReturn(List.of(10L));
+			given(userRepository.lockIfActive(1L)).willReturn(Optional.of(1L));
+
+			// when
+			LoginResponse response = authService.handleNaverCallback("code", "state", new SessionDevice("device-1", "Chrome"));
+
+			// then
+			assertThat(response.refreshToken()).isEqualTo("new-refresh-token");
+			verify(transactionOperations, times(2)).execute(any());
+			verify(refreshTokenRepository).save(committedByOtherLogin);
+			assertThat(committedByOtherLogin.matches("new-refresh-token")).isTrue();
+		}
+
+		@Test
+		@DisplayName("새 기기 로그인 시 세션 추가")
+		void login_NewDevice_CreatesSession() {
+			// given
+			givenLoginTokens();
+			given(refreshTokenRepository.findByUserIdAndDeviceId(1L, "device-2")).willReturn(Optional.empty());
+			given(refreshTokenRepository.findSessionIdsByUserId(1L)).willReturn(List.of(11L, 10L));
+
+			// when
+			authService.handleNaverCallback("code", "state", new SessionDevice("device-2", "Safari"));
+
+			// then
+			verify(refreshTokenRepository).save(argThat(session ->
+				session.getUserId().equals(1L)
+					&& session.getDeviceId().equals("device-2")
+					&& session.matches("new-refresh-token")
+			));
+			verify(refreshTokenRepository, never()).deleteAllByIdInBatch(any());
+		}
+
+		@Test
+		@DisplayName("최대 세션 수를 넘으면 가장 오래 쓰지 않은 세션부터 삭제")
+		void login_ExceedsMaxSessions_EvictsLeastRecentlyUsed() {
+			// given
+			givenLoginTokens();
+			given(refreshTokenRepository.findByUserIdAndDeviceId(1L, "device-6")).willReturn(Optional.empty());
+			given(refreshTokenRepository.findSessionIdsByUserId(1L))
+				.willReturn(List.of(16L, 15L, 14L, 13L, 12L, 11L));
+
+			// when
+			authService.handleNaverCallback("code", "state", new SessionDevice("device-6", "Firefox"));
+
+			// then
+			verify(refreshTokenRepository).deleteAllByIdInBatch(List.of(11L));
+		}
+
+		@Test
+		@DisplayName("세션 목록 조회 시 현재 세션 표시")
+		void getSessions_MarksCurrentSession() {
+			// given
+			RefreshToken current = RefreshToken.builder()
+				.id(1L)
+				.userId(1L)
+				.deviceId("device-1")
+				.token("current-token")
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build();
+			RefreshToken other = RefreshToken.builder()
+				.id(2L)
+				.userId(1L)
+				.deviceId("device-2")
+				.token("other-token")
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build();
+			given(refreshTokenRepository.findByUserIdOrderByLastUsedAtDesc(1L)).willReturn(List.of(current, other));
+
+			// when
+			List<SessionResponse> sessions = authService.getSessions(1L, "current-token");
+
+			// then
+			assertThat(sessions).hasSize(2);
+			assertThat(sessions).extracting(SessionResponse::current).containsExactly(true, false);
+		}
+
+		@Test
+		@DisplayName("본인 세션 종료 성공")
+		void revokeSession_OwnSession_Success() {
+			// given
+			RefreshToken session = RefreshToken.builder()
+				.id(5L)
+				.userId(1L)
+				.token("token")
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build();
+			given(refreshTokenRepository.findById(5L)).willReturn(Optional.of(session));
+
+			// when
+			authService.revokeSession(1L, 5L);
+
+			// then
+			verify(refreshTokenRepository).delete(session);
+		}
+
+		@Test
+		@DisplayName("다른 사용자의 세션 종료 시 예외 발생")
+		void revokeSession_OtherUsersSession_ThrowsException() {
+			// given
+			RefreshToken session = RefreshToken.builder()
+				.id(5L)
+				.userId(2L)
+				.token("token")
+				.expiresAt(LocalDateTime.now().plusDays(7))
+				.build();
+			given(refreshTokenRepository.findById(5L)).willReturn(Optional.of(session));
+
+			// when & then
+			assertThatThrownBy(() -> authService.revokeSession(1L, 5L))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("세션을 찾을 수 없습니다");
+
+			verify(refreshTokenRepository, never()).delete(any(RefreshToken.class));
+		}
+	}
+
 	@Nested
 	@DisplayName("회원 탈퇴")
 	class DeleteUser {
 
 		@Test
-		@DisplayName("회원 탈퇴 성공 - 모든 데이터 삭제")
+		@DisplayName("회원 탈퇴 시 tombstone 표시 후 삭제 작업 등록")
 		void deleteUser_Success() {
 			// given
 			Long userId = 1L;
@@ -557,9 +1052,32 @@ class AuthServiceTest {
 			authService.deleteUser(userId);
 
 			// then
-			verify(refreshTokenRepository).deleteByUserId(userId);
-			verify(letterRepository).deleteByUserId(userId);
-			verify(userRepository).delete(activeUser);
+			assertThat(activeUser.getStatus()).isEqualTo(UserStatus.DELETED);
+			assertThat(activeUser.getShareUuid()).isNull();
+			assertThat(activeUser.getOauthId()).isEqualTo("deleted:1");
+
+			verify(refreshTokenRepository).bulkDeleteByUserId(userId);
+			verify(accountDeletionRepository).save(argThat((AccountDeletion deletion) ->
+				deletion.getUserId().equals(userId)
+					&& deletion.getStatus() == AccountDeletionStatus.PENDING
+			));
+			verify(userRepository, never()).delete(any(User.class));
+		}
+
+		@Test
+		@DisplayName("회원 탈퇴 시 재로그인 캐시에서 제거")
+		void deleteUser_InvalidatesIdentityCache() {
+			// given
+			Long userId = 1L;
+			userIdentityCache.put(new UserIdentity(1L, "test@example.com", "NAVER", "naver123", "test-uuid-123"));
+
+			given(userRepository.findById(userId)).willReturn(Optional.of(activeUser));
+
+			// when
+			authService.deleteUser(userId);
+
+			// then
+			assertThat(userIdentityCache.find("NAVER", "naver123")).isEmpty();
 		}
 
 		@Test
@@ -575,9 +1093,8 @@ class AuthServiceTest {
 				.isInstanceOf(ResourceNotFoundException.class)
 				.hasMessage("사용자를 찾을 수 없습니다");
 
-			verify(refreshTokenRepository, never()).deleteByUserId(anyLong());
-			verify(letterRepository, never()).deleteByUserId(anyLong());
-			verify(userRepository, never()).delete(any(User.class));
+			verify(refreshTokenRepository, never()).bulkDeleteByUserId(anyLong());
+			verify(accountDeletionRepository, never()).save(any());
 		}
 
 		@Test
@@ -592,9 +1109,26 @@ class AuthServiceTest {
 			authService.deleteUser(userId);
 
 			// then
-			verify(refreshTokenRepository).deleteByUserId(userId);
-			verify(letterRepository).deleteByUserId(userId);
-			verify(userRepository).delete(pendingUser);
+			assertThat(pendingUser.getStatus()).isEqualTo(UserStatus.DELETED);
+			verify(refreshTokenRepository).bulkDeleteByUserId(userId);
+			verify(accountDeletionRepository).save(any(AccountDeletion.class));
+		}
+
+		@Test
+		@DisplayName("이미 탈퇴한 사용자는 다시 탈퇴할 수 없음")
+		void deleteUser_AlreadyDeleted_ThrowsException() {
+			// given
+			Long userId = 1L;
+			activeUser.markDeleted();
+
+			given(userRepository.findById(userId)).willReturn(Optional.of(activeUser));
+
+			// when & then
+			assertThatThrownBy(() -> authService.deleteUser(userId))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("사용자를 찾을 수 없습니다");
+
+			verify(accountDeletionRepository, never()).save(any());
 		}
 	}
 
@@ -0,0 +1,95 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.adventcalendar.repository.UserDataKeyRepository;
+import com.example.adventcalendar.util.DataKey;
+import com.example.adventcalendar.util.EncryptionUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataKeyService 테스트")
+class DataKeyServiceTest {
+
+	@Mock
+	private UserDataKeyRepository userDataKeyRepository;
+
+	private DataKeyService dataKeyService;
+
+	@BeforeEach
+	void setUp() {
+		EncryptionUtils.initForTest("test-encryption-key-32-bytes!!!!");
+		dataKeyService = new DataKeyService(userDataKeyRepository, 100, 600);
+	}
+
+	@Nested
+	@DisplayName("데이터 키 조회")
+	class DataKeyFor {
+
+		@Test
+		@DisplayName("키가 없으면 만들어 저장하고 이후에는 캐시에서 반환")
+		void dataKeyFor_CreatesOnceThenCaches() {
+			// given
+			given(userDataKeyRepository.findById(1L)).willReturn(Optional.empty());
+			given(userDataKeyRepository.create(eq(1L), any(byte[].class), any())).willReturn(1);
+
+			// when
+			DataKey first = dataKeyService.dataKeyFor(1L);
+			DataKey second = dataKeyService.dataKeyFor(1L);
+
+			// then
+			assertThat(second).isSameAs(first);
+			verify(userDataKeyRepository, times(1)).findById(1L);
+			verify(userDataKeyRepository, times(1)).create(eq(1L), any(byte[].class), any());
+		}
+
+		@Test
+		@DisplayName("다른 요청이 먼저 만들었으면 커밋된 키를 사용")
+		void dataKeyFor_CreateConflict_UsesCommittedKey() {
+			// given
+			DataKey committed = DataKey.generate();
+			byte[] sealed = committed.encrypt("메리크리스마스!");
+
+			given(userDataKeyRepository.findById(1L)).willReturn(Optional.empty());
+			given(userDataKeyRepository.create(eq(1L), any(byte[].class), any()))
+				.willThrow(new DataIntegrityViolationException("duplicate"));
+			given(userDataKeyRepository.findCommittedWrappedKey(1L)).willReturn(Optional.of(committed.wrap()));
+
+			// when
+			DataKey dataKey = dataKeyService.dataKeyFor(1L);
+
+			// then
+			assertThat(dataKey.decrypt(sealed)).isEqualTo("메리크리스마스!");
+		}
+
+		@Test
+		@DisplayName("키를 지우면 캐시에서도 제거")
+		void destroy_InvalidatesCache() {
+			// given
+			given(userDataKeyRepository.findById(1L)).willReturn(Optional.empty());
+			given(userDataKeyRepository.create(eq(1L), any(byte[].class), any())).willReturn(1);
+			DataKey before = dataKeyService.dataKeyFor(1L);
+
+			// when
+			dataKeyService.destroy(1L);
+			DataKey after = dataKeyService.dataKeyFor(1L);
+
+			// then
+			assertThat(after).isNotSameAs(before);
+			verify(userDataKeyRepository).bulkDeleteByUserId(1L);
+			verify(userDataKeyRepository, times(2)).findById(1L);
+		}
+	}
+}
@@ -0,0 +1,253 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.adventcalendar.constant.UserStatus;
+import com.example.adventcalendar.entity.KeyRotationProgress;
+import com.example.adventcalendar.entity.User;
+import com.example.adventcalendar.repository.KeyRotationProgressRepository;
+import com.example.adventcalendar.repository.SchedulerLeaseRepository;
+import com.example.adventcalendar.repository.UserRepository;
+import com.example.adventcalendar.util.DataKey;
+import com.example.adventcalendar.util.EncryptionUtils;
+import com.example.adventcalendar.util.KeyRing;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("EncryptionKeyRotator 통합 테스트")
+class EncryptionKeyRotatorTest {
+
+	private static final String OLD_KEY = "old-encryption-key-32-bytes!!!!!";
+	private static final String NEW_KEY = "new-encryption-key-32-bytes!!!!!";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private KeyRotationProgressRepository keyRotationProgressRepository;
+
+	@Autowired
+	private SchedulerLeaseRepository schedulerLeaseRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private EncryptionKeyRotator rotator;
+
+	@BeforeEach
+	void setUp() {
+		cleanUp();
+
+		EncryptionUtils.initForTest(KeyRing.single("k1", OLD_KEY));
+		for (int i = 0; i < 25; i++) {
+			userRepository.save(User.builder()
+				.email("user" + i + "@example.com")
+				.name("사용자" + i)
+				.oauthProvider("NAVER")
+				.oauthId("naver" + i)
+				.status(UserStatus.ACTIVE)
+				.build());
+		}
+
+		EncryptionUtils.initForTest(KeyRing.of("k2", NEW_KEY, "k1:" + OLD_KEY, "k1"));
+		rotator = new EncryptionKeyRotator(
+			jdbcTemplate,
+			keyRotationProgressRepository,
+			new SchedulerLeaseService(schedulerLeaseRepository, "test-node"),
+			4,
+			3,
+			0,
+			60
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		cleanUp();
+	}
+
+	private void cleanUp() {
+		jdbcTemplate.update("DELETE FROM user_data_keys");
+		userRepository.deleteAll();
+		keyRotationProgressRepository.deleteAll();
+		schedulerLeaseRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("모든 사용자 이메일을 현재 키로 다시 암호화")
+	void rotate_ReEncryptsAllRows() {
+		// when
+		long rewritten = rotator.rotate();
+
+		// then
+		assertThat(rewritten).isEqualTo(25);
+
+		List<byte[]> columns = jdbcTemplate.queryForList("SELECT email FROM users", byte[].class);
+		assertThat(columns).hasSize(25).noneMatch(EncryptionUtils::needsReEncryption);
+
+		assertThat(userRepository.findAll())
+			.extracting(User::getEmail)
+			.contains("user0@example.com", "user24@example.com");
+		assertThat(userRepository.findAllByEmail("user7@example.com")).hasSize(1);
+
+		KeyRotationProgress progress = keyRotationProgressRepository.findById("k2").orElseThrow();
+		assertThat(progress.isCompleted()).isTrue();
+		assertThat(progress.getRowsRewritten()).isEqualTo(25);
+	}
+
+	@Test
+	@DisplayName("완료된 키는 다시 실행해도 아무것도 하지 않음")
+	void rotate_AlreadyCompleted_NoOp() {
+		// given
+		rotator.rotate();
+
+		// when
+		long rewritten = rotator.rotate();
+
+		// then
+		assertThat(rewritten).isZero();
+	}
+
+	@Test
+	@DisplayName("체크포인트 이후부터 이어서 처리")
+	void rotate_ResumesFromCheckpoint() {
+		// given
+		Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+		KeyRotationProgress progress = KeyRotationProgress.start("k2");
+		progress.checkpoint(minId + 10, 0);
+		keyRotationProgressRepository.save(progress);
+
+		// when
+		long rewritten = rotator.rotate();
+
+		// then
+		assertThat(rewritten).isEqualTo(15);
+		List<byte[]> columns = jdbcTemplate.queryForList("SELECT email FROM users", byte[].class);
+		assertThat(columns).filteredOn(EncryptionUtils::needsReEncryption).hasSize(10);
+	}
+
+	@Test
+	@DisplayName("이미 현재 키로 암호화된 행은 건너뜀")
+	void rotate_CurrentKeyRows_Skipped() {
+		// given
+		userRepository.save(User.builder()
+			.email("fresh@example.com")
+			.name("신규")
+			.oauthProvider("KAKAO")
+			.oauthId("kakao1")
+			.status(UserStatus.PENDING)
+			.build());
+
+		// when
+		long rewritten = rotator.rotate();
+
+		// then
+		assertThat(rewritten).isEqualTo(25);
+	}
+
+	@Test
+	@DisplayName("데이터 키도 현재 키로 다시 감싸고 나서야 완료")
+	void rotate_RewrapsDataKeys() {
+		// given
+		KeyRing oldRing = KeyRing.single("k1", OLD_KEY);
+		List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users", Long.class);
+		DataKey dataKey = DataKey.generate();
+		String plain = "메리 크리스마스";
+		byte[] sealed = dataKey.encrypt(plain);
+		for (Long userId : userIds) {
+			jdbcTemplate.update(
+				"INSERT INTO user_data_keys (user_id, wrapped_key, created_at) VALUES (?, ?, ?)",
+				userId, dataKey.wrap(oldRing), LocalDateTime.now());
+		}
+
+		// when
+		long rewritten = rotator.rotate();
+
+		// then
+		assertThat(rewritten).isEqualTo(50);
+
+		List<byte[]> wrappedKeys = jdbcTemplate.queryForList("SELECT wrapped_key FROM user_data_keys", byte[].class);
+		assertThat(wrappedKeys).hasSize(25).noneMatch(EncryptionUtils::needsReEncryption);
+		assertThat(DataKey.unwrap(wrappedKeys.get(0)).decrypt(sealed)).isEqualTo(plain);
+
+		KeyRotationProgress progress = keyRotationProgressRepository.findById("k2").orElseThrow();
+		assertThat(progress.isCompleted()).isTrue();
+		assertThat(progress.getDataKeyNextId()).isGreaterThan(userIds.stream().mapToLong(Long::longValue).max().orElseThrow());
+	}
+
+	@Test
+	@DisplayName("교체 전에 읽어 둔 사용자를 교체 후에 저장해도 이메일은 현재 키로 남음")
+	void rotate_StaleEntitySavedAfterPass_KeepsCurrentKey() {
+		// given
+		Long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		// when
+		transaction.executeWithoutResult(status -> {
+			User stale = userRepository.findById(userId).orElseThrow();
+			CompletableFuture.runAsync(rotator::rotate).join();
+			stale.setSelectedColor("RED");
+		});
+
+		// then
+		byte[] email = jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = ?", byte[].class, userId);
+		assertThat(EncryptionUtils.needsReEncryption(email)).isFalse();
+
+		User saved = userRepository.findById(userId).orElseThrow();
+		assertThat(saved.getEmail()).isEqualTo("user0@example.com");
+		assertThat(saved.getSelectedColor()).isEqualTo("RED");
+	}
+
+	@Test
+	@DisplayName("단계가 끝난 뒤 이전 키 값으로 덮어쓴 행이 있으면 완료하지 않고 다음 실행에서 다시 처리")
+	void rotate_StaleRowAfterPass_NotCompleted() {
+		// given
+		Long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+		byte[] oldEmail = jdbcTemplate.queryForObject("SELECT email FROM users WHERE id = ?", byte[].class, userId);
+
+		// 풀 수 없는 데이터 키로 재래핑 단계만 실패시켜, 이메일 단계가 끝난 채 완료 전에 멈춘다
+		byte[] corrupted = DataKey.generate().wrap(KeyRing.single("k1", OLD_KEY));
+		corrupted[corrupted.length - 1] ^= 1;
+		jdbcTemplate.update("INSERT INTO user_data_keys (user_id, wrapped_key, created_at) VALUES (?, ?, ?)",
+			userId, corrupted, LocalDateTime.now());
+		rotator.rotate();
+
+		jdbcTemplate.update("UPDATE users SET email = ? WHERE id = ?", oldEmail, userId);
+		jdbcTemplate.update("DELETE FROM user_data_keys");
+
+		// when
+		rotator.rotate();
+
+		// then
+		KeyRotationProgress progress = keyRotationProgressRepository.findById("k2").orElseThrow();
+		assertThat(progress.isCompleted()).isFalse();
+		assertThat(progress.getNextId()).isZero();
+
+		// 다음 실행에서 남은 행을 다시 암호화하고 완료
+		rotator.rotate();
+		assertThat(keyRotationProgressRepository.findById("k2").orElseThrow().isCompleted()).isTrue();
+		List<byte[]> columns = jdbcTemplate.queryForList("SELECT email FROM users", byte[].class);
+		assertThat(columns).hasSize(25).noneMatch(EncryptionUtils::needsReEncryption);
+	}
+}
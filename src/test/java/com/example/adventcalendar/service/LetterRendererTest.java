@@ -0,0 +1,74 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.adventcalendar.entity.Letter;
+import com.example.adventcalendar.util.DataKey;
+
+@DisplayName("LetterRenderer 단위 테스트")
+class LetterRendererTest {
+
+	private LetterRenderer letterRenderer;
+
+	@BeforeEach
+	void setUp() {
+		letterRenderer = new LetterRenderer(100, 600);
+	}
+
+	@Test
+	@DisplayName("캐시된 편지는 데이터 키를 다시 찾지 않음")
+	void render_Cached_SkipsDataKey() {
+		// given
+		AtomicInteger lookups = new AtomicInteger();
+		letterRenderer.render(1L, List.of(letter(10L, "안녕")), countingKey(lookups));
+
+		// when
+		letterRenderer.render(1L, List.of(letter(10L, "안녕")), countingKey(lookups));
+
+		// then
+		assertThat(lookups).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("사용자 단위 무효화는 그 사용자의 편지만 지움")
+	void invalidateUser_RemovesOnlyThatUser() {
+		// given
+		AtomicInteger firstUserLookups = new AtomicInteger();
+		AtomicInteger secondUserLookups = new AtomicInteger();
+		letterRenderer.render(1L, List.of(letter(10L, "첫 번째")), countingKey(firstUserLookups));
+		letterRenderer.render(2L, List.of(letter(20L, "두 번째")), countingKey(secondUserLookups));
+
+		// when
+		letterRenderer.invalidateUser(1L);
+		letterRenderer.render(1L, List.of(letter(10L, "첫 번째")), countingKey(firstUserLookups));
+		letterRenderer.render(2L, List.of(letter(20L, "두 번째")), countingKey(secondUserLookups));
+
+		// then
+		assertThat(firstUserLookups).hasValue(2);
+		assertThat(secondUserLookups).hasValue(1);
+	}
+
+	private Letter letter(Long id, String content) {
+		return Letter.builder()
+			.id(id)
+			.day(1)
+			.content(content)
+			.fromName("산타")
+			.build();
+	}
+
+	private Supplier<DataKey> countingKey(AtomicInteger lookups) {
+		return () -> {
+			lookups.incrementAndGet();
+			return DataKey.generate();
+		};
+	}
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -31,6 +32,7 @@ import com.example.adventcalendar.exception.ForbiddenException;
 import com.example.adventcalendar.exception.ResourceNotFoundException;
 import com.example.adventcalendar.repository.LetterRepository;
 import com.example.adventcalendar.repository.UserRepository;
+import com.example.adventcalendar.util.DataKey;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("LetterService 단위 테스트")
@@ -42,6 +44,12 @@ class LetterServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private DataKeyService dataKeyService;
+
+	@Spy
+	private LetterRenderer letterRenderer = new LetterRenderer(100, 600);
+
 	@InjectMocks
 	private LetterService letterService;
 
@@ -68,6 +76,9 @@ class LetterServiceTest {
 			.content("메리크리스마스!")
 			.fromName("산타")
 			.build();
+
+		// 예외 경로 테스트에서는 키 조회까지 가지 않으므로 lenient
+		lenient().when(dataKeyService.dataKeyFor(anyLong())).thenReturn(DataKey.generate());
 	}
 
 	@Nested
@@ -88,6 +99,7 @@ class LetterServiceTest {
 			letterService.createLetter(uuid, request);
 
 			// then
+			verify(dataKeyService).dataKeyFor(1L);
 			verify(letterRepository).save(argThat(savedLetter ->
 				savedLetter.getUser().getId().equals(1L) &&
 					savedLetter.getDay().equals(10) &&
@@ -114,8 +126,8 @@ class LetterServiceTest {
 		}
 
 		@Test
-		@DisplayName("XSS 방어 - HTML 이스케이프 적용")
-		void createLetter_XssDefense_EscapesHtml() {
+		@DisplayName("XSS 방어 - 원문 그대로 저장하고 이스케이프는 응답에서 적용")
+		void createLetter_XssDefense_StoresCanonicalText() {
 			// given
 			String uuid = "test-uuid-123";
 			LetterCreateRequest request = new LetterCreateRequest(
@@ -132,10 +144,8 @@ class LetterServiceTest {
 
 			// then
 			verify(letterRepository).save(argThat(savedLetter ->
-				!savedLetter.getContent().contains("<script>") &&
-					savedLetter.getContent().contains("&lt;") &&
-					!savedLetter.getFromName().contains("<img") &&
-					savedLetter.getFromName().contains("&lt;")
+				savedLetter.getContent().equals("<script>alert('xss')</script>") &&
+					savedLetter.getFromName().equals("<img src=x onerror=alert('xss')>")
 			));
 		}
 	}
@@ -253,6 +263,35 @@ class LetterServiceTest {
 			verify(letterRepository, never()).findByUserIdAndDayLessThanEqual(anyLong(), anyInt());
 		}
 
+		@Test
+		@DisplayName("응답에서 HTML 이스케이프하고, 같은 편지는 캐시된 응답 재사용")
+		void getLettersByUuid_EscapesOnceAndCaches() {
+			// given
+			ReflectionTestUtils.setField(letterService, "validateDate", false);
+			ReflectionTestUtils.setField(letterService, "validateMonth", false);
+
+			Letter xssLetter = Letter.builder()
+				.id(7L)
+				.user(user)
+				.day(3)
+				.content("<script>alert('xss')</script>")
+				.fromName("<b>산타</b>")
+				.build();
+
+			given(userRepository.findByShareUuid("test-uuid-123")).willReturn(Optional.of(user));
+			given(letterRepository.findByUserId(1L)).willReturn(List.of(xssLetter));
+
+			// when
+			List<LetterResponse> first = letterService.getLettersByUuid("test-uuid-123", 1L);
+			List<LetterResponse> second = letterService.getLettersByUuid("test-uuid-123", 1L);
+
+			// then
+			assertThat(first.get(0).getContent()).isEqualTo("&lt;script&gt;alert(&#39;xss&#39;)&lt;/script&gt;");
+			assertThat(first.get(0).getFromName()).isEqualTo("&lt;b&gt;산타&lt;/b&gt;");
+			assertThat(second.get(0)).isSameAs(first.get(0));
+			verify(dataKeyService, times(1)).dataKeyFor(1L);
+		}
+
 		@Test
 		@DisplayName("다른 사용자의 편지 조회 시 예외 발생")
 		void getLettersByUuid_OtherUserLetters_ThrowsException() {
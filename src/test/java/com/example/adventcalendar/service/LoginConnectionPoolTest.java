@@ -0,0 +1,120 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.adventcalendar.service.OAuth2Service.OAuthUserInfo;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공급자 응답이 느릴 때 로그인 동시 요청이 DB 커넥션 풀을 얼마나 쓰는지 측정한다.
+ * 공급자 호출 중에는 커넥션을 잡지 않으므로 평균 사용량은 DB 작업 시간에만 비례해야 한다.
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("로그인 커넥션 풀 사용량 부하 테스트")
+class LoginConnectionPoolTest {
+
+	private static final int CONCURRENT_LOGINS = 30;
+	private static final long PROVIDER_LATENCY_MILLIS = 300;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@MockitoBean
+	private OAuth2Service oAuth2Service;
+
+	@Test
+	@DisplayName("느린 공급자 응답을 기다리는 동안 커넥션을 잡지 않음")
+	void login_SlowProvider_DoesNotHoldConnections() throws Exception {
+		// given
+		HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		AtomicBoolean connectionHeldDuringProviderCall = new AtomicBoolean();
+		AtomicInteger sequence = new AtomicInteger();
+
+		given(oAuth2Service.authenticateNaver(anyString(), anyString())).willAnswer(invocation -> {
+			if (TransactionSynchronizationManager.isActualTransactionActive()
+				|| TransactionSynchronizationManager.getResource(dataSource) != null) {
+				connectionHeldDuringProviderCall.set(true);
+			}
+			Thread.sleep(PROVIDER_LATENCY_MILLIS);
+			return OAuthUserInfo.builder()
+				.oauthProvider("NAVER")
+				.oauthId("pool-test-" + sequence.incrementAndGet())
+				.email("pool" + sequence.get() + "@example.com")
+				.name("부하")
+				.build();
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+		AtomicBoolean running = new AtomicBoolean(true);
+		int[] peakActive = {0};
+		int[] peakPending = {0};
+		long[] activeSum = {0};
+		long[] samples = {0};
+
+		Thread sampler = new Thread(() -> {
+			while (running.get()) {
+				int active = pool.getActiveConnections();
+				peakActive[0] = Math.max(peakActive[0], active);
+				peakPending[0] = Math.max(peakPending[0], pool.getThreadsAwaitingConnection());
+				activeSum[0] += active;
+				samples[0]++;
+				try {
+					Thread.sleep(2);
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		});
+
+		// when
+		sampler.start();
+		List<Future<?>> logins = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+			logins.add(executor.submit(() -> authService.handleNaverCallback("code", "state")));
+		}
+		for (Future<?> login : logins) {
+			login.get(10, TimeUnit.SECONDS);
+		}
+		running.set(false);
+		sampler.join();
+		executor.shutdown();
+
+		// then
+		double averageActive = (double)activeSum[0] / Math.max(samples[0], 1);
+		log.info("로그인 {}건, 공급자 지연 {}ms - 풀 크기: {}, 평균 사용: {}, 최대 사용: {}, 최대 대기 스레드: {}",
+			CONCURRENT_LOGINS, PROVIDER_LATENCY_MILLIS, pool.getTotalConnections(),
+			String.format("%.2f", averageActive), peakActive[0], peakPending[0]);
+
+		assertThat(connectionHeldDuringProviderCall).isFalse();
+		// 트랜잭션 안에서 공급자를 호출하면 지연 내내 풀이 가득 찬다 (평균 ≈ 풀 크기)
+		assertThat(averageActive).isLessThan(3.0);
+	}
+}
@@ -0,0 +1,230 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.adventcalendar.config.OAuthHttpClientConfig;
+import com.example.adventcalendar.exception.ServiceUnavailableException;
+import com.example.adventcalendar.service.OAuth2Service.OAuthUserInfo;
+import com.example.adventcalendar.support.FakeOAuthProvider;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("OAuth2Service 장애 격리 테스트")
+class OAuth2ServiceResilienceTest {
+
+	private static final int READ_TIMEOUT_MILLIS = 1000;
+
+	private FakeOAuthProvider fakeProvider;
+	private PoolingHttpClientConnectionManager connectionManager;
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private OAuth2Service oAuth2Service;
+
+	@BeforeEach
+	void setUp() {
+		fakeProvider = FakeOAuthProvider.start();
+
+		OAuthHttpClientConfig config = new OAuthHttpClientConfig();
+		connectionManager = config.oauthConnectionManager(
+			20, 10, 500, READ_TIMEOUT_MILLIS, 300, new SimpleMeterRegistry());
+		RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(
+			config.oauthHttpClient(connectionManager, 500, READ_TIMEOUT_MILLIS, 30)));
+
+		circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+			.slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+			.slidingWindowSize(4)
+			.minimumNumberOfCalls(4)
+			.failureRateThreshold(50)
+			.waitDurationInOpenState(Duration.ofMinutes(1))
+			.ignoreExceptions(HttpClientErrorException.class)
+			.build());
+		BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+			.maxConcurrentCalls(2)
+			.maxWaitDuration(Duration.ZERO)
+			.build());
+
+		oAuth2Service = new OAuth2Service(restTemplate, circuitBreakerRegistry, bulkheadRegistry);
+		ReflectionTestUtils.setField(oAuth2Service, "naverTokenUri", fakeProvider.naverTokenUri());
+		ReflectionTestUtils.setField(oAuth2Service, "naverUserInfoUri", fakeProvider.naverUserInfoUri());
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoTokenUri", fakeProvider.kakaoTokenUri());
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoUserInfoUri", fakeProvider.kakaoUserInfoUri());
+		ReflectionTestUtils.setField(oAuth2Service, "naverClientId", "naver-client-id");
+		ReflectionTestUtils.setField(oAuth2Service, "naverClientSecret", "naver-client-secret");
+		ReflectionTestUtils.setField(oAuth2Service, "naverRedirectUri", "http://localhost:8080/api/auth/oauth/naver/callback");
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoClientId", "kakao-client-id");
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoClientSecret", "kakao-client-secret");
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoRedirectUri", "http://localhost:8080/api/auth/oauth/kakao/callback");
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionManager.close();
+		fakeProvider.close();
+	}
+
+	@Test
+	@DisplayName("정상 공급자 응답으로 인증 성공")
+	void authenticate_Success() {
+		// when
+		OAuthUserInfo naver = oAuth2Service.authenticateNaver("naver123", "state");
+		OAuthUserInfo kakao = oAuth2Service.authenticateKakao("12345");
+
+		// then
+		assertThat(naver.getOauthId()).isEqualTo("naver123");
+		assertThat(kakao.getOauthId()).isEqualTo("12345");
+		assertThat(kakao.getName()).isEqualTo("user-12345");
+	}
+
+	@Nested
+	@DisplayName("서킷 브레이커")
+	class CircuitBreakerBehavior {
+
+		@Test
+		@DisplayName("5xx 가 이어지면 열리고 이후 호출은 공급자에 가지 않고 즉시 실패")
+		void serverErrors_OpenCircuit() {
+			// given
+			fakeProvider.failWith(FakeOAuthProvider.KAKAO, 503);
+			for (int i = 0; i < 4; i++) {
+				assertThatThrownBy(() -> oAuth2Service.authenticateKakao("code"))
+					.isInstanceOf(HttpServerErrorException.class);
+			}
+			int requestsBeforeOpen = fakeProvider.requestCount(FakeOAuthProvider.KAKAO);
+
+			// when
+			long start = System.nanoTime();
+			assertThatThrownBy(() -> oAuth2Service.authenticateKakao("code"))
+				.isInstanceOf(ServiceUnavailableException.class)
+				.hasMessageContaining("카카오");
+			long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+			// then
+			assertThat(circuitBreakerRegistry.circuitBreaker(OAuth2Service.KAKAO).getState())
+				.isEqualTo(CircuitBreaker.State.OPEN);
+			assertThat(fakeProvider.requestCount(FakeOAuthProvider.KAKAO)).isEqualTo(requestsBeforeOpen);
+			assertThat(elapsedMillis).isLessThan(100);
+		}
+
+		@Test
+		@DisplayName("응답 시간 초과도 실패로 집계")
+		void timeouts_OpenCircuit() {
+			// given
+			fakeProvider.latency(FakeOAuthProvider.NAVER, Duration.ofMillis(READ_TIMEOUT_MILLIS * 2L));
+
+			// when
+			for (int i = 0; i < 4; i++) {
+				assertThatThrownBy(() -> oAuth2Service.authenticateNaver("code", "state"))
+					.isInstanceOf(ResourceAccessException.class);
+			}
+
+			// then
+			assertThat(circuitBreakerRegistry.circuitBreaker(OAuth2Service.NAVER).getState())
+				.isEqualTo(CircuitBreaker.State.OPEN);
+			assertThatThrownBy(() -> oAuth2Service.authenticateNaver("code", "state"))
+				.isInstanceOf(ServiceUnavailableException.class);
+		}
+
+		@Test
+		@DisplayName("4xx 는 공급자 장애로 보지 않음")
+		void clientErrors_DoNotOpenCircuit() {
+			// given
+			fakeProvider.failWith(FakeOAuthProvider.KAKAO, 401);
+
+			// when
+			for (int i = 0; i < 6; i++) {
+				assertThatThrownBy(() -> oAuth2Service.authenticateKakao("code"))
+					.isInstanceOf(HttpClientErrorException.class);
+			}
+
+			// then
+			assertThat(circuitBreakerRegistry.circuitBreaker(OAuth2Service.KAKAO).getState())
+				.isEqualTo(CircuitBreaker.State.CLOSED);
+		}
+
+		@Test
+		@DisplayName("한 공급자의 장애가 다른 공급자 로그인에 영향 없음")
+		void openCircuit_IsolatedPerProvider() {
+			// given
+			fakeProvider.failWith(FakeOAuthProvider.KAKAO, 500);
+			for (int i = 0; i < 4; i++) {
+				assertThatThrownBy(() -> oAuth2Service.authenticateKakao("code"))
+					.isInstanceOf(HttpServerErrorException.class);
+			}
+
+			// when
+			OAuthUserInfo result = oAuth2Service.authenticateNaver("code", "state");
+
+			// then
+			assertThat(result.getOauthProvider()).isEqualTo("NAVER");
+			assertThat(circuitBreakerRegistry.circuitBreaker(OAuth2Service.NAVER).getState())
+				.isEqualTo(CircuitBreaker.State.CLOSED);
+		}
+	}
+
+	@Nested
+	@DisplayName("동시 호출 제한")
+	class BulkheadBehavior {
+
+		@Test
+		@DisplayName("한도를 넘는 호출은 기다리지 않고 즉시 실패")
+		void excessCalls_RejectedImmediately() throws Exception {
+			// given
+			fakeProvider.latency(FakeOAuthProvider.KAKAO, Duration.ofMillis(500));
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				Future<OAuthUserInfo> first = executor.submit(() -> oAuth2Service.authenticateKakao("12345"));
+				Future<OAuthUserInfo> second = executor.submit(() -> oAuth2Service.authenticateKakao("12345"));
+				awaitInFlight(FakeOAuthProvider.KAKAO, 2);
+				int requestsBefore = fakeProvider.requestCount(FakeOAuthProvider.KAKAO);
+
+				// when
+				long start = System.nanoTime();
+				assertThatThrownBy(() -> oAuth2Service.authenticateKakao("code"))
+					.isInstanceOf(ServiceUnavailableException.class);
+				long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+				// then
+				assertThat(elapsedMillis).isLessThan(100);
+				assertThat(fakeProvider.requestCount(FakeOAuthProvider.KAKAO)).isEqualTo(requestsBefore);
+				assertThat(first.get(5, TimeUnit.SECONDS).getOauthId()).isEqualTo("12345");
+				assertThat(second.get(5, TimeUnit.SECONDS).getOauthId()).isEqualTo("12345");
+				assertThat(circuitBreakerRegistry.circuitBreaker(OAuth2Service.KAKAO)
+					.getMetrics().getNumberOfFailedCalls()).isZero();
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		private void awaitInFlight(String provider, int expected) throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (fakeProvider.inFlight(provider) < expected) {
+				if (System.nanoTime() > deadline) {
+					fail("공급자 요청이 " + expected + "건 진행 중이 되지 않았습니다");
+				}
+				Thread.sleep(10);
+			}
+		}
+	}
+}
@@ -26,6 +26,9 @@ import org.springframework.web.client.RestTemplate;
 import com.example.adventcalendar.dto.OAuthDto;
 import com.example.adventcalendar.service.OAuth2Service.OAuthUserInfo;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OAuth2Service 단위 테스트")
 class OAuth2ServiceTest {
@@ -33,6 +36,12 @@ class OAuth2ServiceTest {
 	@Mock
 	private RestTemplate restTemplate;
 
+	@Spy
+	private CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+	@Spy
+	private BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
 	@Spy
 	@InjectMocks
 	private OAuth2Service oAuth2Service;
@@ -40,6 +49,10 @@ class OAuth2ServiceTest {
 	@BeforeEach
 	void setUp() {
 		ReflectionTestUtils.setField(oAuth2Service, "restTemplate", restTemplate);
+		ReflectionTestUtils.setField(oAuth2Service, "naverTokenUri", "https://nid.naver.com/oauth2.0/token");
+		ReflectionTestUtils.setField(oAuth2Service, "naverUserInfoUri", "https://openapi.naver.com/v1/nid/me");
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoTokenUri", "https://kauth.kakao.com/oauth/token");
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoUserInfoUri", "https://kapi.kakao.com/v2/user/me");
 		ReflectionTestUtils.setField(oAuth2Service, "naverClientId", "naver-client-id");
 		ReflectionTestUtils.setField(oAuth2Service, "naverClientSecret", "naver-client-secret");
 		ReflectionTestUtils.setField(oAuth2Service, "naverRedirectUri", "http://localhost:8080/api/auth/oauth/naver/callback");
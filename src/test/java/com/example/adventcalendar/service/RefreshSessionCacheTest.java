@@ -0,0 +1,87 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RefreshSessionCache 단위 테스트")
+class RefreshSessionCacheTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 1, 0, 0);
+
+	private RefreshSessionCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new RefreshSessionCache(100, 30);
+	}
+
+	@Test
+	@DisplayName("세션 id 로 해당 세션의 토큰만 무효화")
+	void invalidateSession_RemovesOnlyThatSession() {
+		// given
+		cache.put("token-a", session(10L, 1L));
+		cache.put("token-b", session(11L, 1L));
+
+		// when
+		cache.invalidateSession(10L);
+
+		// then
+		assertThat(cache.find("token-a")).isEmpty();
+		assertThat(cache.find("token-b")).isPresent();
+	}
+
+	@Test
+	@DisplayName("갱신 시각만 바꿔 다시 넣어도 세션 id 로 무효화")
+	void invalidateSession_AfterTouch() {
+		// given
+		RefreshSessionCache.Session session = session(10L, 1L);
+		cache.put("token-a", session);
+		cache.put("token-a", session.touchedAt(NOW.plusHours(1)));
+
+		// when
+		cache.invalidateSession(10L);
+
+		// then
+		assertThat(cache.find("token-a")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("로그아웃으로 지운 토큰은 세션 id 무효화에 영향 없음")
+	void invalidate_ThenInvalidateSession_NoOp() {
+		// given
+		cache.put("token-a", session(10L, 1L));
+		cache.invalidate("token-a");
+		cache.put("token-b", session(11L, 1L));
+
+		// when
+		cache.invalidateSession(10L);
+
+		// then
+		assertThat(cache.find("token-a")).isEmpty();
+		assertThat(cache.find("token-b")).isPresent();
+	}
+
+	@Test
+	@DisplayName("사용자 단위 무효화 후 다시 넣은 세션도 세션 id 로 무효화")
+	void invalidateUser_ThenPutAgain() {
+		// given
+		cache.put("token-a", session(10L, 1L));
+		cache.invalidateUser(1L);
+		cache.put("token-c", session(10L, 1L));
+
+		// when
+		cache.invalidateSession(10L);
+
+		// then
+		assertThat(cache.find("token-c")).isEmpty();
+	}
+
+	private RefreshSessionCache.Session session(Long sessionId, Long userId) {
+		return new RefreshSessionCache.Session(sessionId, userId, NOW.plusDays(14), NOW);
+	}
+}
@@ -0,0 +1,138 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.adventcalendar.repository.RefreshTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenPurger 테스트")
+class RefreshTokenPurgerTest {
+
+	@Mock
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Mock
+	private SchedulerLeaseService schedulerLeaseService;
+
+	private RefreshTokenPurger purger;
+
+	@BeforeEach
+	void setUp() {
+		purger = new RefreshTokenPurger(refreshTokenRepository, schedulerLeaseService, 100, 0, 600);
+	}
+
+	@Nested
+	@DisplayName("청크 단위 삭제")
+	class Purge {
+
+		@Test
+		@DisplayName("청크가 가득 차지 않을 때까지 반복 삭제")
+		void purge_DeletesUntilPartialChunk() {
+			// given
+			LocalDateTime cutoff = LocalDateTime.now();
+			given(refreshTokenRepository.deleteExpiredChunk(cutoff, 100)).willReturn(100, 100, 37);
+
+			// when
+			int purged = purger.purge(cutoff);
+
+			// then
+			assertThat(purged).isEqualTo(237);
+			verify(refreshTokenRepository, times(3)).deleteExpiredChunk(cutoff, 100);
+		}
+
+		@Test
+		@DisplayName("만료 토큰이 없으면 한 번만 조회")
+		void purge_NothingExpired_SingleChunk() {
+			// given
+			LocalDateTime cutoff = LocalDateTime.now();
+			given(refreshTokenRepository.deleteExpiredChunk(cutoff, 100)).willReturn(0);
+
+			// when
+			int purged = purger.purge(cutoff);
+
+			// then
+			assertThat(purged).isZero();
+			verify(refreshTokenRepository, times(1)).deleteExpiredChunk(cutoff, 100);
+		}
+
+		@Test
+		@DisplayName("임대 시간의 절반을 넘기면 중단")
+		void purge_StopsBeforeLeaseExpires() {
+			// given
+			RefreshTokenPurger shortLease = new RefreshTokenPurger(
+				refreshTokenRepository, schedulerLeaseService, 100, 0, 0);
+			LocalDateTime cutoff = LocalDateTime.now();
+
+			// when
+			int purged = shortLease.purge(cutoff);
+
+			// then
+			assertThat(purged).isZero();
+			verify(refreshTokenRepository, never()).deleteExpiredChunk(any(), anyInt());
+		}
+	}
+
+	@Nested
+	@DisplayName("임대")
+	class Lease {
+
+		@Test
+		@DisplayName("임대를 얻으면 정리 후 반납")
+		void purgeExpiredTokens_LeaseAcquired_PurgesAndReleases() {
+			// given
+			given(schedulerLeaseService.tryAcquire(eq(RefreshTokenPurger.LEASE_NAME), any(Duration.class)))
+				.willReturn(true);
+			given(refreshTokenRepository.deleteExpiredChunk(any(), eq(100))).willReturn(5);
+
+			// when
+			purger.purgeExpiredTokens();
+
+			// then
+			verify(refreshTokenRepository).deleteExpiredChunk(any(), eq(100));
+			verify(schedulerLeaseService).release(RefreshTokenPurger.LEASE_NAME);
+		}
+
+		@Test
+		@DisplayName("다른 노드가 임대 중이면 아무것도 하지 않음")
+		void purgeExpiredTokens_LeaseHeldElsewhere_Skips() {
+			// given
+			given(schedulerLeaseService.tryAcquire(eq(RefreshTokenPurger.LEASE_NAME), any(Duration.class)))
+				.willReturn(false);
+
+			// when
+			purger.purgeExpiredTokens();
+
+			// then
+			verify(refreshTokenRepository, never()).deleteExpiredChunk(any(), anyInt());
+			verify(schedulerLeaseService, never()).release(any());
+		}
+
+		@Test
+		@DisplayName("삭제 중 예외가 나도 임대 반납")
+		void purgeExpiredTokens_Failure_StillReleases() {
+			// given
+			given(schedulerLeaseService.tryAcquire(eq(RefreshTokenPurger.LEASE_NAME), any(Duration.class)))
+				.willReturn(true);
+			given(refreshTokenRepository.deleteExpiredChunk(any(), eq(100)))
+				.willThrow(new IllegalStateException("db down"));
+
+			// when & then
+			assertThatThrownBy(() -> purger.purgeExpiredTokens())
+				.isInstanceOf(IllegalStateException.class);
+			verify(schedulerLeaseService).release(RefreshTokenPurger.LEASE_NAME);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.adventcalendar.repository.SchedulerLeaseRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("SchedulerLeaseService 통합 테스트")
+class SchedulerLeaseServiceTest {
+
+	@Autowired
+	private SchedulerLeaseRepository schedulerLeaseRepository;
+
+	private SchedulerLeaseService nodeA;
+	private SchedulerLeaseService nodeB;
+
+	@BeforeEach
+	void setUp() {
+		schedulerLeaseRepository.deleteAll();
+
+		nodeA = new SchedulerLeaseService(schedulerLeaseRepository, "node-a");
+		nodeB = new SchedulerLeaseService(schedulerLeaseRepository, "node-b");
+	}
+
+	@Test
+	@DisplayName("처음 요청한 노드가 임대 획득")
+	void tryAcquire_FirstNode_Acquires() {
+		// when
+		boolean acquired = nodeA.tryAcquire("job", Duration.ofMinutes(10));
+
+		// then
+		assertThat(acquired).isTrue();
+		assertThat(schedulerLeaseRepository.findById("job"))
+			.hasValueSatisfying(lease -> assertThat(lease.getOwner()).isEqualTo("node-a"));
+	}
+
+	@Test
+	@DisplayName("임대 기간 중에는 다른 노드가 획득 불가")
+	void tryAcquire_HeldByOtherNode_Fails() {
+		// given
+		nodeA.tryAcquire("job", Duration.ofMinutes(10));
+
+		// when
+		boolean acquired = nodeB.tryAcquire("job", Duration.ofMinutes(10));
+
+		// then
+		assertThat(acquired).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 노드는 임대 연장 가능")
+	void tryAcquire_SameNode_Extends() {
+		// given
+		nodeA.tryAcquire("job", Duration.ofMinutes(10));
+
+		// when
+		boolean acquired = nodeA.tryAcquire("job", Duration.ofMinutes(10));
+
+		// then
+		assertThat(acquired).isTrue();
+	}
+
+	@Test
+	@DisplayName("반납된 임대는 다른 노드가 획득 가능")
+	void tryAcquire_AfterRelease_OtherNodeAcquires() throws InterruptedException {
+		// given
+		nodeA.tryAcquire("job", Duration.ofMinutes(10));
+		nodeA.release("job");
+		Thread.sleep(5);
+
+		// when
+		boolean acquired = nodeB.tryAcquire("job", Duration.ofMinutes(10));
+
+		// then
+		assertThat(acquired).isTrue();
+	}
+
+	@Test
+	@DisplayName("만료된 임대는 다른 노드가 가져감")
+	void tryAcquire_Expired_OtherNodeTakesOver() throws InterruptedException {
+		// given
+		nodeA.tryAcquire("job", Duration.ofMillis(1));
+		Thread.sleep(5);
+
+		// when
+		boolean acquired = nodeB.tryAcquire("job", Duration.ofMinutes(10));
+
+		// then
+		assertThat(acquired).isTrue();
+	}
+
+	@Test
+	@DisplayName("다른 노드는 임대를 반납할 수 없음")
+	void release_ByOtherNode_Ignored() {
+		// given
+		nodeA.tryAcquire("job", Duration.ofMinutes(10));
+
+		// when
+		nodeB.release("job");
+
+		// then
+		assertThat(nodeB.tryAcquire("job", Duration.ofMinutes(10))).isFalse();
+	}
+
+	@Test
+	@DisplayName("가진 임대는 연장 가능")
+	void renew_HeldLease_Extends() {
+		// given
+		nodeA.tryAcquire("job", Duration.ofMillis(1));
+
+		// when
+		boolean renewed = nodeA.renew("job", Duration.ofMinutes(10));
+
+		// then
+		assertThat(renewed).isTrue();
+		assertThat(nodeB.tryAcquire("job", Duration.ofMinutes(10))).isFalse();
+	}
+
+	@Test
+	@DisplayName("다른 노드가 가져간 임대는 연장 실패")
+	void renew_TakenOver_Fails() throws InterruptedException {
+		// given
+		nodeA.tryAcquire("job", Duration.ofMillis(1));
+		Thread.sleep(5);
+		nodeB.tryAcquire("job", Duration.ofMinutes(10));
+
+		// when
+		boolean renewed = nodeA.renew("job", Duration.ofMinutes(10));
+
+		// then
+		assertThat(renewed).isFalse();
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.adventcalendar.dto.UserIdentity;
+
+@DisplayName("UserIdentityCache 테스트")
+class UserIdentityCacheTest {
+
+	private final UserIdentityCache cache = new UserIdentityCache(100, 300);
+
+	private final UserIdentity identity =
+		new UserIdentity(1L, "test@example.com", "NAVER", "naver123", "test-uuid-123");
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("공급자와 공급자 사용자 id 가 모두 같아야 조회")
+	void find_ByProviderAndOauthId() {
+		// given
+		cache.put(identity);
+
+		// when & then
+		assertThat(cache.find("NAVER", "naver123")).contains(identity);
+		assertThat(cache.find("KAKAO", "naver123")).isEmpty();
+		assertThat(cache.find("NAVER", "naver999")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서는 바로 무효화")
+	void invalidate_WithoutTransaction() {
+		// given
+		cache.put(identity);
+
+		// when
+		cache.invalidate("NAVER", "naver123");
+
+		// then
+		assertThat(cache.find("NAVER", "naver123")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("커밋 전에 다시 채워진 값도 커밋 후 무효화")
+	void invalidate_AgainAfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		cache.put(identity);
+
+		// when
+		cache.invalidate("NAVER", "naver123");
+		cache.put(identity);
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		assertThat(cache.find("NAVER", "naver123")).isEmpty();
+	}
+}
@@ -0,0 +1,123 @@
+package com.example.adventcalendar.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.adventcalendar.constant.UserStatus;
+import com.example.adventcalendar.dto.response.UserInfoResponse;
+import com.example.adventcalendar.entity.User;
+import com.example.adventcalendar.exception.ResourceNotFoundException;
+import com.example.adventcalendar.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserInfoService 단위 테스트")
+class UserInfoServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private UserInfoService userInfoService;
+	private User activeUser;
+
+	@BeforeEach
+	void setUp() {
+		userInfoService = new UserInfoService(userRepository, 100, 600);
+
+		activeUser = User.builder()
+			.id(1L)
+			.email("test@example.com")
+			.name("테스트")
+			.oauthProvider("NAVER")
+			.oauthId("naver123")
+			.selectedColor("green")
+			.shareUuid("test-uuid-123")
+			.status(UserStatus.ACTIVE)
+			.build();
+	}
+
+	@Test
+	@DisplayName("두 번째 조회부터는 DB 조회 없이 응답")
+	void getCurrentUser_Cached() {
+		// given
+		given(userRepository.findCommittedById(1L)).willReturn(Optional.of(activeUser));
+
+		// when
+		UserInfoResponse first = userInfoService.getCurrentUser(1L, "ACTIVE");
+		UserInfoResponse second = userInfoService.getCurrentUser(1L, "ACTIVE");
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(second.getName()).isEqualTo("테스트");
+		assertThat(second.getEmail()).isEqualTo("test@example.com");
+		verify(userRepository, times(1)).findCommittedById(1L);
+	}
+
+	@Test
+	@DisplayName("임시 토큰이면 DB 조회 없이 예외 발생")
+	void getCurrentUser_PendingToken_NoDatabaseAccess() {
+		// when & then
+		assertThatThrownBy(() -> userInfoService.getCurrentUser(2L, "PENDING"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("회원가입을 완료해주세요");
+
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	@DisplayName("status claim 이 없는 예전 토큰은 DB 에서 상태 확인")
+	void getCurrentUser_LegacyToken_ChecksStatus() {
+		// given
+		User pendingUser = User.builder()
+			.id(2L)
+			.email("pending@example.com")
+			.name("대기중")
+			.oauthProvider("KAKAO")
+			.oauthId("kakao456")
+			.status(UserStatus.PENDING)
+			.build();
+		given(userRepository.findCommittedById(2L)).willReturn(Optional.of(pendingUser));
+
+		// when & then
+		assertThatThrownBy(() -> userInfoService.getCurrentUser(2L, null))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("회원가입을 완료해주세요");
+	}
+
+	@Test
+	@DisplayName("탈퇴한 사용자는 예외 발생")
+	void getCurrentUser_DeletedUser_ThrowsException() {
+		// given
+		activeUser.markDeleted();
+		given(userRepository.findCommittedById(1L)).willReturn(Optional.of(activeUser));
+
+		// when & then
+		assertThatThrownBy(() -> userInfoService.getCurrentUser(1L, "ACTIVE"))
+			.isInstanceOf(ResourceNotFoundException.class)
+			.hasMessage("존재하지 않는 사용자입니다");
+	}
+
+	@Test
+	@DisplayName("무효화하면 다음 조회에서 다시 DB 조회")
+	void evict_ReloadsFromDatabase() {
+		// given
+		given(userRepository.findCommittedById(1L)).willReturn(Optional.of(activeUser));
+		userInfoService.getCurrentUser(1L, "ACTIVE");
+
+		// when
+		userInfoService.evict(1L);
+		userInfoService.getCurrentUser(1L, "ACTIVE");
+
+		// then
+		verify(userRepository, times(2)).findCommittedById(anyLong());
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.adventcalendar.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.adventcalendar.service.OAuth2Service;
+import com.example.adventcalendar.service.OAuth2Service.OAuthUserInfo;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@DisplayName("FakeOAuthProvider 테스트")
+class FakeOAuthProviderTest {
+
+	private FakeOAuthProvider fakeProvider;
+
+	@AfterEach
+	void tearDown() {
+		fakeProvider.close();
+	}
+
+	@Test
+	@DisplayName("인가 코드를 공급자 사용자 id 로 돌려줌")
+	void authenticate_CodeBecomesOauthId() {
+		// given
+		fakeProvider = FakeOAuthProvider.start();
+		OAuth2Service oAuth2Service = oAuth2ServiceFor(fakeProvider);
+
+		// when
+		OAuthUserInfo naver = oAuth2Service.authenticateNaver("42", "state");
+		OAuthUserInfo kakao = oAuth2Service.authenticateKakao("42");
+
+		// then
+		assertThat(naver.getOauthProvider()).isEqualTo("NAVER");
+		assertThat(naver.getOauthId()).isEqualTo("42");
+		assertThat(naver.getEmail()).isEqualTo("naver-42@fake.local");
+		assertThat(kakao.getOauthProvider()).isEqualTo("KAKAO");
+		assertThat(kakao.getOauthId()).isEqualTo("42");
+		assertThat(kakao.getEmail()).isEqualTo("kakao-42@fake.local");
+	}
+
+	@Test
+	@DisplayName("실패율만큼 503 응답")
+	void authenticate_InjectedErrors() {
+		// given
+		fakeProvider = FakeOAuthProvider.start().errorRate(1.0);
+		OAuth2Service oAuth2Service = oAuth2ServiceFor(fakeProvider);
+
+		// when & then
+		assertThatThrownBy(() -> oAuth2Service.authenticateKakao("42"))
+			.isInstanceOf(HttpServerErrorException.class);
+	}
+
+	private OAuth2Service oAuth2ServiceFor(FakeOAuthProvider provider) {
+		OAuth2Service oAuth2Service = new OAuth2Service(
+			new RestTemplate(),
+			CircuitBreakerRegistry.ofDefaults(),
+			BulkheadRegistry.ofDefaults()
+		);
+		ReflectionTestUtils.setField(oAuth2Service, "naverTokenUri", provider.naverTokenUri());
+		ReflectionTestUtils.setField(oAuth2Service, "naverUserInfoUri", provider.naverUserInfoUri());
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoTokenUri", provider.kakaoTokenUri());
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoUserInfoUri", provider.kakaoUserInfoUri());
+		ReflectionTestUtils.setField(oAuth2Service, "naverClientId", "naver-client-id");
+		ReflectionTestUtils.setField(oAuth2Service, "naverClientSecret", "naver-client-secret");
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoClientId", "kakao-client-id");
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoClientSecret", "kakao-client-secret");
+		ReflectionTestUtils.setField(oAuth2Service, "kakaoRedirectUri", "http://localhost:8080/api/auth/oauth/kakao/callback");
+		return oAuth2Service;
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.adventcalendar.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BoundedPool 단위 테스트")
+class BoundedPoolTest {
+
+	@Test
+	@DisplayName("돌려놓은 객체는 다른 스레드에서도 다시 빌려 씀")
+	void borrow_AfterRelease_ReusesAcrossThreads() throws Exception {
+		// given
+		AtomicInteger created = new AtomicInteger();
+		BoundedPool<Object> pool = new BoundedPool<>(() -> {
+			created.incrementAndGet();
+			return new Object();
+		}, 2);
+
+		// when - 요청마다 새 스레드가 뜨는 가상 스레드 모드처럼 매번 새 스레드에서 빌리고 돌려놓는다
+		for (int i = 0; i < 10; i++) {
+			Thread thread = new Thread(() -> pool.release(pool.borrow()));
+			thread.start();
+			thread.join();
+		}
+
+		// then
+		assertThat(created).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("유휴 개수가 한도를 넘으면 돌려받은 객체를 버림")
+	void release_OverMaxIdle_Discards() {
+		// given
+		AtomicInteger created = new AtomicInteger();
+		BoundedPool<Object> pool = new BoundedPool<>(() -> {
+			created.incrementAndGet();
+			return new Object();
+		}, 2);
+		Object first = pool.borrow();
+		Object second = pool.borrow();
+		Object third = pool.borrow();
+
+		// when
+		pool.release(first);
+		pool.release(second);
+		pool.release(third);
+
+		// then
+		assertThat(pool.borrow()).isSameAs(first);
+		assertThat(pool.borrow()).isSameAs(second);
+		pool.borrow();
+		assertThat(created).hasValue(4);
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.adventcalendar.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DataKey 테스트")
+class DataKeyTest {
+
+	@BeforeEach
+	void setUp() {
+		EncryptionUtils.initForTest("test-encryption-key-32-bytes!!!!");
+	}
+
+	@Test
+	@DisplayName("암복호화 왕복")
+	void encrypt_RoundTrip() {
+		// given
+		DataKey dataKey = DataKey.generate();
+
+		// when
+		byte[] encrypted = dataKey.encrypt("메리 크리스마스 <b>편지</b>");
+
+		// then
+		assertThat(dataKey.decrypt(encrypted)).isEqualTo("메리 크리스마스 <b>편지</b>");
+	}
+
+	@Test
+	@DisplayName("같은 내용도 매번 다른 암호문")
+	void encrypt_RandomIv() {
+		// given
+		DataKey dataKey = DataKey.generate();
+
+		// when & then
+		assertThat(dataKey.encrypt("편지")).isNotEqualTo(dataKey.encrypt("편지"));
+	}
+
+	@Test
+	@DisplayName("마스터 키로 감싼 뒤 풀어도 같은 키")
+	void wrap_Unwrap_SameKey() {
+		// given
+		DataKey dataKey = DataKey.generate();
+		byte[] encrypted = dataKey.encrypt("편지");
+
+		// when
+		DataKey unwrapped = DataKey.unwrap(dataKey.wrap());
+
+		// then
+		assertThat(unwrapped.decrypt(encrypted)).isEqualTo("편지");
+	}
+
+	@Test
+	@DisplayName("마스터 키를 교체해도 이전 키로 감싼 데이터 키를 풀 수 있음")
+	void unwrap_AfterMasterKeyRotation() {
+		// given
+		String oldKey = "test-encryption-key-32-bytes!!!!";
+		DataKey dataKey = DataKey.generate();
+		byte[] wrapped = dataKey.wrap();
+		byte[] encrypted = dataKey.encrypt("편지");
+
+		// when
+		EncryptionUtils.initForTest(KeyRing.of("k2", "new-encryption-key-32-bytes!!!!!", "k1:" + oldKey, "k1"));
+
+		// then
+		assertThat(DataKey.unwrap(wrapped).decrypt(encrypted)).isEqualTo("편지");
+	}
+
+	@Test
+	@DisplayName("명시한 키 링으로 감싸고 풀면 전역 키 설정과 무관")
+	void wrap_Unwrap_WithExplicitKeyRing() {
+		// given
+		KeyRing migrationKeyRing = KeyRing.single("m1", "migration-key-32-bytes!!!!!!!!!!");
+		DataKey dataKey = DataKey.generate();
+		byte[] encrypted = dataKey.encrypt("편지");
+
+		// when
+		byte[] wrapped = dataKey.wrap(migrationKeyRing);
+
+		// then
+		assertThat(DataKey.unwrap(migrationKeyRing, wrapped).decrypt(encrypted)).isEqualTo("편지");
+		assertThatThrownBy(() -> DataKey.unwrap(wrapped))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("데이터 키 복호화 실패");
+	}
+
+	@Test
+	@DisplayName("다른 사용자 키로는 복호화 실패")
+	void decrypt_WrongKey_ThrowsException() {
+		// given
+		byte[] encrypted = DataKey.generate().encrypt("편지");
+
+		// when & then
+		assertThatThrownBy(() -> DataKey.generate().decrypt(encrypted))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("복호화 실패");
+	}
+}
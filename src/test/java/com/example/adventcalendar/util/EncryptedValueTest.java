@@ -0,0 +1,77 @@
+package com.example.adventcalendar.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.adventcalendar.config.EncryptionConverter;
+
+@DisplayName("EncryptedValue 단위 테스트")
+class EncryptedValueTest {
+
+	private final EncryptionConverter converter = new EncryptionConverter();
+
+	@BeforeEach
+	void setUp() {
+		EncryptionUtils.initForTest("test-encryption-key-32-bytes!!!!");
+	}
+
+	@Test
+	@DisplayName("DB 에서 읽은 값은 plain() 호출 전까지 복호화하지 않음")
+	void convertToEntityAttribute_DecryptsLazily() {
+		// given
+		byte[] column = EncryptionUtils.encryptToBytes("test@example.com");
+
+		// when
+		EncryptedValue value = converter.convertToEntityAttribute(column);
+
+		// then
+		assertThat(value.isDecrypted()).isFalse();
+		assertThat(value.plain()).isEqualTo("test@example.com");
+		assertThat(value.isDecrypted()).isTrue();
+	}
+
+	@Test
+	@DisplayName("읽기만 한 값은 저장 시 기존 암호문을 그대로 사용")
+	void convertToDatabaseColumn_Unchanged_ReusesCipherText() {
+		// given
+		byte[] column = EncryptionUtils.encryptToBytes("test@example.com");
+		EncryptedValue value = converter.convertToEntityAttribute(column);
+		value.plain();
+
+		// when & then
+		assertThat(converter.convertToDatabaseColumn(value)).isSameAs(column);
+	}
+
+	@Test
+	@DisplayName("새 평문은 저장 시 한 번만 암호화")
+	void convertToDatabaseColumn_NewValue_EncryptsOnce() {
+		// given
+		EncryptedValue value = EncryptedValue.ofPlainText("new@example.com");
+
+		// when
+		byte[] first = converter.convertToDatabaseColumn(value);
+		byte[] second = converter.convertToDatabaseColumn(value);
+
+		// then
+		assertThat(first).isSameAs(second);
+		assertThat(EncryptionUtils.decryptBytes(first)).isEqualTo("new@example.com");
+	}
+
+	@Test
+	@DisplayName("null 은 null 로 변환")
+	void convert_Null() {
+		assertThat(converter.convertToEntityAttribute(null)).isNull();
+		assertThat(converter.convertToDatabaseColumn(null)).isNull();
+		assertThat(EncryptedValue.ofPlainText(null)).isNull();
+	}
+
+	@Test
+	@DisplayName("toString 에 평문이 노출되지 않음")
+	void toString_Masked() {
+		assertThat(EncryptedValue.ofPlainText("secret@example.com").toString())
+			.doesNotContain("secret");
+	}
+}
@@ -0,0 +1,315 @@
+package com.example.adventcalendar.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EncryptionUtils 단위 테스트")
+class EncryptionUtilsTest {
+
+	@BeforeEach
+	void setUp() {
+		EncryptionUtils.initForTest("test-encryption-key-32-bytes!!!!");
+	}
+
+	@Nested
+	@DisplayName("암복호화")
+	class RoundTrip {
+
+		@Test
+		@DisplayName("암호화한 값을 복호화하면 원문")
+		void encryptDecrypt_RoundTrip() {
+			// given
+			String email = "test@example.com";
+
+			// when
+			byte[] encrypted = EncryptionUtils.encryptToBytes(email);
+
+			// then
+			assertThat(new String(encrypted, StandardCharsets.UTF_8)).doesNotContain(email);
+			assertThat(EncryptionUtils.decryptBytes(encrypted)).isEqualTo(email);
+		}
+
+		@Test
+		@DisplayName("한글 등 멀티바이트 문자도 그대로 복원")
+		void encryptDecrypt_MultiByte() {
+			// given
+			String text = "메리 크리스마스 🎄";
+
+			// when & then
+			assertThat(EncryptionUtils.decryptBytes(EncryptionUtils.encryptToBytes(text))).isEqualTo(text);
+		}
+
+		@Test
+		@DisplayName("null 은 null 로 반환")
+		void encryptDecrypt_Null() {
+			assertThat(EncryptionUtils.encryptToBytes(null)).isNull();
+			assertThat(EncryptionUtils.decryptBytes(null)).isNull();
+		}
+
+		@Test
+		@DisplayName("같은 평문도 매번 다른 IV 로 암호화")
+		void encrypt_SamePlainText_DifferentCipherText() {
+			// when
+			Set<String> results = new HashSet<>();
+			for (int i = 0; i < 100; i++) {
+				results.add(HexFormat.of().formatHex(EncryptionUtils.encryptToBytes("same@example.com")));
+			}
+
+			// then
+			assertThat(results).hasSize(100);
+		}
+
+		@Test
+		@DisplayName("변조된 암호문은 복호화 실패")
+		void decrypt_Tampered_ThrowsException() {
+			// given
+			byte[] tampered = EncryptionUtils.encryptToBytes("test@example.com");
+			tampered[tampered.length - 1] ^= 1;
+
+			// when & then
+			assertThatThrownBy(() -> EncryptionUtils.decryptBytes(tampered))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("복호화 실패");
+		}
+
+		@Test
+		@DisplayName("복호화에 실패한 Cipher 를 풀에 돌려놓아도 계속 사용 가능")
+		void decrypt_AfterFailure_CipherReusable() {
+			// given
+			byte[] encrypted = EncryptionUtils.encryptToBytes("test@example.com");
+			byte[] garbage = encrypted.clone();
+			garbage[garbage.length - 20] ^= 1;
+
+			// when
+			assertThatThrownBy(() -> EncryptionUtils.decryptBytes(garbage));
+
+			// then
+			assertThat(EncryptionUtils.decryptBytes(encrypted)).isEqualTo("test@example.com");
+		}
+	}
+
+	@Nested
+	@DisplayName("키 버전과 교체")
+	class KeyRotation {
+
+		private static final String OLD_KEY = "old-encryption-key-32-bytes!!!!!";
+		private static final String NEW_KEY = "new-encryption-key-32-bytes!!!!!";
+
+		@Test
+		@DisplayName("암호문 앞에 현재 키 ID 헤더가 붙음")
+		void encrypt_AddsKeyIdHeader() {
+			// given
+			EncryptionUtils.initForTest(KeyRing.single("k7", NEW_KEY));
+
+			// when
+			byte[] encrypted = EncryptionUtils.encryptToBytes("test@example.com");
+
+			// then
+			assertThat(new String(encrypted, 2, encrypted[1], StandardCharsets.US_ASCII)).isEqualTo("k7");
+			assertThat(EncryptionUtils.needsReEncryption(encrypted)).isFalse();
+		}
+
+		@Test
+		@DisplayName("이전 키로 암호화된 값도 키 ID 로 찾아 복호화")
+		void decrypt_OldKey_Success() {
+			// given
+			EncryptionUtils.initForTest(KeyRing.single("k1", OLD_KEY));
+			byte[] encrypted = EncryptionUtils.encryptToBytes("test@example.com");
+
+			// when
+			EncryptionUtils.initForTest(KeyRing.of("k2", NEW_KEY, "k1:" + OLD_KEY, "k1"));
+
+			// then
+			assertThat(EncryptionUtils.decryptBytes(encrypted)).isEqualTo("test@example.com");
+			assertThat(EncryptionUtils.needsReEncryption(encrypted)).isTrue();
+			assertThat(EncryptionUtils.needsReEncryption(EncryptionUtils.encryptToBytes("test@example.com"))).isFalse();
+		}
+
+		@Test
+		@DisplayName("키 목록에 없는 키 ID 는 복호화 실패")
+		void decrypt_UnknownKeyId_ThrowsException() {
+			// given
+			EncryptionUtils.initForTest(KeyRing.single("k1", OLD_KEY));
+			byte[] encrypted = EncryptionUtils.encryptToBytes("test@example.com");
+
+			// when
+			EncryptionUtils.initForTest(KeyRing.single("k2", NEW_KEY));
+
+			// then
+			assertThatThrownBy(() -> EncryptionUtils.decryptBytes(encrypted))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("복호화 실패");
+		}
+
+		@Test
+		@DisplayName("키를 교체해도 blind index 는 유지")
+		void emailBlindIndex_StableAcrossRotation() {
+			// given
+			EncryptionUtils.initForTest(KeyRing.single("k1", OLD_KEY));
+			byte[] before = EncryptionUtils.emailBlindIndex("test@example.com");
+
+			// when
+			EncryptionUtils.initForTest(KeyRing.of("k2", NEW_KEY, "k1:" + OLD_KEY, "k1"));
+
+			// then
+			assertThat(EncryptionUtils.emailBlindIndex("test@example.com")).isEqualTo(before);
+		}
+
+		@Test
+		@DisplayName("잘못된 키 설정은 거부")
+		void keyRing_InvalidConfig_ThrowsException() {
+			assertThatThrownBy(() -> KeyRing.single("k1", "short"))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> KeyRing.single("k$1", NEW_KEY))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> KeyRing.of("k2", NEW_KEY, "k2:" + OLD_KEY, null))
+				.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> KeyRing.of("k2", NEW_KEY, null, "k1"))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		@DisplayName("이전 키가 있는데 legacy 키 ID 가 없으면 거부")
+		void keyRing_OldKeysWithoutLegacyKeyId_ThrowsException() {
+			assertThatThrownBy(() -> KeyRing.of("k2", NEW_KEY, "k1:" + OLD_KEY, null))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("encryption.legacy-key-id");
+			assertThatThrownBy(() -> KeyRing.of("k2", NEW_KEY, "k1:" + OLD_KEY, " "))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("바이너리 형식")
+	class Binary {
+
+		@Test
+		@DisplayName("바이너리 암복호화 왕복")
+		void encryptToBytes_RoundTrip() {
+			// when
+			byte[] encrypted = EncryptionUtils.encryptToBytes("메리 크리스마스 test@example.com");
+
+			// then
+			assertThat(EncryptionUtils.decryptBytes(encrypted)).isEqualTo("메리 크리스마스 test@example.com");
+		}
+
+		@Test
+		@DisplayName("헤더 + iv + 태그만큼만 늘어남")
+		void encryptToBytes_CompactLayout() {
+			// given
+			String email = "advent.calendar.user@example.com";
+
+			// when
+			byte[] binary = EncryptionUtils.encryptToBytes(email);
+
+			// then - [버전 1][키 ID 길이 1]["k1" 2][iv 12][본문 32][태그 16]
+			assertThat(binary).hasSize(1 + 1 + 2 + 12 + email.length() + 16);
+			assertThat(binary[0]).isEqualTo((byte)1);
+		}
+
+		@Test
+		@DisplayName("변조된 바이너리 암호문은 복호화 실패")
+		void decryptBytes_Tampered_ThrowsException() {
+			// given
+			byte[] encrypted = EncryptionUtils.encryptToBytes("test@example.com");
+			encrypted[encrypted.length - 1] ^= 1;
+
+			// when & then
+			assertThatThrownBy(() -> EncryptionUtils.decryptBytes(encrypted))
+				.isInstanceOf(RuntimeException.class)
+				.hasMessage("복호화 실패");
+		}
+	}
+
+	@Nested
+	@DisplayName("이메일 blind index")
+	class EmailBlindIndex {
+
+		@Test
+		@DisplayName("같은 이메일은 항상 같은 32바이트 값")
+		void emailBlindIndex_Deterministic() {
+			// when
+			byte[] first = EncryptionUtils.emailBlindIndex("test@example.com");
+			byte[] second = EncryptionUtils.emailBlindIndex("test@example.com");
+
+			// then
+			assertThat(first).hasSize(32);
+			assertThat(first).isEqualTo(second);
+		}
+
+		@Test
+		@DisplayName("대소문자와 앞뒤 공백은 정규화")
+		void emailBlindIndex_Normalized() {
+			assertThat(EncryptionUtils.emailBlindIndex(" Test@Example.com "))
+				.isEqualTo(EncryptionUtils.emailBlindIndex("test@example.com"));
+		}
+
+		@Test
+		@DisplayName("다른 이메일은 다른 값")
+		void emailBlindIndex_DifferentEmail() {
+			assertThat(EncryptionUtils.emailBlindIndex("a@example.com"))
+				.isNotEqualTo(EncryptionUtils.emailBlindIndex("b@example.com"));
+		}
+
+		@Test
+		@DisplayName("키가 다르면 값도 다름")
+		void emailBlindIndex_KeyDependent() {
+			// given
+			byte[] before = EncryptionUtils.emailBlindIndex("test@example.com");
+
+			// when
+			EncryptionUtils.initForTest("another-encryption-key-32-bytes!");
+			byte[] after = EncryptionUtils.emailBlindIndex("test@example.com");
+
+			// then
+			assertThat(after).isNotEqualTo(before);
+		}
+	}
+
+	@Nested
+	@DisplayName("동시성")
+	class Concurrency {
+
+		@Test
+		@DisplayName("여러 스레드에서 동시에 암복호화해도 결과가 섞이지 않음")
+		void encryptDecrypt_Concurrent() throws Exception {
+			// given
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			List<Future<Boolean>> futures = new ArrayList<>();
+
+			// when
+			for (int i = 0; i < 8; i++) {
+				int worker = i;
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 500; j++) {
+						String plain = "user" + worker + "-" + j + "@example.com";
+						if (!plain.equals(EncryptionUtils.decryptBytes(EncryptionUtils.encryptToBytes(plain)))) {
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+
+			// then
+			for (Future<Boolean> future : futures) {
+				assertThat(future.get()).isTrue();
+			}
+			executor.shutdown();
+		}
+	}
+}
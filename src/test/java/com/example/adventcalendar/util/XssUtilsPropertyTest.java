@@ -0,0 +1,74 @@
+package com.example.adventcalendar.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.owasp.encoder.Encode;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.Tuple;
+import net.jqwik.api.constraints.AlphaChars;
+import net.jqwik.api.constraints.CharRange;
+import net.jqwik.api.constraints.Chars;
+import net.jqwik.api.constraints.NumericChars;
+
+/**
+ * XssUtils.sanitizeHtml 빠른 경로가 Encode.forHtml 과 항상 같은 결과를 내는지 무작위 입력으로 확인한다.
+ */
+@Label("XssUtils 속성 테스트")
+class XssUtilsPropertyTest {
+
+	@Property(tries = 2000)
+	@Label("임의의 문자열에 대해 Encode.forHtml 과 같은 결과")
+	void sanitizeHtml_MatchesOwaspEncoder_AnyString(@ForAll String input) {
+		assertThat(XssUtils.sanitizeHtml(input)).isEqualTo(Encode.forHtml(input));
+	}
+
+	@Property(tries = 2000)
+	@Label("경계 문자가 섞인 편지 본문에 대해 Encode.forHtml 과 같은 결과")
+	void sanitizeHtml_MatchesOwaspEncoder_LetterLike(@ForAll("letterLike") String input) {
+		assertThat(XssUtils.sanitizeHtml(input)).isEqualTo(Encode.forHtml(input));
+	}
+
+	@Property
+	@Label("이스케이프할 문자가 없으면 입력 인스턴스를 그대로 반환")
+	void sanitizeHtml_NothingToEscape_ReturnsSameInstance(
+		@ForAll @AlphaChars @NumericChars @CharRange(from = '가', to = '힣') @Chars({' ', '\n', '.', '!', '?', '~'})
+		String input
+	) {
+		assertThat(XssUtils.sanitizeHtml(input)).isSameAs(input);
+	}
+
+	@Property
+	@Label("이스케이프 후 되돌리면 원문과 같음 (마이그레이션 디코딩)")
+	void unescapeHtml_ReversesSanitizeHtml(
+		@ForAll @AlphaChars @CharRange(from = '가', to = '힣') @Chars({'&', '<', '>', '"', '\'', ';', '#', ' '})
+		String input
+	) {
+		assertThat(XssUtils.unescapeHtml(XssUtils.sanitizeHtml(input))).isEqualTo(input);
+	}
+
+	@Provide
+	Arbitrary<String> letterLike() {
+		Arbitrary<Character> hangul = Arbitraries.chars().range('가', '힣');
+		Arbitrary<Character> ascii = Arbitraries.chars().range(' ', '~');
+		// 엔티티 대상, 제어 문자, C1/NEL, 줄 구분자, 비문자, 서로게이트 조각
+		Arbitrary<Character> edge = Arbitraries.of(
+			'&', '<', '>', '"', '\'', '\t', '\n', '\r', '\u0000', '\u001f', '\u007f', '\u0085', '\u009f', '\u00a0',
+			'\u2028', '\u2029', '\ufdd0', '\ufdef', '\ufffd', '\ufffe', '\uffff', '\ud83c', '\udf84', '\udbff', '\udfff'
+		);
+		Arbitrary<String> emoji = Arbitraries.of("\ud83c\udf84", "\ud83c\udf85", "\u2764\ufe0f", "\ud83d\ude00");
+
+		Arbitrary<String> piece = Arbitraries.frequencyOf(
+			Tuple.of(6, hangul.map(String::valueOf)),
+			Tuple.of(4, ascii.map(String::valueOf)),
+			Tuple.of(1, edge.map(String::valueOf)),
+			Tuple.of(1, emoji)
+		);
+		return piece.list().ofMaxSize(200).map(pieces -> String.join("", pieces));
+	}
+}
@@ -528,4 +528,43 @@ class XssUtilsTest {
 			assertThat(sanitized).contains("&#39;"); // ' escaped
 		}
 	}
+
+	@Nested
+	@DisplayName("unescapeHtml 테스트")
+	class UnescapeHtml {
+
+		@Test
+		@DisplayName("sanitizeHtml 이 만든 엔티티를 원문으로 되돌림")
+		void unescapeHtml_ReversesEntities() {
+			// given
+			String escaped = "&lt;b&gt;톰 &amp; 제리&lt;/b&gt; &#34;안녕&#34; &#39;하이&#39;";
+
+			// when
+			String result = XssUtils.unescapeHtml(escaped);
+
+			// then
+			assertThat(result).isEqualTo("<b>톰 & 제리</b> \"안녕\" '하이'");
+		}
+
+		@Test
+		@DisplayName("원문에 있던 엔티티 문자열은 한 번만 디코딩")
+		void unescapeHtml_DoesNotDoubleDecode() {
+			// given
+			String escaped = XssUtils.sanitizeHtml("&lt;는 엔티티");
+
+			// when
+			String result = XssUtils.unescapeHtml(escaped);
+
+			// then
+			assertThat(escaped).isEqualTo("&amp;lt;는 엔티티");
+			assertThat(result).isEqualTo("&lt;는 엔티티");
+		}
+
+		@Test
+		@DisplayName("모르는 엔티티와 & 는 그대로 둠")
+		void unescapeHtml_UnknownEntity_Unchanged() {
+			// when & then
+			assertThat(XssUtils.unescapeHtml("A & B &nbsp; &#60;")).isEqualTo("A & B &nbsp; &#60;");
+		}
+	}
 }
@@ -0,0 +1,269 @@
+package com.example.adventcalendar.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트와 부하 테스트에서 함께 쓰는 가짜 네이버/카카오 OAuth 서버.
+ *
+ * 토큰 발급과 사용자 정보 엔드포인트를 흉내 내며, 인가 코드가 곧 공급자 사용자 id 다.
+ * 공급자별 응답 지연과 실패 상태 코드, 전체 지연 편차와 무작위 503 비율을 주입할 수 있다.
+ * OAuth2Service 의 oauth2.*.token-uri / user-info-uri 를 {@link #naverTokenUri()} 등으로 바꿔 사용한다.
+ */
+public class FakeOAuthProvider implements AutoCloseable {
+
+	public static final String NAVER = "naver";
+	public static final String KAKAO = "kakao";
+
+	private static final String TOKEN_PREFIX = "fake.";
+	private static final Pattern USER_KEY = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	private final Map<String, Duration> latencies = new ConcurrentHashMap<>();
+	private final Map<String, Integer> failureStatuses = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+	private volatile Duration jitter = Duration.ZERO;
+	private volatile double errorRate;
+
+	private FakeOAuthProvider(HttpServer server, ExecutorService executor) {
+		this.server = server;
+		this.executor = executor;
+	}
+
+	/**
+	 * 임의 포트에서 시작한다.
+	 */
+	public static FakeOAuthProvider start() {
+		return start(0, Executors.newCachedThreadPool());
+	}
+
+	/**
+	 * 고정 포트에서 threads 개 스레드로 시작한다. 부하 테스트처럼 동시 요청이 많을 때 쓴다.
+	 */
+	public static FakeOAuthProvider start(int port, int threads) {
+		return start(port, Executors.newFixedThreadPool(threads));
+	}
+
+	private static FakeOAuthProvider start(int port, ExecutorService executor) {
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+			FakeOAuthProvider provider = new FakeOAuthProvider(server, executor);
+
+			server.createContext("/naver/token", exchange -> provider.token(NAVER, exchange));
+			server.createContext("/naver/me", exchange -> provider.userInfo(NAVER, exchange, FakeOAuthProvider::naverUser));
+			server.createContext("/kakao/token", exchange -> provider.token(KAKAO, exchange));
+			server.createContext("/kakao/me", exchange -> provider.userInfo(KAKAO, exchange, FakeOAuthProvider::kakaoUser));
+
+			server.setExecutor(executor);
+			server.start();
+			return provider;
+		} catch (IOException e) {
+			executor.shutdownNow();
+			throw new IllegalStateException("가짜 OAuth 서버를 시작할 수 없습니다", e);
+		}
+	}
+
+	public int port() {
+		return server.getAddress().getPort();
+	}
+
+	public String baseUrl() {
+		return "http://127.0.0.1:" + port();
+	}
+
+	public String naverTokenUri() {
+		return baseUrl() + "/naver/token";
+	}
+
+	public String naverUserInfoUri() {
+		return baseUrl() + "/naver/me";
+	}
+
+	public String kakaoTokenUri() {
+		return baseUrl() + "/kakao/token";
+	}
+
+	public String kakaoUserInfoUri() {
+		return baseUrl() + "/kakao/me";
+	}
+
+	/**
+	 * 해당 공급자의 모든 응답을 지정 시간만큼 늦춘다.
+	 */
+	public FakeOAuthProvider latency(String provider, Duration latency) {
+		latencies.put(provider, latency);
+		return this;
+	}
+
+	/**
+	 * 모든 응답에 0 ~ jitter 만큼 지연을 더한다.
+	 */
+	public FakeOAuthProvider jitter(Duration jitter) {
+		this.jitter = jitter;
+		return this;
+	}
+
+	/**
+	 * 해당 공급자의 모든 응답을 지정 상태 코드로 실패시킨다.
+	 */
+	public FakeOAuthProvider failWith(String provider, int status) {
+		failureStatuses.put(provider, status);
+		return this;
+	}
+
+	/**
+	 * 응답 중 errorRate 비율(0.0 ~ 1.0)을 503 으로 실패시킨다.
+	 */
+	public FakeOAuthProvider errorRate(double errorRate) {
+		this.errorRate = errorRate;
+		return this;
+	}
+
+	/**
+	 * 주입한 지연/실패를 모두 지운다. 요청 수는 유지한다.
+	 */
+	public FakeOAuthProvider recover() {
+		latencies.clear();
+		failureStatuses.clear();
+		jitter = Duration.ZERO;
+		errorRate = 0;
+		return this;
+	}
+
+	public int requestCount(String provider) {
+		return counter(requestCounts, provider).get();
+	}
+
+	public int inFlight(String provider) {
+		return counter(inFlight, provider).get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void token(String provider, HttpExchange exchange) throws IOException {
+		String code = formParam(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8), "code");
+
+		respond(provider, exchange, code == null ? null
+			: "{\"access_token\":\"" + TOKEN_PREFIX + code + "\",\"token_type\":\"bearer\",\"expires_in\":3600}");
+	}
+
+	private void userInfo(String provider, HttpExchange exchange, Function<String, String> body) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+
+		String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+		String prefix = "Bearer " + TOKEN_PREFIX;
+		String userKey = authorization != null && authorization.startsWith(prefix)
+			? authorization.substring(prefix.length())
+			: null;
+		if (userKey != null && !USER_KEY.matcher(userKey).matches()) {
+			userKey = null;
+		}
+
+		respond(provider, exchange, userKey == null ? null : body.apply(userKey));
+	}
+
+	private static String naverUser(String userKey) {
+		return "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{"
+			+ "\"id\":\"" + userKey + "\",\"email\":\"naver-" + userKey + "@fake.local\","
+			+ "\"name\":\"user-" + userKey + "\",\"profile_image\":null}}";
+	}
+
+	private static String kakaoUser(String userKey) {
+		long id = numericId(userKey);
+		return "{\"id\":" + id + ",\"kakao_account\":{\"email\":\"kakao-" + id + "@fake.local\","
+			+ "\"profile\":{\"nickname\":\"user-" + id + "\",\"profile_image_url\":null}}}";
+	}
+
+	/**
+	 * 지연 후 응답한다. body 가 없으면 잘못된 요청으로, 주입한 실패가 있으면 그 상태 코드로 응답한다.
+	 */
+	private void respond(String provider, HttpExchange exchange, String body) throws IOException {
+		counter(requestCounts, provider).incrementAndGet();
+		AtomicInteger running = counter(inFlight, provider);
+		running.incrementAndGet();
+
+		try {
+			long delay = latencies.getOrDefault(provider, Duration.ZERO).toMillis();
+			long jitterMillis = jitter.toMillis();
+			if (jitterMillis > 0) {
+				delay += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+			}
+			if (delay > 0) {
+				Thread.sleep(delay);
+			}
+
+			Integer failureStatus = failureStatuses.get(provider);
+			if (failureStatus != null) {
+				write(exchange, failureStatus, "{\"error\":\"injected_failure\"}");
+			} else if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+				write(exchange, 503, "{\"error\":\"temporarily_unavailable\"}");
+			} else if (body == null) {
+				write(exchange, 400, "{\"error\":\"invalid_request\"}");
+			} else {
+				write(exchange, 200, body);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			running.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	private void write(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private AtomicInteger counter(Map<String, AtomicInteger> counters, String provider) {
+		return counters.computeIfAbsent(provider, key -> new AtomicInteger());
+	}
+
+	/**
+	 * 응답 JSON 에 그대로 넣으므로 영문/숫자/-/_ 로 된 코드만 받는다.
+	 */
+	private static String formParam(String form, String name) {
+		for (String pair : form.split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq > 0 && name.equals(pair.substring(0, eq))) {
+				String value = URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+				return USER_KEY.matcher(value).matches() ? value : null;
+			}
+		}
+		return null;
+	}
+
+	private static long numericId(String userKey) {
+		try {
+			return Long.parseLong(userKey);
+		} catch (NumberFormatException e) {
+			return userKey.hashCode() & 0x7fffffffL;
+		}
+	}
+}